@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+
+/**
+ * A bounded, least recently used cache of the ASTs (with bindings) of the
+ * documents requested by the handlers. Unlike {@link CoreASTProvider}, which
+ * only keeps the AST of the active element, it keeps the ASTs of several
+ * documents, e.g. the ones visible in split editors.
+ *
+ * The entries are keyed by the type root and the version (modification stamp)
+ * of its document, so an edit makes the previous AST unreachable. The ASTs are
+ * softly referenced, and the cache shrinks to its most recent entry when the
+ * heap is almost full. All the entries are dropped on Java model changes, as
+ * the bindings may then be stale.
+ */
+public final class ASTCache {
+
+	/**
+	 * The default max number of cached ASTs.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 8;
+
+	/**
+	 * The heap usage ratio above which the cache only keeps its most recent
+	 * entry.
+	 */
+	private static final double MEMORY_THRESHOLD = 0.85;
+
+	private static final long UNKNOWN_VERSION = -1;
+
+	private static ASTCache instance;
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private int maxSize = DEFAULT_MAX_SIZE;
+
+	private ASTCache() {
+		JavaCore.addElementChangedListener(new IElementChangedListener() {
+			@Override
+			public void elementChanged(ElementChangedEvent event) {
+				clear();
+			}
+		}, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public static synchronized ASTCache getInstance() {
+		if (instance == null) {
+			instance = new ASTCache();
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the AST of the given type root, waiting for it to be created if
+	 * it isn't cached, see {@link CoreASTProvider#WAIT_YES}.
+	 *
+	 * @param input
+	 *            the type root
+	 * @param monitor
+	 *            the progress monitor, can be <code>null</code>
+	 * @return the AST, or <code>null</code> if it could not be created or the
+	 *         operation was cancelled
+	 */
+	public CompilationUnit getAST(ITypeRoot input, IProgressMonitor monitor) {
+		if (input == null) {
+			return null;
+		}
+		String key = input.getHandleIdentifier();
+		// read the version first: an AST created from newer content must not be stored as the current one
+		long version = getVersion(input);
+		if (version != UNKNOWN_VERSION) {
+			synchronized (entries) {
+				Entry entry = entries.get(key);
+				CompilationUnit ast = entry == null || entry.version != version ? null : entry.ast.get();
+				if (ast != null) {
+					hits.incrementAndGet();
+					return ast;
+				}
+			}
+		}
+		misses.incrementAndGet();
+		CompilationUnit ast = CoreASTProvider.getInstance().getAST(input, CoreASTProvider.WAIT_YES, monitor);
+		if (ast != null && version != UNKNOWN_VERSION && (monitor == null || !monitor.isCanceled())) {
+			put(key, new Entry(version, ast));
+		}
+		return ast;
+	}
+
+	/**
+	 * Drops the cached AST of the given type root.
+	 */
+	public void invalidate(ITypeRoot input) {
+		synchronized (entries) {
+			entries.remove(input.getHandleIdentifier());
+		}
+	}
+
+	/**
+	 * Drops the cached ASTs of the given type roots.
+	 */
+	public void invalidate(Collection<? extends ITypeRoot> inputs) {
+		synchronized (entries) {
+			for (ITypeRoot input : inputs) {
+				entries.remove(input.getHandleIdentifier());
+			}
+		}
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public void setMaxSize(int maxSize) {
+		synchronized (entries) {
+			this.maxSize = Math.max(1, maxSize);
+			evict(this.maxSize);
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ASTCache [size=" + size() + ", hits=" + hits.get() + ", misses=" + misses.get() + ", evictions=" + evictions.get() + "]";
+	}
+
+	private void put(String key, Entry entry) {
+		synchronized (entries) {
+			entries.put(key, entry);
+			evict(isMemoryLow() ? 1 : maxSize);
+		}
+	}
+
+	/**
+	 * Evicts the least recently used entries, and the ones already reclaimed by
+	 * the garbage collector, until at most <code>size</code> entries remain.
+	 */
+	private void evict(int size) {
+		Iterator<Entry> iterator = entries.values().iterator();
+		int remaining = entries.size();
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next();
+			if (remaining > size || entry.ast.get() == null) {
+				iterator.remove();
+				evictions.incrementAndGet();
+			}
+			remaining--;
+		}
+	}
+
+	private static boolean isMemoryLow() {
+		Runtime runtime = Runtime.getRuntime();
+		long used = runtime.totalMemory() - runtime.freeMemory();
+		return used > runtime.maxMemory() * MEMORY_THRESHOLD;
+	}
+
+	/**
+	 * Returns the version of the content the AST of the given type root is
+	 * created from: the modification stamp of the document of an open
+	 * compilation unit, the one of the resource otherwise. Class files don't
+	 * change until the classpath does.
+	 */
+	private static long getVersion(ITypeRoot input) {
+		if (input instanceof ICompilationUnit && ((ICompilationUnit) input).isWorkingCopy()) {
+			try {
+				IBuffer buffer = ((ICompilationUnit) input).getBuffer();
+				if (buffer instanceof DocumentAdapter) {
+					IDocument document = ((DocumentAdapter) buffer).getDocument();
+					if (document instanceof IDocumentExtension4) {
+						return ((IDocumentExtension4) document).getModificationStamp();
+					}
+				}
+			} catch (JavaModelException e) {
+				// fall through
+			}
+			return UNKNOWN_VERSION;
+		}
+		IResource resource = input.getResource();
+		if (resource != null) {
+			long stamp = resource.getModificationStamp();
+			return stamp == IResource.NULL_STAMP ? UNKNOWN_VERSION : stamp;
+		}
+		return 0;
+	}
+
+	private static final class Entry {
+
+		private final long version;
+		private final SoftReference<CompilationUnit> ast;
+
+		private Entry(long version, CompilationUnit ast) {
+			this.version = version;
+			this.ast = new SoftReference<>(ast);
+		}
+	}
+}
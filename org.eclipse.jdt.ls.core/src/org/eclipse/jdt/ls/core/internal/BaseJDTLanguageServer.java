@@ -21,12 +21,12 @@ import java.util.function.Function;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection.JavaLanguageClient;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors.RequestKind;
 import org.eclipse.lsp4j.Registration;
 import org.eclipse.lsp4j.RegistrationParams;
 import org.eclipse.lsp4j.Unregistration;
 import org.eclipse.lsp4j.UnregistrationParams;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 
 public class BaseJDTLanguageServer {
 	protected JavaClientConnection client;
@@ -72,7 +72,44 @@ public class BaseJDTLanguageServer {
 	}
 
 	protected <R> CompletableFuture<R> computeAsync(Function<IProgressMonitor, R> code) {
-		return CompletableFutures.computeAsync(cc -> code.apply(toMonitor(cc)));
+		return computeAsync(RequestKind.INTERACTIVE, code);
+	}
+
+	/**
+	 * Computes the given code on the request pool of the given kind, see
+	 * {@link RequestExecutors}.
+	 */
+	protected <R> CompletableFuture<R> computeAsync(RequestKind kind, Function<IProgressMonitor, R> code) {
+		return RequestExecutors.getInstance().computeAsync(kind, cc -> code.apply(toMonitor(cc)));
+	}
+
+	/**
+	 * Like {@link #computeAsync(Function)}, but only starts the computation
+	 * once <code>precondition</code> has completed, without blocking a thread
+	 * in the meantime. Cancelling the returned future also cancels the
+	 * precondition.
+	 */
+	protected <R> CompletableFuture<R> computeAsyncAfter(CompletableFuture<?> precondition, Function<IProgressMonitor, R> code) {
+		if (precondition.isDone()) {
+			return computeAsync(code);
+		}
+		CompletableFuture<R> result = new CompletableFuture<>();
+		precondition.whenComplete((value, error) -> {
+			if (result.isDone()) {
+				return;
+			}
+			CompletableFuture<R> computation = computeAsync(code);
+			computation.whenComplete((computed, failure) -> {
+				if (failure != null) {
+					result.completeExceptionally(failure);
+				} else {
+					result.complete(computed);
+				}
+			});
+			result.whenComplete((computed, failure) -> computation.cancel(true));
+		});
+		result.whenComplete((value, error) -> precondition.cancel(true));
+		return result;
 	}
 
 	protected IProgressMonitor toMonitor(CancelChecker checker) {
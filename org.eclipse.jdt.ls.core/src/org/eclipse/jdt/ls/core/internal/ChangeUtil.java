@@ -18,9 +18,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -96,6 +98,148 @@ public class ChangeUtil {
 		return edit;
 	}
 
+	/**
+	 * Converts Change to WorkspaceEdits incrementally, so that the edits of a
+	 * large change aren't all kept in memory: an edit is given to the consumer
+	 * as soon as it holds the changes of the given number of documents. The
+	 * edits must be applied in the order they are given.
+	 *
+	 * A change renaming, moving or creating a resource is converted in the
+	 * same edit as the changes of the files at its old or new location, in
+	 * the order of the change, even if the edit then holds more documents.
+	 *
+	 * @param change
+	 *            {@link Change} to convert
+	 * @param maxDocuments
+	 *            the max number of document changes of an edit
+	 * @param consumer
+	 *            consumes the edits
+	 * @throws CoreException
+	 */
+	public static void convertToWorkspaceEdits(Change change, int maxDocuments, Consumer<WorkspaceEdit> consumer) throws CoreException {
+		List<Change> changes = new ArrayList<>();
+		collectChanges(change, changes);
+		WorkspaceEdit edit = new WorkspaceEdit();
+		for (List<Change> group : groupDependentChanges(changes)) {
+			for (Change child : group) {
+				convertSingleChange(child, edit);
+			}
+			if (getDocumentCount(edit) >= Math.max(1, maxDocuments)) {
+				consumer.accept(edit);
+				edit = new WorkspaceEdit();
+			}
+		}
+		if (hasChanges(edit)) {
+			consumer.accept(edit);
+		}
+	}
+
+	/**
+	 * @return the number of changes of a {@link Change}, not counting the
+	 *         {@link CompositeChange}s themselves.
+	 */
+	public static int countChanges(Change change) {
+		if (!(change instanceof CompositeChange)) {
+			return 1;
+		}
+		int count = 0;
+		for (Change child : ((CompositeChange) change).getChildren()) {
+			count += countChanges(child);
+		}
+		return count;
+	}
+
+	private static void collectChanges(Change change, List<Change> changes) {
+		if (change instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) change).getChildren()) {
+				collectChanges(child, changes);
+			}
+		} else {
+			changes.add(change);
+		}
+	}
+
+	/**
+	 * Groups each resource change with the changes of the files at its old or
+	 * new location. The changes of a group keep their order, and the groups
+	 * are ordered by their first change: only changes of unrelated files are
+	 * reordered.
+	 */
+	private static List<List<Change>> groupDependentChanges(List<Change> changes) {
+		List<List<IPath>> paths = changes.stream().map(ChangeUtil::getAffectedPaths).collect(Collectors.toList());
+		int[] groups = new int[changes.size()];
+		for (int i = 0; i < groups.length; i++) {
+			groups[i] = i;
+		}
+		for (int i = 0; i < groups.length; i++) {
+			if (!(changes.get(i) instanceof ResourceChange)) {
+				continue;
+			}
+			for (int j = 0; j < groups.length; j++) {
+				if (j != i && overlaps(paths.get(i), paths.get(j))) {
+					groups[getGroup(groups, j)] = getGroup(groups, i);
+				}
+			}
+		}
+		Map<Integer, List<Change>> result = new LinkedHashMap<>();
+		for (int i = 0; i < groups.length; i++) {
+			result.computeIfAbsent(getGroup(groups, i), group -> new ArrayList<>()).add(changes.get(i));
+		}
+		return new ArrayList<>(result.values());
+	}
+
+	private static int getGroup(int[] groups, int index) {
+		while (groups[index] != index) {
+			groups[index] = groups[groups[index]];
+			index = groups[index];
+		}
+		return index;
+	}
+
+	/**
+	 * @return the workspace paths of the resource a change modifies, and of
+	 *         its new location when the change renames or moves it
+	 */
+	private static List<IPath> getAffectedPaths(Change change) {
+		List<IPath> paths = new ArrayList<>(2);
+		Object element = change.getModifiedElement();
+		IPath path = null;
+		if (element instanceof IResource) {
+			path = ((IResource) element).getFullPath();
+		} else if (element instanceof IJavaElement) {
+			path = ((IJavaElement) element).getPath();
+		}
+		if (path == null) {
+			return paths;
+		}
+		paths.add(path);
+		if (change instanceof RenameCompilationUnitChange) {
+			paths.add(path.removeLastSegments(1).append(((RenameCompilationUnitChange) change).getNewName()));
+		} else if (change instanceof RenamePackageChange && element instanceof IPackageFragment) {
+			paths.add(((IPackageFragment) element).getParent().getPath().append(((RenamePackageChange) change).getNewName().replace('.', IPath.SEPARATOR)));
+		} else if (change instanceof MoveCompilationUnitChange) {
+			MoveCompilationUnitChange move = (MoveCompilationUnitChange) change;
+			paths.add(move.getDestinationPackage().getPath().append(move.getCu().getElementName()));
+		}
+		return paths;
+	}
+
+	private static boolean overlaps(List<IPath> paths, List<IPath> otherPaths) {
+		for (IPath path : paths) {
+			for (IPath otherPath : otherPaths) {
+				if (path.isPrefixOf(otherPath) || otherPath.isPrefixOf(path)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static int getDocumentCount(WorkspaceEdit edit) {
+		int count = edit.getChanges() == null ? 0 : edit.getChanges().size();
+		return edit.getDocumentChanges() == null ? count : count + edit.getDocumentChanges().size();
+	}
+
 	private static void convertSingleChange(Change change, WorkspaceEdit edit) throws CoreException {
 		if (change instanceof CompositeChange) {
 			return;
@@ -12,8 +12,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal;
 
-import java.io.IOException;
-import java.io.Reader;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -49,7 +47,7 @@ import org.eclipse.jdt.internal.core.BinaryMember;
 import org.eclipse.jdt.ls.core.internal.handlers.CompletionResolveHandler;
 import org.eclipse.jdt.ls.core.internal.hover.JavaElementLabels;
 import org.eclipse.jdt.ls.core.internal.javadoc.JavaDocSnippetStringEvaluator;
-import org.eclipse.jdt.ls.core.internal.javadoc.JavadocContentAccess2;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache.Format;
 import org.eclipse.jdt.ls.core.internal.managers.IBuildSupport;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jface.text.IRegion;
@@ -57,8 +55,6 @@ import org.eclipse.jface.text.Region;
 import org.eclipse.lsp4j.MarkedString;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
-import com.google.common.io.CharStreams;
-
 public class HoverInfoProvider {
 
 	private static final long LABEL_FLAGS=
@@ -302,16 +298,10 @@ public class HoverInfoProvider {
 		} else if (element instanceof IMember) {
 			member= (IMember) element;
 		} else if (element instanceof IPackageFragment) {
-			Reader r = JavadocContentAccess2.getMarkdownContentReader(element);
-			if (r != null) {
-				result = getString(r);
-			}
+			result = JavaLanguageServerPlugin.getJavadocCache().getJavadoc(element, Format.MARKDOWN);
 		}
 		if (member != null) {
-			Reader r = JavadocContentAccess2.getMarkdownContentReader(member);
-			if (r != null) {
-				result = getString(r);
-			}
+			result = JavaLanguageServerPlugin.getJavadocCache().getJavadoc(member, Format.MARKDOWN);
 			if (member instanceof IMethod) {
 				String defaultValue = getDefaultValue((IMethod) member);
 				if (defaultValue != null) {
@@ -326,21 +316,6 @@ public class HoverInfoProvider {
 		return result != null ? new MarkedString(LANGUAGE_ID, result) : null;
 	}
 
-	/**
-	 * Gets the reader content as a String
-	 *
-	 * @param reader the reader
-	 * @return the reader content as string
-	 */
-	private static String getString(Reader reader) {
-		try {
-			return CharStreams.toString(reader);
-		} catch (IOException ignored) {
-			//meh
-		}
-		return null;
-	}
-
 	private class HoverException extends CoreException {
 
 		private static final long serialVersionUID = 1L;
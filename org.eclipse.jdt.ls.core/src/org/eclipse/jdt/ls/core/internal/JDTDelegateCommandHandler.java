@@ -52,17 +52,21 @@ public class JDTDelegateCommandHandler implements IDelegateCommandHandler {
 			switch (commandId) {
 				case "java.edit.organizeImports":
 					final OrganizeImportsCommand c = new OrganizeImportsCommand();
-					final Object result = c.organizeImports(arguments);
 					final boolean applyNow = JavaLanguageServerPlugin.getPreferencesManager().getClientPreferences().isWorkspaceApplyEditSupported();
 					if (applyNow) {
-						JavaLanguageServerPlugin.getInstance().getClientConnection().applyWorkspaceEdit((WorkspaceEdit) result);
+						// the edits of a folder or a project are applied in chunks, as soon as they are computed
+						final JavaClientConnection connection = JavaLanguageServerPlugin.getInstance().getClientConnection();
+						final WorkspaceEdit result = c.organizeImports(arguments, connection::applyWorkspaceEdit, monitor);
+						if (result != null) {
+							connection.applyWorkspaceEdit(result);
+						}
 						// return an empty object to avoid errors on client
 						return new Object();
 					} else {
 						// we are returning a workspace edit here in order to accomodate the clients that
 						// did not implement workspace/applyEdit from LSP. This still allows them to implement applying
 						// workspaceEdit on the custom command.
-						return result;
+						return c.organizeImports(arguments);
 					}
 				case "java.edit.stringFormatting":
 					FormatterHandler handler = new FormatterHandler(JavaLanguageServerPlugin.getPreferencesManager());
@@ -136,6 +140,8 @@ public class JDTDelegateCommandHandler implements IDelegateCommandHandler {
 					return null;
 				case "java.project.createModuleInfo":
 					return CreateModuleInfoHandler.createModuleInfo((String) arguments.get(0), monitor);
+				case "java.server.getExecutorMetrics":
+					return RequestExecutors.getInstance().getMetrics();
 				case "java.reloadBundles":
 					try {
 						BundleUtils.loadBundles((ArrayList<String>) arguments.get(0));
@@ -26,7 +26,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -149,6 +151,22 @@ public final class JDTUtils {
 	public static final String PERIOD = ".";
 	public static final String SRC = "src";
 	private static final String JDT_SCHEME = "jdt";
+
+	/**
+	 * The max number of searches in decompiled sources whose locations are
+	 * cached.
+	 */
+	private static final int MAX_DECOMPILED_LOCATIONS = 64;
+
+	private static final Map<String, List<Location>> DECOMPILED_LOCATIONS = new LinkedHashMap<>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, List<Location>> eldest) {
+			return size() > MAX_DECOMPILED_LOCATIONS;
+		}
+	};
 	//Code generators known to cause problems
 	private static Set<String> SILENCED_CODEGENS = Collections.singleton("lombok");
 
@@ -1642,6 +1660,12 @@ public final class JDTUtils {
 		return null;
 	}
 
+	/**
+	 * Searches the declaration, or the occurrences, of the given element in
+	 * the decompiled source of the given class file. The locations are cached
+	 * with the decompiled source they are resolved in, since resolving them
+	 * parses the source with bindings.
+	 */
 	public static List<Location> searchDecompiledSources(IJavaElement element, IClassFile classFile, boolean ignoreMethodBody, boolean declaration, IProgressMonitor monitor) throws JavaModelException {
 		PreferenceManager preferencesManager = JavaLanguageServerPlugin.getPreferencesManager();
 		if (preferencesManager == null || !preferencesManager.isClientSupportsClassFileContent() || !preferencesManager.getPreferences().isIncludeDecompiledSources()) {
@@ -1658,80 +1682,98 @@ public final class JDTUtils {
 		if (monitor != null && monitor.isCanceled()) {
 			return Collections.emptyList();
 		}
+		if (contents == null || contents.isBlank()) {
+			return new ArrayList<>();
+		}
+		String key = classFile.getHandleIdentifier() + '|' + element.getHandleIdentifier() + '|' + ignoreMethodBody + '|' + declaration + '|' + contents.length() + '|' + contents.hashCode();
+		synchronized (DECOMPILED_LOCATIONS) {
+			List<Location> locations = DECOMPILED_LOCATIONS.get(key);
+			if (locations != null) {
+				return new ArrayList<>(locations);
+			}
+		}
+		List<Location> locations = searchDecompiledSource(element, classFile, contents, ignoreMethodBody, declaration, monitor);
+		if (monitor == null || !monitor.isCanceled()) {
+			synchronized (DECOMPILED_LOCATIONS) {
+				DECOMPILED_LOCATIONS.put(key, new ArrayList<>(locations));
+			}
+		}
+		return locations;
+	}
+
+	private static List<Location> searchDecompiledSource(IJavaElement element, IClassFile classFile, String contents, boolean ignoreMethodBody, boolean declaration, IProgressMonitor monitor) throws JavaModelException {
 		List<Location> locations = new ArrayList<>();
-		if (contents != null && !contents.isBlank()) {
-			ICompilationUnit workingCopy = workingCopy = getWorkingCopy(classFile, contents, monitor);
-			try {
-				final ASTParser parser = ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
-				parser.setResolveBindings(true);
-				parser.setKind(ASTParser.K_COMPILATION_UNIT);
-				parser.setStatementsRecovery(false);
-				parser.setBindingsRecovery(false);
-				parser.setSource(workingCopy);
-				parser.setIgnoreMethodBodies(ignoreMethodBody);
-				CompilationUnit unit = (CompilationUnit) parser.createAST(monitor);
-				final ASTNode[] nodes = new ASTNode[1];
-				if (monitor != null && monitor.isCanceled()) {
-					return Collections.emptyList();
+		ICompilationUnit workingCopy = workingCopy = getWorkingCopy(classFile, contents, monitor);
+		try {
+			final ASTParser parser = ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+			parser.setResolveBindings(true);
+			parser.setKind(ASTParser.K_COMPILATION_UNIT);
+			parser.setStatementsRecovery(false);
+			parser.setBindingsRecovery(false);
+			parser.setSource(workingCopy);
+			parser.setIgnoreMethodBodies(ignoreMethodBody);
+			CompilationUnit unit = (CompilationUnit) parser.createAST(monitor);
+			final ASTNode[] nodes = new ASTNode[1];
+			if (monitor != null && monitor.isCanceled()) {
+				return Collections.emptyList();
+			}
+			unit.accept(new ClassFileVisitor(element, nodes, monitor));
+			ASTNode node = nodes[0];
+			if (monitor != null && monitor.isCanceled()) {
+				return Collections.emptyList();
+			}
+			Location location;
+			if (node != null) {
+				String uriString = JDTUtils.toUri(classFile);
+				IDocument document = new Document(contents);
+				if (declaration) {
+					int offset = node.getStartPosition();
+					int length = node.getLength();
+					Range range;
+					if (offset >= 0 && length > 0 && offset + length <= contents.length()) {
+						int[] start = JsonRpcHelpers.toLine(document, offset);
+						int[] end = JsonRpcHelpers.toLine(document, offset + length);
+						range = new Range(new Position(start[0], start[1]), new Position(end[0], end[1]));
+					} else {
+						range = new Range();
+					}
+					location = new Location(uriString, range);
+					locations.add(location);
+					return locations;
 				}
-				unit.accept(new ClassFileVisitor(element, nodes, monitor));
-				ASTNode node = nodes[0];
-				if (monitor != null && monitor.isCanceled()) {
-					return Collections.emptyList();
+				OccurrencesFinder finder = new OccurrencesFinder();
+				if (node instanceof MethodDeclaration) {
+					SimpleName name = ((MethodDeclaration) node).getName();
+					finder.initialize(unit, name);
+				} else if (node instanceof Name) {
+					finder.initialize(unit, node);
+				} else if (node instanceof MethodInvocation) {
+					SimpleName name = ((MethodInvocation) node).getName();
+				} else {
+					return locations;
 				}
-				Location location;
-				if (node != null) {
-					String uriString = JDTUtils.toUri(classFile);
-					IDocument document = new Document(contents);
-					if (declaration) {
-						int offset = node.getStartPosition();
-						int length = node.getLength();
-						Range range;
-						if (offset >= 0 && length > 0 && offset + length <= contents.length()) {
-							int[] start = JsonRpcHelpers.toLine(document, offset);
-							int[] end = JsonRpcHelpers.toLine(document, offset + length);
-							range = new Range(new Position(start[0], start[1]), new Position(end[0], end[1]));
-						} else {
-							range = new Range();
-						}
-						location = new Location(uriString, range);
-						locations.add(location);
-						return locations;
-					}
-					OccurrencesFinder finder = new OccurrencesFinder();
-					if (node instanceof MethodDeclaration) {
-						SimpleName name = ((MethodDeclaration) node).getName();
-						finder.initialize(unit, name);
-					} else if (node instanceof Name) {
-						finder.initialize(unit, node);
-					} else if (node instanceof MethodInvocation) {
-						SimpleName name = ((MethodInvocation) node).getName();
+				OccurrenceLocation[] occurrences = finder.getOccurrences();
+				for (OccurrenceLocation occurrence : occurrences) {
+					int offset = occurrence.getOffset();
+					int length = occurrence.getLength();
+					Range range;
+					if (offset >= 0 && length > 0 && offset + length <= contents.length()) {
+						int[] start = JsonRpcHelpers.toLine(document, offset);
+						int[] end = JsonRpcHelpers.toLine(document, offset + length);
+						range = new Range(new Position(start[0], start[1]), new Position(end[0], end[1]));
 					} else {
-						return locations;
-					}
-					OccurrenceLocation[] occurrences = finder.getOccurrences();
-					for (OccurrenceLocation occurrence : occurrences) {
-						int offset = occurrence.getOffset();
-						int length = occurrence.getLength();
-						Range range;
-						if (offset >= 0 && length > 0 && offset + length <= contents.length()) {
-							int[] start = JsonRpcHelpers.toLine(document, offset);
-							int[] end = JsonRpcHelpers.toLine(document, offset + length);
-							range = new Range(new Position(start[0], start[1]), new Position(end[0], end[1]));
-						} else {
-							range = new Range();
-						}
-						location = new Location(uriString, range);
-						locations.add(location);
+						range = new Range();
 					}
-				} else {
-					location = JDTUtils.toLocation(classFile, 0, 0);
+					location = new Location(uriString, range);
 					locations.add(location);
 				}
-			} finally {
-				if (workingCopy != null) {
-					workingCopy.discardWorkingCopy();
-				}
+			} else {
+				location = JDTUtils.toLocation(classFile, 0, 0);
+				locations.add(location);
+			}
+		} finally {
+			if (workingCopy != null) {
+				workingCopy.discardWorkingCopy();
 			}
 		}
 		return locations;
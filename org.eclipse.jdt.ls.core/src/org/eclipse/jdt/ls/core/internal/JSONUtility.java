@@ -14,24 +14,59 @@
 package org.eclipse.jdt.ls.core.internal;
 
 import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
 
 /**
  * JSONUtility
+ *
+ * The Gson instances are thread-safe and shared, so that the type adapters
+ * they create are reused across calls instead of being created again for
+ * each conversion.
  */
 public class JSONUtility {
 
+	private static final Gson GSON = new Gson();
+
+	private static final TypeToken<Map<String, String>> STRING_MAP = new TypeToken<Map<String, String>>() {
+	};
+
+	/**
+	 * The adapter of the data of the completion items and code actions.
+	 */
+	private static final TypeAdapter<Map<String, String>> STRING_MAP_ADAPTER = GSON.getAdapter(STRING_MAP);
+
 	/**
 	 * Converts given JSON objects to given Model objects.
 	 *
 	 * @throws IllegalArgumentException if clazz is null
 	 */
 	public static <T> T toModel(Object object, Class<T> clazz){
-		return toModel(new Gson(), object, clazz);
+		return toModel(GSON, object, clazz);
+	}
+
+	/**
+	 * Converts given JSON objects, like the data of a completion item or a code
+	 * action, to a map of strings.
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, String> toStringMap(Object object) {
+		if (object instanceof JsonElement) {
+			return STRING_MAP_ADAPTER.fromJsonTree((JsonElement) object);
+		}
+		if (object instanceof Map) {
+			return (Map<String, String>) object;
+		}
+		if (object instanceof String) {
+			return GSON.fromJson((String) object, STRING_MAP.getType());
+		}
+		return null;
 	}
 
 	/**
@@ -42,7 +77,7 @@ public class JSONUtility {
 	 *             if clazz is null
 	 */
 	public static <T> T toLsp4jModel(Object object, Class<T> clazz) {
-		return toModel(new MessageJsonHandler(new HashMap<>()).getGson(), object, clazz);
+		return toModel(Lsp4jGson.INSTANCE, object, clazz);
 	}
 
 	private static <T> T toModel(Gson gson, Object object, Class<T> clazz) {
@@ -63,4 +98,13 @@ public class JSONUtility {
 		}
 		return null;
 	}
+
+	/**
+	 * Holds the Gson of lsp4j, created on first use as it registers the
+	 * adapters of the whole protocol.
+	 */
+	private static final class Lsp4jGson {
+
+		private static final Gson INSTANCE = new MessageJsonHandler(new HashMap<>()).getGson();
+	}
 }
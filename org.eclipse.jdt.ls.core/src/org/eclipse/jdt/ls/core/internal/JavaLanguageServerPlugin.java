@@ -62,7 +62,9 @@ import org.eclipse.jdt.ls.core.internal.contentassist.TypeFilter;
 import org.eclipse.jdt.ls.core.internal.corext.template.java.JavaContextTypeRegistry;
 import org.eclipse.jdt.ls.core.internal.corext.template.java.JavaLanguageServerTemplateStore;
 import org.eclipse.jdt.ls.core.internal.handlers.JDTLanguageServer;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache;
 import org.eclipse.jdt.ls.core.internal.managers.ContentProviderManager;
+import org.eclipse.jdt.ls.core.internal.managers.DecompiledSourceCache;
 import org.eclipse.jdt.ls.core.internal.managers.DigestStore;
 import org.eclipse.jdt.ls.core.internal.managers.ISourceDownloader;
 import org.eclipse.jdt.ls.core.internal.managers.MavenSourceDownloader;
@@ -126,6 +128,7 @@ public class JavaLanguageServerPlugin extends Plugin {
 	private ProjectsManager projectsManager;
 	private DigestStore digestStore;
 	private ContentProviderManager contentProviderManager;
+	private JavadocCache javadocCache;
 
 	private BaseJDTLanguageServer protocol;
 
@@ -191,7 +194,8 @@ public class JavaLanguageServerPlugin extends Plugin {
 		} catch (CoreException e) {
 			logException(e.getMessage(), e);
 		}
-		contentProviderManager = new ContentProviderManager(preferenceManager);
+		contentProviderManager = new ContentProviderManager(preferenceManager, new DecompiledSourceCache(getStateLocation().append("decompiled-sources").toFile()));
+		javadocCache = new JavadocCache(new DecompiledSourceCache(getStateLocation().append("javadoc").toFile(), JavadocCache.MAX_DISK_SIZE));
 		nonProjectDiagnosticsState = new DiagnosticsState();
 		logInfo(getClass() + " is started");
 		configureProxy();
@@ -396,6 +400,7 @@ public class JavaLanguageServerPlugin extends Plugin {
 		JavaLanguageServerPlugin.pluginInstance = null;
 		JavaLanguageServerPlugin.context = null;
 		ResourcesPlugin.getWorkspace().removeSaveParticipant(IConstants.PLUGIN_ID);
+		RequestExecutors.shutdownInstance();
 		projectsManager = null;
 		contentProviderManager = null;
 		languageServer = null;
@@ -482,6 +487,10 @@ public class JavaLanguageServerPlugin extends Plugin {
 		return pluginInstance.contentProviderManager;
 	}
 
+	public static JavadocCache getJavadocCache() {
+		return pluginInstance.javadocCache;
+	}
+
 	/**
 	 * @return the Java Language Server version
 	 */
@@ -613,6 +622,10 @@ public class JavaLanguageServerPlugin extends Plugin {
 		return pluginInstance.sourceDownloader;
 	}
 
+	/**
+	 * Returns the executor of the connection with the client. The requests
+	 * themselves are computed on the bounded pools of {@link RequestExecutors}.
+	 */
 	public synchronized static ExecutorService getExecutorService() {
 		if (pluginInstance.executorService == null || pluginInstance.executorService.isShutdown()) {
 			pluginInstance.executorService = Executors.newCachedThreadPool();
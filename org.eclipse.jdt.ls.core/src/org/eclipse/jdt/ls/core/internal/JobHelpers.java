@@ -15,6 +15,8 @@ package org.eclipse.jdt.ls.core.internal;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.core.internal.resources.CharsetDeltaJob;
 import org.eclipse.core.resources.IWorkspace;
@@ -26,8 +28,11 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
 import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
@@ -49,7 +54,6 @@ public final class JobHelpers {
 		//no instantiation
 	}
 
-	private static final int POLLING_DELAY = 10;
 	public static final int MAX_TIME_MILLIS = 300000;
 
 	public static void waitForJobsToComplete() {
@@ -183,23 +187,66 @@ public final class JobHelpers {
 
 	public static void waitForJobs(IJobMatcher matcher, int maxWaitMillis) {
 		final long limit = System.currentTimeMillis() + maxWaitMillis;
-		while(true) {
-			Job job = getJob(matcher);
-			if(job == null) {
-				return;
-			}
-			boolean timeout = System.currentTimeMillis() > limit;
-			if (timeout) {
-				JavaLanguageServerPlugin.logInfo("Timeout while waiting for completion of job: " + job);
-				break;
+		JobDoneListener listener = new JobDoneListener();
+		Job.getJobManager().addJobChangeListener(listener);
+		try {
+			while(true) {
+				long doneCount = listener.getDoneCount();
+				Job job = getJob(matcher);
+				if(job == null) {
+					return;
+				}
+				long remaining = limit - System.currentTimeMillis();
+				if (remaining < 0) {
+					JavaLanguageServerPlugin.logInfo("Timeout while waiting for completion of job: " + job);
+					break;
+				}
+				job.wakeUp();
+				listener.awaitDone(doneCount, remaining);
 			}
-			job.wakeUp();
-			try {
-				Thread.sleep(POLLING_DELAY);
-			} catch(InterruptedException e) {
-				// ignore and keep waiting
+		} finally {
+			Job.getJobManager().removeJobChangeListener(listener);
+		}
+	}
+
+	/**
+	 * Returns a future completed as soon as no job matching the given matcher
+	 * is running, waiting or sleeping. Unlike
+	 * {@link #waitForJobs(IJobMatcher, int)}, the calling thread isn't blocked.
+	 * Cancelling the future stops listening to the job changes.
+	 */
+	public static CompletableFuture<Void> waitForJobsAsync(IJobMatcher matcher) {
+		return whenIdle(() -> getJob(matcher) == null);
+	}
+
+	/**
+	 * Returns a future completed as soon as no job of the given family is
+	 * running, waiting or sleeping.
+	 *
+	 * @see #waitForJobsAsync(IJobMatcher)
+	 */
+	public static CompletableFuture<Void> waitForJobsAsync(Object jobFamily) {
+		return whenIdle(() -> Job.getJobManager().find(jobFamily).length == 0);
+	}
+
+	private static CompletableFuture<Void> whenIdle(BooleanSupplier idle) {
+		IJobManager jobManager = Job.getJobManager();
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		IJobChangeListener listener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				if (!future.isDone() && idle.getAsBoolean()) {
+					future.complete(null);
+				}
 			}
+		};
+		jobManager.addJobChangeListener(listener);
+		future.whenComplete((result, error) -> jobManager.removeJobChangeListener(listener));
+		// the jobs may have completed before the listener was added
+		if (idle.getAsBoolean()) {
+			future.complete(null);
 		}
+		return future;
 	}
 
 	private static Job getJob(IJobMatcher matcher) {
@@ -261,6 +308,42 @@ public final class JobHelpers {
 
 	}
 
+	/**
+	 * Wakes up the threads waiting for a job to complete, instead of having
+	 * them poll the job manager.
+	 */
+	private static class JobDoneListener extends JobChangeAdapter {
+
+		private long doneCount;
+
+		@Override
+		public synchronized void done(IJobChangeEvent event) {
+			doneCount++;
+			notifyAll();
+		}
+
+		synchronized long getDoneCount() {
+			return doneCount;
+		}
+
+		/**
+		 * Waits until a job completes after <code>doneCount</code> jobs were
+		 * seen completed, or the timeout elapses.
+		 */
+		synchronized void awaitDone(long doneCount, long timeoutMillis) {
+			long limit = System.currentTimeMillis() + timeoutMillis;
+			long remaining = timeoutMillis;
+			while (this.doneCount == doneCount && remaining > 0) {
+				try {
+					wait(remaining);
+				} catch (InterruptedException e) {
+					// ignore and keep waiting
+				}
+				remaining = limit - System.currentTimeMillis();
+			}
+		}
+	}
+
 	static class BuildJobMatcher implements IJobMatcher {
 
 		public static final IJobMatcher INSTANCE = new BuildJobMatcher();
@@ -0,0 +1,394 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+
+/**
+ * The bounded thread pools the requests of the client are computed on.
+ *
+ * Each {@link RequestKind} of request gets its own pool, so that a burst of
+ * one kind can't starve the others. Each pool has a fixed number of threads.
+ * The interactive, background and Javadoc pools have a bounded queue: when
+ * it's full, the oldest pending request, i.e. the one most likely to be stale
+ * already, is rejected with a {@link #SERVER_CANCELLED} error
+ * to make room for the new one. The command pool never rejects a request, its
+ * queue is unbounded. Requests cancelled by the client while they are queued
+ * are dropped without being computed.
+ *
+ * The pools can be tuned with the following system properties:
+ * <ul>
+ * <li><code>jdt.ls.executor.interactiveThreads</code>: the number of threads
+ * of the interactive pool</li>
+ * <li><code>jdt.ls.executor.backgroundThreads</code>: the number of threads
+ * of the background pool</li>
+ * <li><code>jdt.ls.executor.commandThreads</code>: the number of threads of
+ * the command pool</li>
+ * <li><code>jdt.ls.executor.javadocThreads</code>: the number of threads of
+ * the Javadoc pool</li>
+ * <li><code>jdt.ls.executor.queueSize</code>: the max number of pending
+ * requests per bounded pool</li>
+ * <li><code>jdt.ls.executor.virtualThreads</code>: whether to run the
+ * requests on virtual threads, when the runtime supports them (Java 21+)</li>
+ * </ul>
+ */
+public final class RequestExecutors {
+
+	public static final String INTERACTIVE_THREADS_PROPERTY = "jdt.ls.executor.interactiveThreads";
+	public static final String BACKGROUND_THREADS_PROPERTY = "jdt.ls.executor.backgroundThreads";
+	public static final String COMMAND_THREADS_PROPERTY = "jdt.ls.executor.commandThreads";
+	public static final String JAVADOC_THREADS_PROPERTY = "jdt.ls.executor.javadocThreads";
+	public static final String QUEUE_SIZE_PROPERTY = "jdt.ls.executor.queueSize";
+	public static final String VIRTUAL_THREADS_PROPERTY = "jdt.ls.executor.virtualThreads";
+
+	/**
+	 * The LSP error code of the requests the server cancelled, as opposed to
+	 * <code>RequestCancelled</code>, which is reserved for the
+	 * requests the client cancelled.
+	 */
+	public static final int SERVER_CANCELLED = -32802;
+
+	public static final int DEFAULT_QUEUE_SIZE = 64;
+	public static final int DEFAULT_JAVADOC_THREADS = 2;
+
+	public enum RequestKind {
+		/**
+		 * The requests the user waits for while editing or navigating a
+		 * document: completion, hover, folding ranges, ...
+		 */
+		INTERACTIVE,
+		/**
+		 * The searches: references, symbols, call hierarchy, ...
+		 */
+		BACKGROUND,
+		/**
+		 * The builds, refactorings, commands and the requests whose edits the
+		 * client applies: code actions, formatting, rename, save actions. They
+		 * are never rejected.
+		 */
+		COMMAND,
+		/**
+		 * The rendering of the Javadoc of resolved completion items and
+		 * signatures, and its prefetch.
+		 */
+		JAVADOC
+	}
+
+	private static RequestExecutors instance;
+
+	private final RequestExecutor interactive;
+	private final RequestExecutor background;
+	private final RequestExecutor command;
+	private final RequestExecutor javadoc;
+
+	public RequestExecutors(int interactiveThreads, int backgroundThreads, int queueSize, boolean virtualThreads) {
+		this(interactiveThreads, backgroundThreads, backgroundThreads, DEFAULT_JAVADOC_THREADS, queueSize, virtualThreads);
+	}
+
+	public RequestExecutors(int interactiveThreads, int backgroundThreads, int commandThreads, int javadocThreads, int queueSize, boolean virtualThreads) {
+		this.interactive = new RequestExecutor("Interactive request", interactiveThreads, queueSize, virtualThreads);
+		this.background = new RequestExecutor("Background request", backgroundThreads, queueSize, virtualThreads);
+		this.command = new RequestExecutor("Command request", commandThreads, -1, virtualThreads);
+		this.javadoc = new RequestExecutor("Javadoc request", javadocThreads, queueSize, virtualThreads);
+	}
+
+	public static synchronized RequestExecutors getInstance() {
+		if (instance == null || instance.isShutdown()) {
+			int processors = Runtime.getRuntime().availableProcessors();
+			int interactiveThreads = Integer.getInteger(INTERACTIVE_THREADS_PROPERTY, Math.max(2, processors));
+			int backgroundThreads = Integer.getInteger(BACKGROUND_THREADS_PROPERTY, Math.max(1, processors / 2));
+			int commandThreads = Integer.getInteger(COMMAND_THREADS_PROPERTY, Math.max(1, processors / 2));
+			int javadocThreads = Integer.getInteger(JAVADOC_THREADS_PROPERTY, DEFAULT_JAVADOC_THREADS);
+			int queueSize = Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE);
+			boolean virtualThreads = Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY);
+			instance = new RequestExecutors(interactiveThreads, backgroundThreads, commandThreads, javadocThreads, queueSize, virtualThreads);
+		}
+		return instance;
+	}
+
+	/**
+	 * Computes the given code on the pool of the given kind of requests.
+	 *
+	 * @param kind
+	 *            the kind of request
+	 * @param code
+	 *            the computation, which should check the given cancel checker
+	 *            regularly
+	 * @return the future result, cancelling it cancels the computation
+	 */
+	public <R> CompletableFuture<R> computeAsync(RequestKind kind, Function<CancelChecker, R> code) {
+		return getRequestExecutor(kind).computeAsync(code);
+	}
+
+	/**
+	 * Returns the pool of the given kind of requests, e.g. to run a task with
+	 * a time limit.
+	 */
+	public ExecutorService getExecutor(RequestKind kind) {
+		return getRequestExecutor(kind);
+	}
+
+	private RequestExecutor getRequestExecutor(RequestKind kind) {
+		switch (kind) {
+			case BACKGROUND:
+				return background;
+			case COMMAND:
+				return command;
+			case JAVADOC:
+				return javadoc;
+			default:
+				return interactive;
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the metrics of the pools, keyed by the kind of
+	 * requests.
+	 */
+	public Map<String, Metrics> getMetrics() {
+		Map<String, Metrics> metrics = new LinkedHashMap<>();
+		for (RequestKind kind : RequestKind.values()) {
+			metrics.put(kind.name().toLowerCase(), getRequestExecutor(kind).getMetrics());
+		}
+		return metrics;
+	}
+
+	public boolean isShutdown() {
+		for (RequestKind kind : RequestKind.values()) {
+			if (getRequestExecutor(kind).isShutdown()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public void shutdown() {
+		for (RequestKind kind : RequestKind.values()) {
+			getRequestExecutor(kind).shutdownNow();
+		}
+	}
+
+	public static synchronized void shutdownInstance() {
+		if (instance != null) {
+			instance.shutdown();
+			instance = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "RequestExecutors " + getMetrics();
+	}
+
+	/**
+	 * Returns a factory of virtual threads if they are requested and
+	 * supported by the runtime, <code>null</code> otherwise.
+	 */
+	private static ThreadFactory getVirtualThreadFactory(String name) {
+		if (Runtime.version().feature() < 21) {
+			return null;
+		}
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + " worker-", 0L);
+			Method factory = builderClass.getMethod("factory");
+			return (ThreadFactory) factory.invoke(builder);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			JavaLanguageServerPlugin.logException("Unable to create virtual threads, using platform threads", e);
+			return null;
+		}
+	}
+
+	/**
+	 * The metrics of a request pool.
+	 */
+	public static final class Metrics {
+
+		public int threads;
+		public int activeThreads;
+		public int queuedRequests;
+		public int queueCapacity;
+		public int largestPoolSize;
+		public long submittedRequests;
+		public long completedRequests;
+		public long rejectedRequests;
+		public long cancelledRequests;
+		public long averageQueueWaitMillis;
+		public boolean virtualThreads;
+
+		@Override
+		public String toString() {
+			return "[threads=" + threads + ", active=" + activeThreads + ", queued=" + queuedRequests + "/" + queueCapacity + ", largest=" + largestPoolSize + ", submitted=" + submittedRequests + ", completed=" + completedRequests + ", rejected="
+					+ rejectedRequests + ", cancelled=" + cancelledRequests + ", averageQueueWait=" + averageQueueWaitMillis + "ms" + (virtualThreads ? ", virtual" : "") + "]";
+		}
+	}
+
+	private static final class RequestExecutor extends ThreadPoolExecutor {
+
+		private final int queueCapacity;
+		private final boolean virtualThreads;
+		private final AtomicLong submitted = new AtomicLong();
+		private final AtomicLong rejected = new AtomicLong();
+		private final AtomicLong cancelled = new AtomicLong();
+		private final AtomicLong started = new AtomicLong();
+		private final AtomicLong queueWaitNanos = new AtomicLong();
+
+		/**
+		 * @param queueCapacity
+		 *            the max number of pending requests, or a negative value for
+		 *            an unbounded queue, which never rejects a request
+		 */
+		private RequestExecutor(String name, int threads, int queueCapacity, boolean virtualThreads) {
+			super(Math.max(1, threads), Math.max(1, threads), 60L, TimeUnit.SECONDS, createQueue(queueCapacity), new DiscardOldestRequestPolicy());
+			this.queueCapacity = queueCapacity < 0 ? Integer.MAX_VALUE : Math.max(1, queueCapacity);
+			ThreadFactory factory = virtualThreads ? getVirtualThreadFactory(name) : null;
+			this.virtualThreads = factory != null;
+			if (factory == null) {
+				AtomicInteger count = new AtomicInteger();
+				factory = runnable -> {
+					Thread thread = new Thread(runnable, name + " worker-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				};
+			}
+			setThreadFactory(factory);
+			allowCoreThreadTimeOut(true);
+		}
+
+		private static BlockingQueue<Runnable> createQueue(int capacity) {
+			return capacity < 0 ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(Math.max(1, capacity));
+		}
+
+		private <R> CompletableFuture<R> computeAsync(Function<CancelChecker, R> code) {
+			RequestTask<R> task = new RequestTask<>(this, code);
+			submitted.incrementAndGet();
+			try {
+				execute(task);
+			} catch (RejectedExecutionException e) {
+				task.reject();
+				return task.result;
+			}
+			// don't let the requests cancelled by the client occupy the queue
+			task.result.whenComplete((value, error) -> {
+				if (task.result.isCancelled() && remove(task)) {
+					cancelled.incrementAndGet();
+				}
+			});
+			return task.result;
+		}
+
+		private Metrics getMetrics() {
+			Metrics metrics = new Metrics();
+			metrics.threads = getMaximumPoolSize();
+			metrics.activeThreads = getActiveCount();
+			metrics.queuedRequests = getQueue().size();
+			metrics.queueCapacity = queueCapacity;
+			metrics.largestPoolSize = getLargestPoolSize();
+			metrics.submittedRequests = submitted.get();
+			metrics.completedRequests = getCompletedTaskCount();
+			metrics.rejectedRequests = rejected.get();
+			metrics.cancelledRequests = cancelled.get();
+			long startedCount = started.get();
+			metrics.averageQueueWaitMillis = startedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(queueWaitNanos.get() / startedCount);
+			metrics.virtualThreads = virtualThreads;
+			return metrics;
+		}
+	}
+
+	/**
+	 * Makes room for a new request by rejecting the oldest pending one.
+	 */
+	private static final class DiscardOldestRequestPolicy implements RejectedExecutionHandler {
+
+		@Override
+		public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+			if (executor.isShutdown()) {
+				throw new RejectedExecutionException("The request executor is shut down");
+			}
+			RequestExecutor requestExecutor = (RequestExecutor) executor;
+			Runnable stale = executor.getQueue().poll();
+			if (stale != null) {
+				requestExecutor.rejected.incrementAndGet();
+				if (stale instanceof RequestTask) {
+					((RequestTask<?>) stale).reject();
+				} else if (stale instanceof Future) {
+					((Future<?>) stale).cancel(false);
+				}
+			}
+			if (!executor.getQueue().offer(runnable)) {
+				requestExecutor.rejected.incrementAndGet();
+				throw new RejectedExecutionException("Too many pending requests");
+			}
+		}
+	}
+
+	private static final class RequestTask<R> implements Runnable {
+
+		private final RequestExecutor executor;
+		private final Function<CancelChecker, R> code;
+		private final CompletableFuture<R> result = new CompletableFuture<>();
+		private final long queuedAt = System.nanoTime();
+
+		private RequestTask(RequestExecutor executor, Function<CancelChecker, R> code) {
+			this.executor = executor;
+			this.code = code;
+		}
+
+		@Override
+		public void run() {
+			if (result.isDone()) {
+				// cancelled or rejected while queued
+				executor.cancelled.incrementAndGet();
+				return;
+			}
+			executor.started.incrementAndGet();
+			executor.queueWaitNanos.addAndGet(System.nanoTime() - queuedAt);
+			CancelChecker checker = () -> {
+				if (result.isCancelled()) {
+					throw new CancellationException();
+				}
+			};
+			try {
+				result.complete(code.apply(checker));
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		}
+
+		private void reject() {
+			result.completeExceptionally(new ResponseErrorException(new ResponseError(SERVER_CANCELLED, "The request was rejected: too many pending requests", null)));
+		}
+	}
+}
@@ -39,12 +39,12 @@ import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jdt.core.formatter.CodeFormatter;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.internal.core.manipulation.StubUtility;
 import org.eclipse.jdt.internal.corext.codemanipulation.GetterSetterUtil;
 import org.eclipse.jdt.internal.corext.codemanipulation.StubUtility2Core;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.util.CodeFormatterUtil;
+import org.eclipse.jdt.ls.core.internal.ASTCache;
 import org.eclipse.text.edits.TextEdit;
 
 public class GenerateGetterSetterOperation {
@@ -126,7 +126,7 @@ public class GenerateGetterSetterOperation {
 
 		final ICompilationUnit unit = type.getCompilationUnit();
 		if (astRoot == null) {
-			astRoot = CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, monitor);
+			astRoot = ASTCache.getInstance().getAST(unit, monitor);
 		}
 
 		final ASTRewrite astRewrite = ASTRewrite.create(astRoot.getAST());
@@ -41,7 +41,6 @@ import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
 import org.eclipse.jdt.internal.core.manipulation.StubUtility;
 import org.eclipse.jdt.internal.corext.codemanipulation.CodeGenerationSettings;
@@ -49,6 +48,7 @@ import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRe
 import org.eclipse.jdt.internal.corext.codemanipulation.StubUtility2Core;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
+import org.eclipse.jdt.ls.core.internal.ASTCache;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.text.edits.MultiTextEdit;
@@ -66,7 +66,7 @@ public class OverrideMethodsOperation {
 		}
 
 		List<OverridableMethod> overridables = new ArrayList<>();
-		CompilationUnit astRoot = CoreASTProvider.getInstance().getAST(type.getCompilationUnit(), CoreASTProvider.WAIT_YES, monitor);
+		CompilationUnit astRoot = ASTCache.getInstance().getAST(type.getCompilationUnit(), monitor);
 		if (astRoot == null) {
 			return Collections.emptyList();
 		}
@@ -103,7 +103,7 @@ public class OverrideMethodsOperation {
 			return null;
 		}
 
-		CompilationUnit astRoot = CoreASTProvider.getInstance().getAST(type.getCompilationUnit(), CoreASTProvider.WAIT_YES, monitor);
+		CompilationUnit astRoot = ASTCache.getInstance().getAST(type.getCompilationUnit(), monitor);
 		if (astRoot == null) {
 			return null;
 		}
@@ -15,7 +15,19 @@ package org.eclipse.jdt.ls.core.internal.commands;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.resources.IProject;
@@ -24,8 +36,12 @@ import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -40,6 +56,7 @@ import org.eclipse.jdt.ls.core.internal.IConstants;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+import org.eclipse.jdt.ls.core.internal.StatusFactory;
 import org.eclipse.jdt.ls.core.internal.TextEditConverter;
 import org.eclipse.jdt.ls.core.internal.corrections.InnovationContext;
 import org.eclipse.jdt.ls.core.internal.corrections.proposals.CUCorrectionProposal;
@@ -53,7 +70,44 @@ import org.eclipse.text.edits.TextEdit;
 
 public class OrganizeImportsCommand {
 
+	/**
+	 * The number of compilation units whose edits are applied together, when
+	 * the edits of a folder or a project are applied in chunks.
+	 */
+	public static final int CHUNK_SIZE = 100;
+
+	/**
+	 * The system property setting the number of compilation units whose
+	 * imports are organized in parallel, the number of processors by default.
+	 */
+	public static final String PARALLELISM_PROPERTY = "jdt.ls.organizeImports.parallelism";
+
+	private static ThreadPoolExecutor workers;
+
 	public Object organizeImports(List<Object> arguments) throws CoreException {
+		return organizeImports(arguments, null, new NullProgressMonitor());
+	}
+
+	/**
+	 * Organizes the imports of the file, the folder or the project of the
+	 * given URI.
+	 *
+	 * @param arguments
+	 *            the URI
+	 * @param applier
+	 *            applies edits on the client and returns whether the client
+	 *            applied them, or <code>null</code>. When given, the imports
+	 *            of a folder or a project are organized in parallel, and their
+	 *            edits applied in chunks of {@link #CHUNK_SIZE} compilation
+	 *            units as soon as they are computed, instead of being kept
+	 *            until all of them are.
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the edits, or <code>null</code> if they were given to the
+	 *         applier
+	 * @throws CoreException
+	 */
+	public WorkspaceEdit organizeImports(List<Object> arguments, Predicate<WorkspaceEdit> applier, IProgressMonitor monitor) throws CoreException {
 		WorkspaceEdit edit = new WorkspaceEdit();
 		if (arguments != null && !arguments.isEmpty() && arguments.get(0) instanceof String) {
 			final String fileUri = (String) arguments.get(0);
@@ -71,9 +125,17 @@ public class OrganizeImportsCommand {
 				int type = resource.getType();
 				switch (type) {
 					case IResource.PROJECT:
+						if (applier != null) {
+							command.organizeImportsInParallel(command.collectCompilationUnitsInProject(resource.getAdapter(IProject.class)), applier, monitor);
+							return null;
+						}
 						edit = command.organizeImportsInProject(resource.getAdapter(IProject.class));
 						break;
 					case IResource.FOLDER:
+						if (applier != null) {
+							command.organizeImportsInParallel(command.collectCompilationUnitsInDirectory(fileUri, resource.getProject()), applier, monitor);
+							return null;
+						}
 						edit = command.organizeImportsInDirectory(fileUri, resource.getProject());
 						break;
 					case IResource.FILE:
@@ -97,10 +159,7 @@ public class OrganizeImportsCommand {
 	 */
 	public WorkspaceEdit organizeImportsInProject(IProject proj) {
 		WorkspaceEdit rootEdit = new WorkspaceEdit();
-		HashSet<IJavaElement> result = new HashSet<>();
-
-		collectCompilationUnits(JavaCore.create(proj), result, null);
-		for (IJavaElement elem : result) {
+		for (IJavaElement elem : collectCompilationUnitsInProject(proj)) {
 			if (elem.getElementType() == IJavaElement.COMPILATION_UNIT) {
 				organizeImportsInCompilationUnit((ICompilationUnit) elem, rootEdit);
 			}
@@ -120,34 +179,94 @@ public class OrganizeImportsCommand {
 	 */
 	public WorkspaceEdit organizeImportsInDirectory(String folderUri, IProject proj) throws CoreException {
 		WorkspaceEdit rootEdit = new WorkspaceEdit();
-		IPackageFragment fragment = null;
-		if (JDTUtils.toURI(folderUri) != null) {
-			fragment = JDTUtils.resolvePackage(folderUri);
+		for (IJavaElement elem : collectCompilationUnitsInDirectory(folderUri, proj)) {
+			if (elem.getElementType() == IJavaElement.COMPILATION_UNIT) {
+				organizeImportsInCompilationUnit((ICompilationUnit) elem, rootEdit);
+			}
 		}
-		// Select an individual package
-		if (fragment != null) {
-			organizeImportsInPackageFragment(fragment, rootEdit);
-		} else if (proj != null) {
-			// Search the packages under the selected folder:
-			IJavaProject javaProject = JavaCore.create(proj);
-			IPath rootPath = ResourceUtils.filePathFromURI(folderUri);
-			IPackageFragmentRoot[] roots = javaProject.getPackageFragmentRoots();
-			HashSet<IJavaElement> result = new HashSet<>();
-			for (IPackageFragmentRoot root : roots) {
-				if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
-					String packageRoot = root.getResource().getLocation().toString();
-					if (packageRoot.toLowerCase().indexOf(rootPath.toString().toLowerCase()) >= 0) {
-						collectCompilationUnits(javaProject, result, null);
+		return rootEdit;
+	}
+
+	/**
+	 * Organizes the imports of the given compilation units in parallel, and
+	 * applies their edits in chunks of {@link #CHUNK_SIZE} compilation units,
+	 * so that only the edits of a chunk are kept in memory.
+	 *
+	 * @param elements
+	 *            the compilation units
+	 * @param applier
+	 *            applies the edits of a chunk on the client and returns
+	 *            whether the client applied them
+	 * @param monitor
+	 *            the progress monitor, checked for cancellation between the
+	 *            chunks
+	 * @throws CoreException
+	 *             if the imports of some compilation units couldn't be
+	 *             organized, once the edits of the other ones are applied, or
+	 *             if the client rejected the edits of a chunk, in which case
+	 *             the following chunks aren't organized
+	 */
+	public void organizeImportsInParallel(Collection<IJavaElement> elements, Predicate<WorkspaceEdit> applier, IProgressMonitor monitor) throws CoreException {
+		List<ICompilationUnit> units = elements.stream().filter(elem -> elem.getElementType() == IJavaElement.COMPILATION_UNIT).map(ICompilationUnit.class::cast).collect(Collectors.toList());
+		SubMonitor subMonitor = SubMonitor.convert(monitor, "Organize imports", units.size());
+		MultiStatus failures = new MultiStatus(IConstants.PLUGIN_ID, IStatus.ERROR, "Unable to organize the imports of some compilation units", null);
+		Set<ICompilationUnit> failed = new HashSet<>();
+		ExecutorService executor = getExecutor();
+		try {
+			for (int i = 0; i < units.size() && !subMonitor.isCanceled(); i += CHUNK_SIZE) {
+				List<ICompilationUnit> chunk = units.subList(i, Math.min(i + CHUNK_SIZE, units.size()));
+				Map<ICompilationUnit, Future<List<org.eclipse.lsp4j.TextEdit>>> futures = new LinkedHashMap<>();
+				for (ICompilationUnit unit : chunk) {
+					futures.put(unit, executor.submit(() -> subMonitor.isCanceled() ? null : createEdits(unit)));
+				}
+				WorkspaceEdit edit = new WorkspaceEdit();
+				for (Map.Entry<ICompilationUnit, Future<List<org.eclipse.lsp4j.TextEdit>>> entry : futures.entrySet()) {
+					try {
+						List<org.eclipse.lsp4j.TextEdit> edits = entry.getValue().get();
+						if (edits != null) {
+							edit.getChanges().put(JDTUtils.toURI(entry.getKey()), edits);
+						}
+					} catch (ExecutionException e) {
+						failures.add(StatusFactory.newErrorStatus(entry.getKey().getPath().toString(), e.getCause()));
+						failed.add(entry.getKey());
 					}
 				}
-			}
-			for (IJavaElement elem : result) {
-				if (elem.getElementType() == IJavaElement.COMPILATION_UNIT) {
-					organizeImportsInCompilationUnit((ICompilationUnit) elem, rootEdit);
+				if (!edit.getChanges().isEmpty() && !subMonitor.isCanceled() && !applier.test(edit)) {
+					for (ICompilationUnit unit : units.subList(i, units.size())) {
+						if (!failed.contains(unit)) {
+							failures.add(StatusFactory.newErrorStatus("The edits of " + unit.getPath() + " were not applied"));
+						}
+					}
+					break;
 				}
+				subMonitor.worked(chunk.size());
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			subMonitor.done();
 		}
-		return rootEdit;
+		if (!failures.isOK()) {
+			throw new CoreException(failures);
+		}
+	}
+
+	/**
+	 * Returns the executor organizing the imports in parallel, whose threads
+	 * are shared by the commands and stopped when idle.
+	 */
+	private static synchronized ExecutorService getExecutor() {
+		if (workers == null) {
+			int parallelism = Math.max(1, Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()));
+			AtomicInteger count = new AtomicInteger();
+			workers = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "Organize imports worker-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			workers.allowCoreThreadTimeOut(true);
+		}
+		return workers;
 	}
 
 	public WorkspaceEdit organizeImportsInFile(String fileUri) {
@@ -174,27 +293,83 @@ public class OrganizeImportsCommand {
 	}
 
 	public void organizeImportsInCompilationUnit(ICompilationUnit unit, WorkspaceEdit rootEdit) {
-		try {
-			InnovationContext context = new InnovationContext(unit, 0, unit.getBuffer().getLength() - 1);
-			CUCorrectionProposal proposal = new CUCorrectionProposal("OrganizeImports", CodeActionKind.SourceOrganizeImports, unit, null, IProposalRelevance.ORGANIZE_IMPORTS) {
-				@Override
-				protected void addEdits(IDocument document, TextEdit editRoot) throws CoreException {
-					CompilationUnit astRoot = context.getASTRoot();
-					OrganizeImportsOperation op = new OrganizeImportsOperation(unit, astRoot, true, false, true, null);
-					TextEdit edit = op.createTextEdit(null);
-					TextEdit staticEdit = OrganizeImportsHandler.wrapStaticImports(edit, astRoot, unit);
-					if (staticEdit.getChildrenSize() > 0) {
-						editRoot.addChild(staticEdit);
-					}
-				}
-			};
+		List<org.eclipse.lsp4j.TextEdit> edits = computeEdits(unit);
+		if (edits != null) {
+			rootEdit.getChanges().put(JDTUtils.toURI(unit), edits);
+		}
+	}
 
-			addWorkspaceEdit(unit, proposal, rootEdit);
+	/**
+	 * Computes the edits organizing the imports of a compilation unit.
+	 *
+	 * @return the edits, or <code>null</code> if the imports are organized
+	 *         already or couldn't be organized
+	 */
+	private List<org.eclipse.lsp4j.TextEdit> computeEdits(ICompilationUnit unit) {
+		try {
+			return createEdits(unit);
 		} catch (CoreException e) {
 			JavaLanguageServerPlugin.logException("Problem organize imports ", e);
+			return null;
 		}
 	}
 
+	/**
+	 * Computes the edits organizing the imports of a compilation unit.
+	 *
+	 * @return the edits, or <code>null</code> if the imports are organized
+	 *         already
+	 */
+	private List<org.eclipse.lsp4j.TextEdit> createEdits(ICompilationUnit unit) throws CoreException {
+		InnovationContext context = new InnovationContext(unit, 0, unit.getBuffer().getLength() - 1);
+		CUCorrectionProposal proposal = new CUCorrectionProposal("OrganizeImports", CodeActionKind.SourceOrganizeImports, unit, null, IProposalRelevance.ORGANIZE_IMPORTS) {
+			@Override
+			protected void addEdits(IDocument document, TextEdit editRoot) throws CoreException {
+				CompilationUnit astRoot = context.getASTRoot();
+				OrganizeImportsOperation op = new OrganizeImportsOperation(unit, astRoot, true, false, true, null);
+				TextEdit edit = op.createTextEdit(null);
+				TextEdit staticEdit = OrganizeImportsHandler.wrapStaticImports(edit, astRoot, unit);
+				if (staticEdit.getChildrenSize() > 0) {
+					editRoot.addChild(staticEdit);
+				}
+			}
+		};
+
+		return getEdits(unit, proposal);
+	}
+
+	private Collection<IJavaElement> collectCompilationUnitsInProject(IProject proj) {
+		HashSet<IJavaElement> result = new HashSet<>();
+		collectCompilationUnits(JavaCore.create(proj), result, null);
+		return result;
+	}
+
+	private Collection<IJavaElement> collectCompilationUnitsInDirectory(String folderUri, IProject proj) throws CoreException {
+		HashSet<IJavaElement> result = new HashSet<>();
+		IPackageFragment fragment = null;
+		if (JDTUtils.toURI(folderUri) != null) {
+			fragment = JDTUtils.resolvePackage(folderUri);
+		}
+		// Select an individual package
+		if (fragment != null) {
+			collectCompilationUnits(fragment.getParent(), result, fragment.getElementName());
+		} else if (proj != null) {
+			// Search the packages under the selected folder:
+			IJavaProject javaProject = JavaCore.create(proj);
+			IPath rootPath = ResourceUtils.filePathFromURI(folderUri);
+			IPackageFragmentRoot[] roots = javaProject.getPackageFragmentRoots();
+			for (IPackageFragmentRoot root : roots) {
+				if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+					String packageRoot = root.getResource().getLocation().toString();
+					if (packageRoot.toLowerCase().indexOf(rootPath.toString().toLowerCase()) >= 0) {
+						collectCompilationUnits(javaProject, result, null);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
 	private void collectCompilationUnits(Object element, Collection<IJavaElement> result, String packagePrefix) {
 		try {
 			if (element instanceof IJavaElement) {
@@ -248,13 +423,11 @@ public class OrganizeImportsCommand {
 		}
 	}
 
-	private void addWorkspaceEdit(ICompilationUnit cu, CUCorrectionProposal proposal, WorkspaceEdit rootEdit) throws CoreException {
+	private List<org.eclipse.lsp4j.TextEdit> getEdits(ICompilationUnit cu, CUCorrectionProposal proposal) throws CoreException {
 		TextChange textChange = proposal.getTextChange();
 		TextEdit edit = textChange.getEdit();
 		TextEditConverter converter = new TextEditConverter(cu, edit);
 		List<org.eclipse.lsp4j.TextEdit> edits = converter.convert();
-		if (ChangeUtil.hasChanges(edits)) {
-			rootEdit.getChanges().put(JDTUtils.toURI(cu), edits);
-		}
+		return ChangeUtil.hasChanges(edits) ? edits : null;
 	}
 }
@@ -17,6 +17,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -49,7 +50,19 @@ import com.google.common.collect.ImmutableSet;
 
 public final class CompletionProposalRequestor extends CompletionRequestor {
 
-	private List<CompletionProposal> proposals = new ArrayList<>();
+	/**
+	 * The most relevant proposals accepted so far, the least relevant one at
+	 * its head.
+	 */
+	private final PriorityQueue<CompletionProposal> proposals;
+	private final ProposalComparator comparator;
+	/**
+	 * The order the proposals were accepted in, which sorts the proposals of
+	 * the same relevance.
+	 */
+	private final Map<CompletionProposal, Integer> acceptOrder = new HashMap<>();
+	private final int maxCompletions;
+	private int acceptCount;
 	private final ICompilationUnit unit;
 	private final String uri; // URI of this.unit, used in future "resolve" requests
 	private CompletionProposalDescriptionProvider descriptionProvider;
@@ -68,6 +81,14 @@ public final class CompletionProposalRequestor extends CompletionRequestor {
 			completionCache = new HashMap<>(cacheSize + 1, 1f);//avoid resizing the cache
 		}
 
+		/**
+		 * Drops the cached completion of a proposal which won't be compared
+		 * anymore.
+		 */
+		void evict(CompletionProposal cp) {
+			completionCache.remove(cp);
+		}
+
 		@Override
 		public int compare(CompletionProposal p1, CompletionProposal p2) {
 			int res = p2.getRelevance() - p1.getRelevance();
@@ -137,6 +158,11 @@ public final class CompletionProposalRequestor extends CompletionRequestor {
 		this.unit = aUnit;
 		this.uri = JDTUtils.toURI(aUnit);
 		this.preferenceManager = preferenceManager;
+		maxCompletions = preferenceManager.getPreferences().getMaxCompletionResults();
+		// the heap and the caches only grow as large as the response
+		int capacity = Math.min(maxCompletions, 1024);
+		comparator = new ProposalComparator(capacity);
+		proposals = new PriorityQueue<>(capacity + 1, comparator.thenComparingInt(acceptOrder::get).reversed());
 		response = new CompletionResponse();
 		response.setOffset(offset);
 		fIsTestCodeExcluded = !isTestSource(unit.getJavaProject(), unit);
@@ -178,29 +204,39 @@ public final class CompletionProposalRequestor extends CompletionRequestor {
 					// https://bugs.eclipse.org/518140 is fixed
 					proposal.setRelevance(proposal.getRelevance() + 1);
 				}
-				proposals.add(proposal);
+				addProposal(proposal);
 			}
 		}
 	}
 
-	public List<CompletionItem> getCompletionItems() {
-		//Sort the results by relevance 1st
-		proposals.sort(new ProposalComparator(proposals.size()));
-		List<CompletionItem> completionItems = new ArrayList<>(proposals.size());
-		int maxCompletions = preferenceManager.getPreferences().getMaxCompletionResults();
-		int limit = Math.min(proposals.size(), maxCompletions);
+	/**
+	 * Keeps the proposal if it's one of the <code>maxCompletions</code> most
+	 * relevant proposals accepted so far, instead of sorting all the proposals
+	 * once they're accepted.
+	 */
+	private void addProposal(CompletionProposal proposal) {
+		acceptOrder.put(proposal, acceptCount++);
+		proposals.add(proposal);
 		if (proposals.size() > maxCompletions) {
 			//we keep receiving completions past our capacity so that makes the whole result incomplete
 			isComplete = false;
-			response.setProposals(proposals.subList(0, limit));
-		} else {
-			response.setProposals(proposals);
+			CompletionProposal leastRelevant = proposals.poll();
+			acceptOrder.remove(leastRelevant);
+			comparator.evict(leastRelevant);
 		}
+	}
+
+	public List<CompletionItem> getCompletionItems() {
+		//Sort the results by relevance 1st
+		List<CompletionProposal> sorted = getProposals();
+		int limit = sorted.size();
+		List<CompletionItem> completionItems = new ArrayList<>(limit);
+		response.setProposals(sorted);
 		CompletionResponses.store(response);
 
 		//Let's compute replacement texts for the most relevant results only
 		for (int i = 0; i < limit; i++) {
-			CompletionProposal proposal = proposals.get(i);
+			CompletionProposal proposal = sorted.get(i);
 			try {
 				CompletionItem item = toCompletionItem(proposal, i);
 				completionItems.add(item);
@@ -347,7 +383,9 @@ public final class CompletionProposalRequestor extends CompletionRequestor {
 				int completionEnd = proposal.getReplaceEnd();
 				int relevance = proposal.getRelevance() + 6;
 
-				GetterSetterCompletionProposal.evaluateProposals(type, prefix, completionStart, completionEnd - completionStart, relevance, proposals);
+				List<CompletionProposal> accessors = new ArrayList<>();
+				GetterSetterCompletionProposal.evaluateProposals(type, prefix, completionStart, completionEnd - completionStart, relevance, accessors);
+				accessors.forEach(this::addProposal);
 			}
 		} catch (CoreException e) {
 			JavaLanguageServerPlugin.logException("Accept potential method declaration failed for completion ", e);
@@ -363,8 +401,13 @@ public final class CompletionProposalRequestor extends CompletionRequestor {
 		return context;
 	}
 
+	/**
+	 * @return the most relevant proposals, sorted by relevance
+	 */
 	public List<CompletionProposal> getProposals() {
-		return proposals;
+		List<CompletionProposal> sorted = new ArrayList<>(proposals);
+		sorted.sort(comparator.thenComparingInt(acceptOrder::get));
+		return sorted;
 	}
 
 	/**
@@ -16,7 +16,6 @@ package org.eclipse.jdt.ls.core.internal.contentassist;
 import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.fix83600;
 import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.getLowerBound;
 
-import java.io.Reader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -24,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -43,18 +43,16 @@ import org.eclipse.jdt.internal.compiler.lookup.MethodBinding;
 import org.eclipse.jdt.internal.corext.template.java.SignatureUtil;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors.RequestKind;
 import org.eclipse.jdt.ls.core.internal.handlers.SignatureHelpUtils;
-import org.eclipse.jdt.ls.core.internal.javadoc.JavadocContentAccess;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache.Format;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
 import org.eclipse.lsp4j.ParameterInformation;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.SignatureInformation;
 
-import com.google.common.io.CharStreams;
-import com.google.common.util.concurrent.SimpleTimeLimiter;
-import com.google.common.util.concurrent.UncheckedTimeoutException;
-
 public final class SignatureHelpRequestor extends CompletionRequestor {
 
 	private List<CompletionProposal> proposals = new ArrayList<>();
@@ -239,11 +237,8 @@ public final class SignatureHelpRequestor extends CompletionRequestor {
 							}
 							String javadoc = null;
 							try {
-								javadoc = SimpleTimeLimiter.create(JavaLanguageServerPlugin.getExecutorService()).callWithTimeout(() -> {
-									Reader reader = JavadocContentAccess.getPlainTextContentReader(method);
-									return reader == null ? null : CharStreams.toString(reader);
-								}, 500, TimeUnit.MILLISECONDS);
-							} catch (UncheckedTimeoutException tooSlow) {
+								javadoc = JavaLanguageServerPlugin.getJavadocCache().getJavadoc(method, Format.PLAIN_TEXT, RequestExecutors.getInstance().getExecutor(RequestKind.JAVADOC)).get(500, TimeUnit.MILLISECONDS);
+							} catch (TimeoutException tooSlow) {
 							} catch (Exception e) {
 								JavaLanguageServerPlugin.logException("Unable to read documentation", e);
 							}
@@ -97,6 +97,11 @@ public class SimilarElementsRequestor extends CompletionRequestor {
 			if (javadoc != null) {
 				preparedCU= createPreparedCU(cu, javadoc, name.getStartPosition());
 				cu= preparedCU;
+			} else if (name.isSimpleName()) {
+				SimilarElement[] indexed = findIndexedTypes(cu, identifier, kind);
+				if (indexed != null) {
+					return indexed;
+				}
 			}
 
 			SimilarElementsRequestor requestor = new SimilarElementsRequestor(identifier, kind, nArguments, returnType, !isTestSource(cu));
@@ -127,6 +132,45 @@ public class SimilarElementsRequestor extends CompletionRequestor {
 		}
 	}
 
+	/**
+	 * Finds the types similar to the given simple name in the
+	 * {@link TypeNameIndex}, instead of searching them with the code
+	 * completion, when the name is the name of a visible type which only
+	 * needs to be imported.
+	 *
+	 * @return the similar types, or <code>null</code> if the index isn't built
+	 *         yet or doesn't know the name
+	 */
+	private static SimilarElement[] findIndexedTypes(ICompilationUnit cu, String identifier, int kind) {
+		if (cu.getJavaProject() == null || cu.getResource() == null) {
+			return null;
+		}
+		TypeNameIndex.Index index = TypeNameIndex.getInstance().getIndex(cu.getJavaProject());
+		if (index == null) {
+			return null;
+		}
+		String packageName = cu.getParent().getElementName();
+		SimilarElementsRequestor requestor = new SimilarElementsRequestor(identifier, kind, -1, null, !isTestSource(cu));
+		if (index.getTypes(identifier).stream().noneMatch(type -> requestor.isVisible(type, packageName))) {
+			return null;
+		}
+		for (TypeNameIndex.TypeName type : index.getSimilarTypes(identifier)) {
+			if (requestor.isVisible(type, packageName)) {
+				requestor.addType(Signature.createTypeSignature(type.getFullyQualifiedName(), true).toCharArray(), type.getModifiers(), 0);
+			}
+		}
+		requestor.processKeywords();
+		return requestor.fResult.toArray(new SimilarElement[requestor.fResult.size()]);
+	}
+
+	private boolean isVisible(TypeNameIndex.TypeName type, String packageName) {
+		if (fExcludeTestCode && type.isTest()) {
+			return false;
+		}
+		int modifiers = type.getModifiers();
+		return Flags.isPublic(modifiers) || (!Flags.isPrivate(modifiers) && packageName.equals(type.getPackageName()));
+	}
+
 	private static ICompilationUnit createPreparedCU(ICompilationUnit cu, Javadoc comment, int wordStart) throws JavaModelException {
 		int startpos= comment.getStartPosition();
 		boolean isTopLevel= comment.getParent().getParent() instanceof CompilationUnit;
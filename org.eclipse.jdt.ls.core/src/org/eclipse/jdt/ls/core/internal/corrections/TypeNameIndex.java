@@ -0,0 +1,428 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.corrections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * Indexes the types visible in the Java projects by their simple name, so
+ * that the types a simple name may refer to are found with a lookup instead of
+ * a search.
+ *
+ * The index of a project is built in the background, by a single search of all
+ * the type names in the project scope, the first time it's requested. It's
+ * then kept up to date with the compilation units saved in the workspace, and
+ * dropped when its classpath, or a package fragment root it encloses, changes.
+ * The indexes of the projects used least recently are dropped beyond
+ * <code>jdt.ls.typeNameIndex.maxProjects</code> projects.
+ */
+public final class TypeNameIndex {
+
+	private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	/**
+	 * The system property setting the max number of projects whose index is
+	 * kept.
+	 */
+	public static final String MAX_PROJECTS_PROPERTY = "jdt.ls.typeNameIndex.maxProjects";
+
+	public static final int DEFAULT_MAX_PROJECTS = 8;
+
+	private static TypeNameIndex instance;
+
+	private final int maxProjects = Math.max(1, Integer.getInteger(MAX_PROJECTS_PROPERTY, DEFAULT_MAX_PROJECTS));
+
+	private final Map<IJavaProject, Index> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IJavaProject, Index> eldest) {
+			return size() > maxProjects;
+		}
+	};
+	private final Map<IJavaProject, Index> building = new HashMap<>();
+
+	private TypeNameIndex() {
+		JavaCore.addElementChangedListener(this::elementChanged, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public static synchronized TypeNameIndex getInstance() {
+		if (instance == null) {
+			instance = new TypeNameIndex();
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the index of the types visible in the given project, or starts
+	 * building it in the background.
+	 *
+	 * @return the index, or <code>null</code> if it's not built yet
+	 */
+	public Index getIndex(IJavaProject project) {
+		synchronized (this) {
+			Index index = indexes.get(project);
+			if (index != null || building.containsKey(project)) {
+				return index;
+			}
+			// reserves the build until the job starts it
+			building.put(project, new Index(null));
+		}
+		Job job = new Job("Index type names of " + project.getElementName()) {
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					buildIndex(project, monitor);
+				} catch (JavaModelException e) {
+					JavaLanguageServerPlugin.logException("Unable to index the type names of " + project.getElementName(), e);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+		return null;
+	}
+
+	/**
+	 * Builds the index of the types visible in the given project. The
+	 * compilation units saved while it's built are indexed again.
+	 *
+	 * @return the index, not kept if a classpath or a library changed while
+	 *         it was built
+	 */
+	public Index buildIndex(IJavaProject project, IProgressMonitor monitor) throws JavaModelException {
+		Index index = new Index(SearchEngine.createJavaSearchScope(new IJavaElement[] { project }));
+		synchronized (this) {
+			building.put(project, index);
+		}
+		boolean built = false;
+		try {
+			search(index, monitor);
+			built = !monitor.isCanceled();
+		} finally {
+			synchronized (this) {
+				if (building.remove(project, index) && built) {
+					indexes.put(project, index);
+				}
+			}
+		}
+		return index;
+	}
+
+	private static void search(Index index, IProgressMonitor monitor) throws JavaModelException {
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_PREFIX_MATCH, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, index.scope, new TypeNameMatchRequestor() {
+
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				if (match.getAccessibility() == IAccessRule.K_NON_ACCESSIBLE) {
+					return;
+				}
+				IType type = match.getType();
+				ICompilationUnit unit = type.getCompilationUnit();
+				IPackageFragmentRoot root = match.getPackageFragmentRoot();
+				String path = unit != null ? unit.getPath().toString() : root.getPath().toString();
+				index.add(new TypeName(match.getFullyQualifiedName(), match.getSimpleTypeName(), match.getPackageName(), match.getModifiers(), index.isTest(root), path), unit != null);
+			}
+		}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (indexes.isEmpty() && building.isEmpty()) {
+				return;
+			}
+		}
+		List<ICompilationUnit> units = new ArrayList<>();
+		List<IJavaElement> changed = new ArrayList<>();
+		collectChanges(event.getDelta(), units, changed);
+		if (!changed.isEmpty()) {
+			synchronized (this) {
+				indexes.entrySet().removeIf(entry -> isAffected(entry.getKey(), entry.getValue(), changed));
+				building.entrySet().removeIf(entry -> isAffected(entry.getKey(), entry.getValue(), changed));
+			}
+		}
+		if (units.isEmpty()) {
+			return;
+		}
+		List<Index> current;
+		synchronized (this) {
+			current = new ArrayList<>(indexes.values());
+			current.addAll(building.values());
+		}
+		for (ICompilationUnit unit : units) {
+			for (Index index : current) {
+				if (index.scope != null && index.scope.encloses(unit)) {
+					index.update(unit);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collects the compilation units changed by the given delta, and the
+	 * projects and the package fragment roots changed otherwise, whose indexes
+	 * must be built again.
+	 */
+	private static void collectChanges(IJavaElementDelta delta, List<ICompilationUnit> units, List<IJavaElement> changed) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit = (ICompilationUnit) element;
+				if (!unit.isWorkingCopy() && (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0)) {
+					units.add(unit);
+				}
+				break;
+			case IJavaElement.CLASS_FILE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					changed.add(element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT));
+				}
+				break;
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if ((element.getElementType() != IJavaElement.JAVA_MODEL && delta.getKind() != IJavaElementDelta.CHANGED) || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+					// the types of a package are those of its root
+					changed.add(element.getElementType() == IJavaElement.PACKAGE_FRAGMENT ? element.getParent() : element);
+					break;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					collectChanges(child, units, changed);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Returns whether the index of the given project must be built again
+	 * after the given elements changed.
+	 */
+	private static boolean isAffected(IJavaProject project, Index index, List<IJavaElement> changed) {
+		if (index.scope == null) {
+			// the build has not started yet
+			return false;
+		}
+		for (IJavaElement element : changed) {
+			switch (element.getElementType()) {
+				case IJavaElement.JAVA_PROJECT:
+					if (element.equals(project) || requires(project, element.getElementName())) {
+						return true;
+					}
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if (project.equals(element.getJavaProject()) || index.scope.encloses(element)) {
+						return true;
+					}
+					break;
+				default:
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean requires(IJavaProject project, String name) {
+		try {
+			return Arrays.asList(project.getRequiredProjectNames()).contains(name);
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * The types visible in a project, by simple name.
+	 */
+	public static final class Index {
+
+		private final IJavaSearchScope scope;
+		private final Map<String, List<TypeName>> types = new HashMap<>();
+		private final Map<String, List<TypeName>> sourceTypes = new HashMap<>();
+		private final Map<IPackageFragmentRoot, Boolean> testRoots = new HashMap<>();
+
+		private Index(IJavaSearchScope scope) {
+			this.scope = scope;
+		}
+
+		/**
+		 * Returns the types of the given simple name.
+		 */
+		public synchronized List<TypeName> getTypes(String simpleName) {
+			List<TypeName> result = types.get(simpleName);
+			return result == null ? Collections.emptyList() : new ArrayList<>(result);
+		}
+
+		/**
+		 * Returns the types whose simple name is similar to the given one, and
+		 * starts with the same letter, like the types proposed by the code
+		 * completion of the first letter of the name.
+		 */
+		public synchronized List<TypeName> getSimilarTypes(String simpleName) {
+			List<TypeName> result = new ArrayList<>();
+			if (simpleName.isEmpty()) {
+				return result;
+			}
+			char first = Character.toLowerCase(simpleName.charAt(0));
+			for (Map.Entry<String, List<TypeName>> entry : types.entrySet()) {
+				String name = entry.getKey();
+				if (!name.isEmpty() && Character.toLowerCase(name.charAt(0)) == first && NameMatcher.isSimilarName(simpleName, name)) {
+					result.addAll(entry.getValue());
+				}
+			}
+			return result;
+		}
+
+		private synchronized void add(TypeName type, boolean source) {
+			List<TypeName> named = types.computeIfAbsent(type.getSimpleName(), name -> new ArrayList<>(1));
+			if (source && named.stream().anyMatch(t -> t.getPath().equals(type.getPath()) && t.getFullyQualifiedName().equals(type.getFullyQualifiedName()))) {
+				// indexed when saved while the index was built
+				return;
+			}
+			named.add(type);
+			if (source) {
+				sourceTypes.computeIfAbsent(type.getPath(), path -> new ArrayList<>(1)).add(type);
+			}
+		}
+
+		private synchronized void update(ICompilationUnit unit) {
+			String path = unit.getPath().toString();
+			List<TypeName> removed = sourceTypes.remove(path);
+			if (removed != null) {
+				for (TypeName type : removed) {
+					List<TypeName> named = types.get(type.getSimpleName());
+					if (named != null) {
+						named.remove(type);
+						if (named.isEmpty()) {
+							types.remove(type.getSimpleName());
+						}
+					}
+				}
+			}
+			if (!unit.exists()) {
+				return;
+			}
+			try {
+				IPackageFragmentRoot root = (IPackageFragmentRoot) unit.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+				boolean test = isTest(root);
+				String packageName = unit.getParent().getElementName();
+				for (IType type : unit.getAllTypes()) {
+					add(new TypeName(type.getFullyQualifiedName('.'), type.getElementName(), packageName, type.getFlags(), test, path), true);
+				}
+			} catch (JavaModelException e) {
+				JavaLanguageServerPlugin.logException("Unable to index the type names of " + path, e);
+			}
+		}
+
+		private synchronized boolean isTest(IPackageFragmentRoot root) {
+			if (root == null) {
+				return false;
+			}
+			return testRoots.computeIfAbsent(root, r -> {
+				try {
+					IClasspathEntry entry = r.getResolvedClasspathEntry();
+					return entry != null && entry.isTest();
+				} catch (JavaModelException e) {
+					return false;
+				}
+			});
+		}
+	}
+
+	/**
+	 * A type of the index.
+	 */
+	public static final class TypeName {
+
+		private final String fullyQualifiedName;
+		private final String simpleName;
+		private final String packageName;
+		private final int modifiers;
+		private final boolean test;
+		private final String path;
+
+		private TypeName(String fullyQualifiedName, String simpleName, String packageName, int modifiers, boolean test, String path) {
+			this.fullyQualifiedName = fullyQualifiedName;
+			this.simpleName = simpleName;
+			this.packageName = packageName;
+			this.modifiers = modifiers;
+			this.test = test;
+			this.path = path;
+		}
+
+		public String getFullyQualifiedName() {
+			return fullyQualifiedName;
+		}
+
+		public String getSimpleName() {
+			return simpleName;
+		}
+
+		public String getPackageName() {
+			return packageName;
+		}
+
+		public int getModifiers() {
+			return modifiers;
+		}
+
+		/**
+		 * Returns whether the type is declared in test code.
+		 */
+		public boolean isTest() {
+			return test;
+		}
+
+		/**
+		 * Returns the path of the compilation unit or the library declaring
+		 * the type.
+		 */
+		public String getPath() {
+			return path;
+		}
+	}
+}
@@ -18,9 +18,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -39,6 +48,7 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -55,6 +65,8 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.internal.core.OpenableElementInfo;
 import org.eclipse.jdt.internal.core.PackageFragment;
+import org.eclipse.jdt.ls.core.internal.ASTCache;
+import org.eclipse.jdt.ls.core.internal.CancellableProgressMonitor;
 import org.eclipse.jdt.ls.core.internal.DocumentAdapter;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
@@ -65,6 +77,7 @@ import org.eclipse.jdt.ls.core.internal.corrections.DiagnosticsHelper;
 import org.eclipse.jdt.ls.core.internal.managers.InvisibleProjectImporter;
 import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
@@ -95,7 +108,13 @@ public abstract class BaseDocumentLifeCycleHandler {
 	private CoreASTProvider sharedASTProvider;
 	private WorkspaceJob validationTimer;
 	private WorkspaceJob publishDiagnosticsJob;
+	private WorkspaceJob validateDependentsJob;
 	private Set<ICompilationUnit> toReconcile = new HashSet<>();
+	private Set<ICompilationUnit> toPublish = new LinkedHashSet<>();
+	private Set<ICompilationUnit> dependentsToValidate = new LinkedHashSet<>();
+	private WorkingCopyDependencyTracker dependencyTracker = new WorkingCopyDependencyTracker();
+	private ExecutorService validationExecutor;
+	private int validationExecutorParallelism;
 	private Map<String, Integer> documentVersions = new HashMap<>();
 	private MovingAverage movingAverage = new MovingAverage(DOCUMENT_LIFECYCLE_MAX_DEBOUNCE);
 
@@ -133,6 +152,21 @@ public abstract class BaseDocumentLifeCycleHandler {
 					return PUBLISH_DIAGNOSTICS_JOBS.equals(family);
 				}
 			};
+			this.validateDependentsJob = new WorkspaceJob("Validate dependent documents") {
+				@Override
+				public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+					return validateDependents(monitor);
+				}
+
+				/* (non-Javadoc)
+				 * @see org.eclipse.core.runtime.jobs.Job#belongsTo(java.lang.Object)
+				 */
+				@Override
+				public boolean belongsTo(Object family) {
+					return PUBLISH_DIAGNOSTICS_JOBS.equals(family);
+				}
+			};
+			this.validateDependentsJob.setPriority(Job.DECORATE);
 		}
 	}
 
@@ -161,6 +195,9 @@ public abstract class BaseDocumentLifeCycleHandler {
 				publishDiagnosticsJob.cancel();
 				publishDiagnosticsJob.setRule(rule);
 			}
+			if (validateDependentsJob != null) {
+				validateDependentsJob.cancel();
+			}
 			validationTimer.setRule(rule);
 			validationTimer.schedule(delay);
 		} else {
@@ -201,14 +238,14 @@ public abstract class BaseDocumentLifeCycleHandler {
 		}
 		// first reconcile all units with content changes
 		SubMonitor progress = SubMonitor.convert(monitor, cusToReconcile.size() + 1);
-		for (ICompilationUnit cu : cusToReconcile) {
-			if (monitor.isCanceled()) {
-				return Status.CANCEL_STATUS;
-			}
-			cu.makeConsistent(progress);
-			//cu.reconcile(ICompilationUnit.NO_AST, false, null, progress.newChild(1));
+		if (!runOnUnits(cusToReconcile, progress, (cu, unitMonitor) -> cu.makeConsistent(unitMonitor))) {
+			return Status.CANCEL_STATUS;
 		}
 		JavaLanguageServerPlugin.logInfo("Reconciled " + cusToReconcile.size() + ". Took " + (System.currentTimeMillis() - start) + " ms");
+		synchronized (toPublish) {
+			toPublish.addAll(cusToReconcile);
+		}
+		collectDependents(cusToReconcile);
 		if (monitor.isCanceled()) {
 			return Status.CANCEL_STATUS;
 		}
@@ -229,38 +266,232 @@ public abstract class BaseDocumentLifeCycleHandler {
 		return Status.OK_STATUS;
 	}
 
+	/**
+	 * Records the new shape of the reconciled units and queues the other open
+	 * units whose resolved dependencies have changed for a later validation.
+	 */
+	private void collectDependents(List<ICompilationUnit> units) {
+		List<ICompilationUnit> workingCopies = Arrays.asList(JavaCore.getWorkingCopies(null));
+		for (ICompilationUnit unit : units) {
+			Set<String> changedTypes = dependencyTracker.update(unit);
+			Set<ICompilationUnit> dependents = dependencyTracker.getDependents(unit, changedTypes, workingCopies);
+			if (!dependents.isEmpty()) {
+				// the bindings of their ASTs may be stale
+				ASTCache.getInstance().invalidate(dependents);
+				synchronized (dependentsToValidate) {
+					dependentsToValidate.addAll(dependents);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Publishes the diagnostics of the edited units first, then validates the
+	 * open units depending on them, in a separate lower priority job when the
+	 * validation is delayed.
+	 */
 	private IStatus publishDiagnostics(IProgressMonitor monitor) throws JavaModelException {
 		long start = System.currentTimeMillis();
 		if (monitor.isCanceled()) {
 			return Status.CANCEL_STATUS;
 		}
 		this.sharedASTProvider.disposeAST();
-		List<ICompilationUnit> toValidate = Arrays.asList(JavaCore.getWorkingCopies(null));
-		if (toValidate.isEmpty()) {
-			return Status.OK_STATUS;
+		List<ICompilationUnit> toValidate;
+		synchronized (toPublish) {
+			toValidate = new ArrayList<>(toPublish);
 		}
 		SubMonitor progress = SubMonitor.convert(monitor, toValidate.size() + 1);
+		boolean completed = runOnUnits(toValidate, progress, (rootToValidate, unitMonitor) -> {
+			if (rootToValidate.isWorkingCopy()) {
+				CompilationUnit astRoot = this.sharedASTProvider.getAST(rootToValidate, CoreASTProvider.WAIT_YES, unitMonitor);
+				if (unitMonitor.isCanceled()) {
+					return;
+				}
+				if (astRoot != null) {
+					// report errors, even if there are no problems in the file: The client need to know that they got fixed.
+					ICompilationUnit unit = (ICompilationUnit) astRoot.getTypeRoot();
+					publishDiagnostics(unit, unitMonitor);
+					dependencyTracker.updateReferences(unit, astRoot);
+				}
+			}
+			synchronized (toPublish) {
+				toPublish.remove(rootToValidate);
+			}
+			synchronized (dependentsToValidate) {
+				dependentsToValidate.remove(rootToValidate);
+			}
+		});
+		if (!completed) {
+			return Status.CANCEL_STATUS;
+		}
+		if (!toValidate.isEmpty()) {
+			JavaLanguageServerPlugin.logInfo("Validated " + toValidate.size() + ". Took " + (System.currentTimeMillis() - start) + " ms");
+		}
 		if (monitor.isCanceled()) {
 			return Status.CANCEL_STATUS;
 		}
-		for (ICompilationUnit rootToValidate : toValidate) {
-			if (monitor.isCanceled()) {
-				return Status.CANCEL_STATUS;
+		return scheduleDependentsValidation();
+	}
+
+	private IStatus scheduleDependentsValidation() throws JavaModelException {
+		if (validateDependentsJob == null) {
+			return validateDependents(new NullProgressMonitor());
+		}
+		synchronized (dependentsToValidate) {
+			if (dependentsToValidate.isEmpty()) {
+				return Status.OK_STATUS;
 			}
-			CompilationUnit astRoot = this.sharedASTProvider.getAST(rootToValidate, CoreASTProvider.WAIT_YES, monitor);
-			if (monitor.isCanceled()) {
-				return Status.CANCEL_STATUS;
+		}
+		validateDependentsJob.schedule();
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Validates the open units whose resolved dependencies have changed since
+	 * they were last validated.
+	 */
+	private IStatus validateDependents(IProgressMonitor monitor) throws JavaModelException {
+		long start = System.currentTimeMillis();
+		List<ICompilationUnit> dependents;
+		synchronized (dependentsToValidate) {
+			dependents = new ArrayList<>(dependentsToValidate);
+		}
+		if (dependents.isEmpty()) {
+			return Status.OK_STATUS;
+		}
+		SubMonitor progress = SubMonitor.convert(monitor, dependents.size());
+		boolean completed = runOnUnits(dependents, progress, (unit, unitMonitor) -> {
+			if (unit.isWorkingCopy()) {
+				publishDiagnostics(unit, unitMonitor);
 			}
-			if (astRoot != null) {
-				// report errors, even if there are no problems in the file: The client need to know that they got fixed.
-				ICompilationUnit unit = (ICompilationUnit) astRoot.getTypeRoot();
-				publishDiagnostics(unit, progress.newChild(1));
+			synchronized (dependentsToValidate) {
+				dependentsToValidate.remove(unit);
 			}
+		});
+		if (!completed) {
+			return Status.CANCEL_STATUS;
 		}
-		JavaLanguageServerPlugin.logInfo("Validated " + toValidate.size() + ". Took " + (System.currentTimeMillis() - start) + " ms");
+		JavaLanguageServerPlugin.logInfo("Validated " + dependents.size() + " dependent(s). Took " + (System.currentTimeMillis() - start) + " ms");
 		return Status.OK_STATUS;
 	}
 
+	/**
+	 * Runs the given task on each unit. When the validation parallelism is
+	 * greater than 1, the groups of units that don't depend on each other are
+	 * processed concurrently; the units of a same group are always processed
+	 * sequentially, in order.
+	 *
+	 * @return <code>false</code> if the monitor was cancelled before all the
+	 *         units were processed, <code>true</code> otherwise
+	 */
+	private boolean runOnUnits(List<ICompilationUnit> units, SubMonitor progress, UnitTask task) throws JavaModelException {
+		int parallelism = getValidationParallelism();
+		List<List<ICompilationUnit>> groups = parallelism > 1 && units.size() > 1 ? dependencyTracker.partition(units) : null;
+		if (groups == null || groups.size() < 2) {
+			for (ICompilationUnit unit : units) {
+				if (progress.isCanceled()) {
+					return false;
+				}
+				task.run(unit, progress.newChild(1));
+			}
+			return !progress.isCanceled();
+		}
+		// SubMonitor isn't thread safe, so the workers only report the cancellation
+		IProgressMonitor unitMonitor = new CancellableProgressMonitor(() -> {
+			if (progress.isCanceled()) {
+				throw new CancellationException();
+			}
+		});
+		ExecutorService executor = getValidationExecutor(parallelism);
+		List<Future<Integer>> futures = new ArrayList<>(groups.size());
+		for (List<ICompilationUnit> group : groups) {
+			futures.add(executor.submit(() -> {
+				int processed = 0;
+				for (ICompilationUnit unit : group) {
+					if (unitMonitor.isCanceled()) {
+						break;
+					}
+					task.run(unit, unitMonitor);
+					processed++;
+				}
+				return processed;
+			}));
+		}
+		JavaModelException failure = null;
+		for (Future<Integer> future : futures) {
+			try {
+				progress.worked(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				futures.forEach(f -> f.cancel(false));
+				return false;
+			} catch (ExecutionException e) {
+				if (failure == null && e.getCause() instanceof JavaModelException) {
+					failure = (JavaModelException) e.getCause();
+				} else {
+					JavaLanguageServerPlugin.logException("Error while validating documents", e.getCause());
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return !progress.isCanceled();
+	}
+
+	private int getValidationParallelism() {
+		PreferenceManager preferenceManager = JavaLanguageServerPlugin.getPreferencesManager();
+		if (preferenceManager == null || preferenceManager.getPreferences() == null) {
+			return Preferences.JAVA_VALIDATION_PARALLELISM_DEFAULT;
+		}
+		return preferenceManager.getPreferences().getValidationParallelism();
+	}
+
+	private synchronized ExecutorService getValidationExecutor(int parallelism) {
+		if (validationExecutor == null || validationExecutorParallelism != parallelism) {
+			if (validationExecutor != null) {
+				validationExecutor.shutdown();
+			}
+			AtomicInteger count = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "Validate documents worker-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			// the workers of an idle handler don't outlive it
+			executor.allowCoreThreadTimeOut(true);
+			validationExecutor = executor;
+			validationExecutorParallelism = parallelism;
+		}
+		return validationExecutor;
+	}
+
+	/**
+	 * Cancels the pending validations and stops the validation workers.
+	 */
+	public void dispose() {
+		if (validationTimer != null) {
+			validationTimer.cancel();
+		}
+		if (publishDiagnosticsJob != null) {
+			publishDiagnosticsJob.cancel();
+		}
+		if (validateDependentsJob != null) {
+			validateDependentsJob.cancel();
+		}
+		synchronized (this) {
+			if (validationExecutor != null) {
+				validationExecutor.shutdownNow();
+				validationExecutor = null;
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface UnitTask {
+		void run(ICompilationUnit unit, IProgressMonitor monitor) throws JavaModelException;
+	}
+
 	private void publishDiagnostics(ICompilationUnit unit, IProgressMonitor monitor) throws JavaModelException {
 		final BaseDiagnosticsHandler handler = createDiagnosticsHandler(unit);
 		WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
@@ -295,6 +526,7 @@ public abstract class BaseDocumentLifeCycleHandler {
 
 	public void didClose(DidCloseTextDocumentParams params) {
 		documentVersions.remove(params.getTextDocument().getUri());
+		SemanticTokensHandler.forget(params.getTextDocument().getUri());
 		ISchedulingRule rule = JDTUtils.getRule(params.getTextDocument().getUri());
 		try {
 			ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
@@ -438,6 +670,11 @@ public abstract class BaseDocumentLifeCycleHandler {
 					edit = new ReplaceEdit(startOffset, length, text);
 				}
 				edit.apply(document, TextEdit.NONE);
+				if (range != null) {
+					ModifiedRegions.getInstance().changed(unit, startOffset, length, text.length());
+				} else {
+					ModifiedRegions.getInstance().replaced(unit, text.length());
+				}
 
 			}
 			triggerValidation(unit);
@@ -454,16 +691,33 @@ public abstract class BaseDocumentLifeCycleHandler {
 		if (unit == null) {
 			return unit;
 		}
+		ModifiedRegions.getInstance().clear(unit);
 		try {
 			synchronized (toReconcile) {
 				toReconcile.remove(unit);
 			}
+			synchronized (toPublish) {
+				toPublish.remove(unit);
+			}
+			synchronized (dependentsToValidate) {
+				dependentsToValidate.remove(unit);
+			}
+			Set<String> closedTypes = dependencyTracker.remove(unit);
+			ASTCache.getInstance().invalidate(unit);
 			if (isSyntaxMode(unit) || !unit.exists() || unit.getResource().isDerived()) {
 				createDiagnosticsHandler(unit).clearDiagnostics();
 			} else if (hasUnsavedChanges(unit)) {
 				unit.discardWorkingCopy();
 				unit.becomeWorkingCopy(new NullProgressMonitor());
 				publishDiagnostics(unit, new NullProgressMonitor());
+				// the unsaved content is dropped, so units resolving against it need to be validated again
+				Set<ICompilationUnit> dependents = dependencyTracker.getDependents(unit, closedTypes, Arrays.asList(JavaCore.getWorkingCopies(null)));
+				if (!dependents.isEmpty()) {
+					synchronized (dependentsToValidate) {
+						dependentsToValidate.addAll(dependents);
+					}
+					scheduleDependentsValidation();
+				}
 			}
 			if (unit.equals(sharedASTProvider.getActiveJavaElement())) {
 				sharedASTProvider.disposeAST();
@@ -497,6 +751,7 @@ public abstract class BaseDocumentLifeCycleHandler {
 			JavaLanguageServerPlugin.logError(uri + " does not resolve to a ICompilationUnit");
 			return unit;
 		}
+		ModifiedRegions.getInstance().clear(unit);
 		// see https://github.com/redhat-developer/vscode-java/issues/274
 		unit = checkPackageDeclaration(uri, unit);
 		if (unit.isWorkingCopy()) {
@@ -521,7 +776,7 @@ public abstract class BaseDocumentLifeCycleHandler {
 	private ICompilationUnit checkPackageDeclaration(String uri, ICompilationUnit unit) {
 		if (unit.getResource() != null && unit.getJavaProject() != null && unit.getJavaProject().getProject().getName().equals(ProjectsManager.DEFAULT_PROJECT_NAME)) {
 			try {
-				CompilationUnit astRoot = CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, new NullProgressMonitor());
+				CompilationUnit astRoot = ASTCache.getInstance().getAST(unit, new NullProgressMonitor());
 				IProblem[] problems = astRoot.getProblems();
 				for (IProblem problem : problems) {
 					if (problem.getID() == IProblem.PackageIsNotExpectedPackage) {
@@ -607,7 +862,7 @@ public abstract class BaseDocumentLifeCycleHandler {
 	 */
 	private boolean needInferSourceRoot(IJavaProject javaProject, ICompilationUnit unit) {
 		if (javaProject.isOnClasspath(unit)) {
-			CompilationUnit astRoot = CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, new NullProgressMonitor());
+			CompilationUnit astRoot = ASTCache.getInstance().getAST(unit, new NullProgressMonitor());
 			IProblem[] problems = astRoot.getProblems();
 			boolean isPackageNotMatch = Arrays.stream(problems)
 					.anyMatch(p -> p.getID() == IProblem.PackageIsNotExpectedPackage);
@@ -651,6 +906,14 @@ public abstract class BaseDocumentLifeCycleHandler {
 		return false;
 	}
 
+	/**
+	 * Returns the last version of the given document notified by the client,
+	 * or <code>null</code> if it isn't open.
+	 */
+	public Integer getDocumentVersion(String uri) {
+		return documentVersions.get(uri);
+	}
+
 	/**
 	 * Can be passed to requests that are sensitive to document changes
 	 * in order to monitor the version and cancel the request if necessary.
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4j.Location;
+
+/**
+ * Caches the locations the reference and implementation code lenses of the
+ * recently resolved documents point to.
+ *
+ * The references of all the elements of a document are searched at once
+ * when its first reference lens is resolved, so resolving the other lenses
+ * of the document is only a lookup. The whole cache is dropped as soon as the
+ * Java model changes structurally or a unit is saved, as the results of the
+ * searches may then be different. The reconciles of the working copies don't
+ * drop it: the lenses of a document being edited are refreshed on save.
+ */
+public class CodeLensCache {
+
+	/**
+	 * The max number of documents the lens locations are kept for.
+	 */
+	public static final int MAX_DOCUMENTS = 16;
+
+	private static CodeLensCache instance;
+
+	private final Map<String, DocumentLenses> documents = new LinkedHashMap<>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, DocumentLenses> eldest) {
+			return size() > MAX_DOCUMENTS;
+		}
+	};
+
+	private long generation;
+
+	private CodeLensCache() {
+		JavaCore.addElementChangedListener(event -> {
+			if (!isWorkingCopyChange(event.getDelta())) {
+				clear();
+			}
+		}, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Returns whether the given delta only reports working copies becoming
+	 * or ceasing to be working copies, which changes nothing on disk.
+	 */
+	private static boolean isWorkingCopyChange(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED) {
+			return false;
+		}
+		int flags = IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED;
+		if ((delta.getFlags() & ~flags) != 0) {
+			return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!isWorkingCopyChange(child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public static synchronized CodeLensCache getInstance() {
+		if (instance == null) {
+			instance = new CodeLensCache();
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the references of the given element of the given document.
+	 *
+	 * @param typeRoot
+	 *            the document
+	 * @param element
+	 *            the element
+	 * @param batchLoader
+	 *            searches the references of all the elements of the
+	 *            document, called once per document
+	 * @param loader
+	 *            searches the references of the given element only, called if
+	 *            the batch doesn't contain it
+	 * @return the locations of the references
+	 * @throws CoreException
+	 *             if the search fails
+	 */
+	public List<Location> getReferences(ITypeRoot typeRoot, IJavaElement element, Loader<Map<IJavaElement, List<Location>>> batchLoader, Loader<List<Location>> loader) throws CoreException {
+		long start;
+		DocumentLenses lenses;
+		synchronized (documents) {
+			start = generation;
+			lenses = documents.computeIfAbsent(typeRoot.getHandleIdentifier(), key -> new DocumentLenses());
+		}
+		// concurrent resolutions of the lenses of the same document wait for the same batch
+		synchronized (lenses) {
+			Map<IJavaElement, List<Location>> references = lenses.references;
+			if (references == null) {
+				references = batchLoader.load();
+				if (isCurrent(start)) {
+					lenses.references = references;
+				}
+			}
+			List<Location> locations = references.get(element);
+			if (locations == null) {
+				locations = loader.load();
+				if (isCurrent(start) && lenses.references != null) {
+					lenses.references.put(element, locations);
+				}
+			}
+			return locations;
+		}
+	}
+
+	/**
+	 * Returns the implementations of the given type of the given document.
+	 *
+	 * @param typeRoot
+	 *            the document
+	 * @param type
+	 *            the type
+	 * @param loader
+	 *            searches the implementations of the type
+	 * @return the locations of the implementations
+	 * @throws CoreException
+	 *             if the search fails
+	 */
+	public List<Location> getImplementations(ITypeRoot typeRoot, IJavaElement type, Loader<List<Location>> loader) throws CoreException {
+		long start;
+		DocumentLenses lenses;
+		synchronized (documents) {
+			start = generation;
+			lenses = documents.computeIfAbsent(typeRoot.getHandleIdentifier(), key -> new DocumentLenses());
+		}
+		synchronized (lenses) {
+			List<Location> locations = lenses.implementations.get(type);
+			if (locations == null) {
+				locations = loader.load();
+				if (isCurrent(start)) {
+					lenses.implementations.put(type, locations);
+				}
+			}
+			return locations;
+		}
+	}
+
+	public void clear() {
+		synchronized (documents) {
+			generation++;
+			documents.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (documents) {
+			return documents.size();
+		}
+	}
+
+	private boolean isCurrent(long start) {
+		synchronized (documents) {
+			return generation == start;
+		}
+	}
+
+	@FunctionalInterface
+	public interface Loader<T> {
+		T load() throws CoreException;
+	}
+
+	private static final class DocumentLenses {
+
+		private Map<IJavaElement, List<Location>> references;
+		private final Map<IJavaElement, List<Location>> implementations = new HashMap<>();
+	}
+}
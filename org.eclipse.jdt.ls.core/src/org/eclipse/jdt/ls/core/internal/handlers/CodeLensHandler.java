@@ -16,8 +16,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -25,21 +29,26 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.ConstructorReferenceMatch;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.MethodReferenceMatch;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.core.search.TypeReferenceMatch;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JSONUtility;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
@@ -97,7 +106,9 @@ public class CodeLensHandler {
 				IJavaElement element = JDTUtils.findElementAtSelection(typeRoot, position.getLine(), position.getCharacter(), this.preferenceManager, monitor);
 				if (REFERENCES_TYPE.equals(type)) {
 					try {
-						locations = findReferences(element, monitor);
+						if (element != null) {
+							locations = CodeLensCache.getInstance().getReferences(typeRoot, element, () -> findReferences(typeRoot, monitor), () -> findReferences(element, monitor));
+						}
 					} catch (CoreException e) {
 						JavaLanguageServerPlugin.logException(e.getMessage(), e);
 					}
@@ -106,7 +117,7 @@ public class CodeLensHandler {
 						try {
 							IDocument document = JsonRpcHelpers.toDocument(typeRoot.getBuffer());
 							int offset = document.getLineOffset(position.getLine()) + position.getCharacter();
-							locations = findImplementations(typeRoot, (IType) element, offset, monitor);
+							locations = CodeLensCache.getInstance().getImplementations(typeRoot, element, () -> findImplementations(typeRoot, (IType) element, offset, monitor));
 						} catch (CoreException | BadLocationException e) {
 							JavaLanguageServerPlugin.logException(e.getMessage(), e);
 						}
@@ -167,6 +178,277 @@ public class CodeLensHandler {
 		return result;
 	}
 
+	/**
+	 * Searches the references of all the elements of the given document that
+	 * have a reference lens at once, and assigns each match to the element it
+	 * refers to. The methods which may override one another are searched on
+	 * their own, since a polymorphic reference is counted for each of them.
+	 */
+	private Map<IJavaElement, List<Location>> findReferences(ITypeRoot typeRoot, IProgressMonitor monitor) throws CoreException {
+		List<IJavaElement> elements = new ArrayList<>();
+		collectLensElements(typeRoot.getChildren(), elements, monitor);
+		Map<IJavaElement, List<Location>> result = new HashMap<>();
+		Set<IJavaElement> polymorphic = getPolymorphicMethods(elements);
+		Set<IJavaElement> batched = new HashSet<>();
+		SearchPattern pattern = null;
+		for (IJavaElement element : elements) {
+			if (polymorphic.contains(element)) {
+				result.put(element, findReferences(element, monitor));
+				continue;
+			}
+			SearchPattern elementPattern = SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (elementPattern != null) {
+				pattern = pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+				result.put(element, new ArrayList<>());
+				batched.add(element);
+			}
+		}
+		if (pattern == null) {
+			return result;
+		}
+		final List<SearchMatch> matches = new ArrayList<>();
+		SearchEngine engine = new SearchEngine();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, createSearchScope(), new SearchRequestor() {
+
+			@Override
+			public void acceptSearchMatch(SearchMatch match) throws CoreException {
+				if (match.getAccuracy() == SearchMatch.A_INACCURATE || !(match.getElement() instanceof IJavaElement)) {
+					return;
+				}
+				if (((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT) != null) {
+					matches.add(match);
+				}
+			}
+		}, monitor);
+
+		Map<ICompilationUnit, String> sources = new HashMap<>();
+		Set<IJavaElement> unresolved = new HashSet<>();
+		for (SearchMatch match : matches) {
+			ICompilationUnit compilationUnit = (ICompilationUnit) ((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT);
+			Set<IJavaElement> candidates = getCandidates(match, getMatchedSource(compilationUnit, match, sources), batched);
+			if (candidates.size() != 1) {
+				unresolved.addAll(candidates);
+				continue;
+			}
+			result.get(candidates.iterator().next()).add(JDTUtils.toLocation(compilationUnit, match.getOffset(), match.getLength()));
+		}
+		// the elements some matches may refer to are searched again on their own
+		for (IJavaElement element : unresolved) {
+			result.put(element, findReferences(element, monitor));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the methods of the given elements which have the name and the
+	 * number of parameters of a method of another type, and so may override it
+	 * or be overridden by it.
+	 */
+	private static Set<IJavaElement> getPolymorphicMethods(List<IJavaElement> elements) throws JavaModelException {
+		Map<String, List<IMethod>> methodsByName = new HashMap<>();
+		for (IJavaElement element : elements) {
+			if (!(element instanceof IMethod)) {
+				continue;
+			}
+			IMethod method = (IMethod) element;
+			if (!method.isConstructor() && !Flags.isStatic(method.getFlags()) && !Flags.isPrivate(method.getFlags())) {
+				methodsByName.computeIfAbsent(method.getElementName() + '/' + method.getNumberOfParameters(), name -> new ArrayList<>()).add(method);
+			}
+		}
+		Set<IJavaElement> polymorphic = new HashSet<>();
+		for (List<IMethod> methods : methodsByName.values()) {
+			IType declaringType = methods.get(0).getDeclaringType();
+			if (methods.stream().anyMatch(method -> !method.getDeclaringType().equals(declaringType))) {
+				polymorphic.addAll(methods);
+			}
+		}
+		return polymorphic;
+	}
+
+	/**
+	 * Returns the elements a match may refer to, from the matched source: the
+	 * ones of the kind of the match with the name at the match and, between
+	 * overloaded methods, the number of arguments of the call. A match which
+	 * may refer to more than one of them is searched again for each of them.
+	 */
+	private static Set<IJavaElement> getCandidates(SearchMatch match, String source, Set<IJavaElement> elements) {
+		Set<IJavaElement> candidates = new HashSet<>();
+		for (IJavaElement element : elements) {
+			if (isSameKind(match, element)) {
+				candidates.add(element);
+			}
+		}
+		if (source == null) {
+			return candidates;
+		}
+		if (callsEnclosingConstructor(match, source)) {
+			IJavaElement type = ((IJavaElement) match.getElement()).getAncestor(IJavaElement.TYPE);
+			candidates.removeIf(candidate -> !candidate.getParent().equals(type));
+		} else {
+			String name = getReferencedName(match, source);
+			Set<IJavaElement> named = new HashSet<>();
+			for (IJavaElement candidate : candidates) {
+				if (candidate.getElementName().equals(name)) {
+					named.add(candidate);
+				}
+			}
+			if (!named.isEmpty()) {
+				candidates = named;
+			}
+		}
+		if (candidates.size() > 1 && candidates.stream().allMatch(IMethod.class::isInstance)) {
+			int arguments = countArguments(source);
+			Set<IJavaElement> sameArity = new HashSet<>();
+			try {
+				for (IJavaElement candidate : candidates) {
+					IMethod method = (IMethod) candidate;
+					if (Flags.isVarargs(method.getFlags())) {
+						return candidates;
+					}
+					if (method.getNumberOfParameters() == arguments) {
+						sameArity.add(method);
+					}
+				}
+			} catch (JavaModelException e) {
+				return candidates;
+			}
+			if (sameArity.size() == 1) {
+				return sameArity;
+			}
+		}
+		return candidates;
+	}
+
+	/**
+	 * Returns whether the given match is an explicit constructor invocation,
+	 * <code>this(...)</code>, or an enum constant, which call a constructor of
+	 * the enclosing type.
+	 */
+	private static boolean callsEnclosingConstructor(SearchMatch match, String source) {
+		if (!(match instanceof ConstructorReferenceMatch)) {
+			return false;
+		}
+		String callee = getLastIdentifier(getCallee(source));
+		if ("this".equals(callee)) {
+			return true;
+		}
+		IJavaElement matchElement = (IJavaElement) match.getElement();
+		try {
+			return matchElement instanceof IField && ((IField) matchElement).isEnumConstant() && matchElement.getElementName().equals(callee);
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	private static boolean isSameKind(SearchMatch match, IJavaElement element) {
+		try {
+			if (match instanceof TypeReferenceMatch) {
+				return element.getElementType() == IJavaElement.TYPE;
+			} else if (match instanceof MethodReferenceMatch) {
+				return element.getElementType() == IJavaElement.METHOD && !((IMethod) element).isConstructor();
+			} else if (match instanceof ConstructorReferenceMatch) {
+				return element.getElementType() == IJavaElement.METHOD && ((IMethod) element).isConstructor();
+			}
+		} catch (JavaModelException e) {
+			// consider the element
+		}
+		return true;
+	}
+
+	private static String getMatchedSource(ICompilationUnit unit, SearchMatch match, Map<ICompilationUnit, String> sources) {
+		String source = sources.computeIfAbsent(unit, key -> {
+			try {
+				return key.getSource();
+			} catch (JavaModelException e) {
+				return null;
+			}
+		});
+		if (source == null || match.getOffset() < 0 || match.getOffset() + match.getLength() > source.length()) {
+			return null;
+		}
+		return source.substring(match.getOffset(), match.getOffset() + match.getLength());
+	}
+
+	/**
+	 * Returns the simple name of the element referenced by the given matched
+	 * source, e.g. <code>Entry</code> for <code>Map.Entry&lt;K, V&gt;</code>,
+	 * <code>foo</code> for <code>foo(bar())</code>, <code>Foo</code> for
+	 * <code>new Foo&lt;&gt;()</code> or <code>Foo::new</code>.
+	 */
+	private static String getReferencedName(SearchMatch match, String source) {
+		String name = getCallee(source);
+		if (match instanceof ConstructorReferenceMatch && name.contains("::")) {
+			name = name.substring(0, name.indexOf("::"));
+		}
+		if (match instanceof TypeReferenceMatch || match instanceof ConstructorReferenceMatch) {
+			int typeArguments = name.indexOf('<');
+			if (typeArguments >= 0) {
+				name = name.substring(0, typeArguments);
+			}
+		}
+		return getLastIdentifier(name);
+	}
+
+	private static String getCallee(String source) {
+		int arguments = source.indexOf('(');
+		return arguments < 0 ? source : source.substring(0, arguments);
+	}
+
+	private static String getLastIdentifier(String source) {
+		int end = source.length();
+		while (end > 0 && !Character.isJavaIdentifierPart(source.charAt(end - 1))) {
+			end--;
+		}
+		int start = end;
+		while (start > 0 && Character.isJavaIdentifierPart(source.charAt(start - 1))) {
+			start--;
+		}
+		return source.substring(start, end);
+	}
+
+	/**
+	 * Counts the arguments of the call in the given matched source.
+	 *
+	 * @return the number of arguments, or -1 if the source has no complete
+	 *         argument list, e.g. for a method reference
+	 */
+	private static int countArguments(String source) {
+		int start = source.indexOf('(');
+		if (start < 0) {
+			return -1;
+		}
+		int depth = 0;
+		int arguments = 0;
+		boolean empty = true;
+		for (int i = start; i < source.length(); i++) {
+			char c = source.charAt(i);
+			if (c == '"' || c == '\'') {
+				// skip the literal
+				for (i++; i < source.length() && source.charAt(i) != c; i++) {
+					if (source.charAt(i) == '\\') {
+						i++;
+					}
+				}
+				empty = false;
+			} else if (c == '(' || c == '[' || c == '{') {
+				if (depth > 0) {
+					empty = false;
+				}
+				depth++;
+			} else if (c == ')' || c == ']' || c == '}') {
+				depth--;
+				if (depth == 0) {
+					return empty ? 0 : arguments + 1;
+				}
+			} else if (c == ',' && depth == 1) {
+				arguments++;
+			} else if (!Character.isWhitespace(c)) {
+				empty = false;
+			}
+		}
+		return -1;
+	}
+
 	public List<CodeLens> getCodeLensSymbols(String uri, IProgressMonitor monitor) {
 		if (!preferenceManager.getPreferences().isCodeLensEnabled()) {
 			return Collections.emptyList();
@@ -201,25 +483,12 @@ public class CodeLensHandler {
 	private void collectCodeLenses(ITypeRoot typeRoot, IJavaElement[] elements, Collection<CodeLens> lenses,
 			IProgressMonitor monitor)
 			throws JavaModelException {
-		for (IJavaElement element : elements) {
+		List<IJavaElement> lensElements = new ArrayList<>();
+		collectLensElements(elements, lensElements, monitor);
+		for (IJavaElement element : lensElements) {
 			if (monitor.isCanceled()) {
 				return;
 			}
-			if (element.getElementType() == IJavaElement.TYPE) {
-				collectCodeLenses(typeRoot, ((IType) element).getChildren(), lenses, monitor);
-			} else if (element.getElementType() == IJavaElement.METHOD) {
-				if (JDTUtils.isHiddenGeneratedElement(element)) {
-					continue;
-				}
-				//ignore element if method range overlaps the type range, happens for generated bytcode, i.e. with lombok
-				IJavaElement parentType = element.getAncestor(IJavaElement.TYPE);
-				if (parentType != null && overlaps(((ISourceReference) parentType).getNameRange(), ((ISourceReference) element).getNameRange())) {
-					continue;
-				}
-			} else {//neither a type nor a method, we bail
-				continue;
-			}
-
 			if (preferenceManager.getPreferences().isReferencesCodeLensEnabled()) {
 				CodeLens lens = getCodeLens(REFERENCES_TYPE, element, typeRoot);
 				if (lens != null) {
@@ -238,6 +507,33 @@ public class CodeLensHandler {
 		}
 	}
 
+	/**
+	 * Collects the types and methods that get code lenses, in the order of
+	 * their lenses.
+	 */
+	private void collectLensElements(IJavaElement[] elements, Collection<IJavaElement> lensElements, IProgressMonitor monitor) throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			if (element.getElementType() == IJavaElement.TYPE) {
+				collectLensElements(((IType) element).getChildren(), lensElements, monitor);
+			} else if (element.getElementType() == IJavaElement.METHOD) {
+				if (JDTUtils.isHiddenGeneratedElement(element)) {
+					continue;
+				}
+				//ignore element if method range overlaps the type range, happens for generated bytcode, i.e. with lombok
+				IJavaElement parentType = element.getAncestor(IJavaElement.TYPE);
+				if (parentType != null && overlaps(((ISourceReference) parentType).getNameRange(), ((ISourceReference) element).getNameRange())) {
+					continue;
+				}
+			} else {//neither a type nor a method, we bail
+				continue;
+			}
+			lensElements.add(element);
+		}
+	}
+
 	private boolean overlaps(ISourceRange typeRange, ISourceRange methodRange) {
 		if (typeRange == null || methodRange == null) {
 			return false;
@@ -107,6 +107,8 @@ public class CompletionHandler{
 	}
 
 	private CompletionList computeContentAssist(ICompilationUnit unit, CompletionParams params, IProgressMonitor monitor) throws JavaModelException {
+		JavadocPrefetcher.getInstance().cancel();
+		IncrementalCompletion previous = IncrementalCompletion.take();
 		CompletionResponses.clear();
 		if (unit == null) {
 			return null;
@@ -123,25 +125,17 @@ public class CompletionHandler{
 		List<CompletionItem> proposals = new ArrayList<>();
 
 		final int offset = JsonRpcHelpers.toOffset(unit.getBuffer(), params.getPosition().getLine(), params.getPosition().getCharacter());
-		CompletionProposalRequestor collector = new CompletionProposalRequestor(unit, offset, manager);
-		// Allow completions for unresolved types - since 3.3
-		collector.setAllowsRequiredProposals(CompletionProposal.FIELD_REF, CompletionProposal.TYPE_REF, true);
-		collector.setAllowsRequiredProposals(CompletionProposal.FIELD_REF, CompletionProposal.TYPE_IMPORT, true);
-		collector.setAllowsRequiredProposals(CompletionProposal.FIELD_REF, CompletionProposal.FIELD_IMPORT, true);
-
-		collector.setAllowsRequiredProposals(CompletionProposal.METHOD_REF, CompletionProposal.TYPE_REF, true);
-		collector.setAllowsRequiredProposals(CompletionProposal.METHOD_REF, CompletionProposal.TYPE_IMPORT, true);
-		collector.setAllowsRequiredProposals(CompletionProposal.METHOD_REF, CompletionProposal.METHOD_IMPORT, true);
-
-		collector.setAllowsRequiredProposals(CompletionProposal.CONSTRUCTOR_INVOCATION, CompletionProposal.TYPE_REF, true);
-
-		collector.setAllowsRequiredProposals(CompletionProposal.ANONYMOUS_CLASS_CONSTRUCTOR_INVOCATION, CompletionProposal.TYPE_REF, true);
-		collector.setAllowsRequiredProposals(CompletionProposal.ANONYMOUS_CLASS_DECLARATION, CompletionProposal.TYPE_REF, true);
-
-		collector.setAllowsRequiredProposals(CompletionProposal.TYPE_REF, CompletionProposal.TYPE_REF, true);
-		collector.setFavoriteReferences(getFavoriteStaticMembers());
-
-		if (offset >-1 && !monitor.isCanceled()) {
+		String source = unit.getSource();
+		CompletionProposalRequestor collector = previous == null || completionForConstructor ? null : previous.filter(unit, source, offset, manager);
+		// whether the response can be filtered by the next completion
+		boolean filterable = collector != null;
+		if (filterable) {
+			// only identifier characters were typed since the previous complete response
+			proposals.addAll(collector.getCompletionItems());
+		} else {
+			collector = createCollector(unit, offset);
+		}
+		if (!filterable && offset >-1 && !monitor.isCanceled()) {
 			IBuffer buffer = unit.getBuffer();
 			if (buffer != null && buffer.getLength() >= offset) {
 				IProgressMonitor subMonitor = new ProgressMonitorWrapper(monitor) {
@@ -166,21 +160,51 @@ public class CompletionHandler{
 						ModelBasedCompletionEngine.codeComplete(unit, offset, collector, DefaultWorkingCopyOwner.PRIMARY, subMonitor);
 					}
 					proposals.addAll(collector.getCompletionItems());
+					int collected = proposals.size();
 					if (isSnippetStringSupported() && !UNSUPPORTED_RESOURCES.contains(unit.getResource().getName())) {
 						proposals.addAll(SnippetCompletionProposal.getSnippets(unit, collector.getContext(), subMonitor));
 					}
 					proposals.addAll(new JavadocCompletionProposal().getProposals(unit, offset, collector, subMonitor));
+					filterable = proposals.size() == collected && !subMonitor.isCanceled();
 				} catch (OperationCanceledException e) {
 					monitor.setCanceled(true);
 				}
 			}
 		}
 		proposals.sort(PROPOSAL_COMPARATOR);
+		if (!monitor.isCanceled()) {
+			// warm the documentation of the first items for their resolve
+			JavadocPrefetcher.getInstance().prefetch(unit, proposals, manager);
+			if (filterable && collector.isComplete() && !completionForConstructor) {
+				IncrementalCompletion.store(unit, source, offset, collector, manager.getPreferences());
+			}
+		}
 		CompletionList list = new CompletionList(proposals);
 		list.setIsIncomplete(!collector.isComplete() || completionForConstructor);
 		return list;
 	}
 
+	private CompletionProposalRequestor createCollector(ICompilationUnit unit, int offset) {
+		CompletionProposalRequestor collector = new CompletionProposalRequestor(unit, offset, manager);
+		// Allow completions for unresolved types - since 3.3
+		collector.setAllowsRequiredProposals(CompletionProposal.FIELD_REF, CompletionProposal.TYPE_REF, true);
+		collector.setAllowsRequiredProposals(CompletionProposal.FIELD_REF, CompletionProposal.TYPE_IMPORT, true);
+		collector.setAllowsRequiredProposals(CompletionProposal.FIELD_REF, CompletionProposal.FIELD_IMPORT, true);
+
+		collector.setAllowsRequiredProposals(CompletionProposal.METHOD_REF, CompletionProposal.TYPE_REF, true);
+		collector.setAllowsRequiredProposals(CompletionProposal.METHOD_REF, CompletionProposal.TYPE_IMPORT, true);
+		collector.setAllowsRequiredProposals(CompletionProposal.METHOD_REF, CompletionProposal.METHOD_IMPORT, true);
+
+		collector.setAllowsRequiredProposals(CompletionProposal.CONSTRUCTOR_INVOCATION, CompletionProposal.TYPE_REF, true);
+
+		collector.setAllowsRequiredProposals(CompletionProposal.ANONYMOUS_CLASS_CONSTRUCTOR_INVOCATION, CompletionProposal.TYPE_REF, true);
+		collector.setAllowsRequiredProposals(CompletionProposal.ANONYMOUS_CLASS_DECLARATION, CompletionProposal.TYPE_REF, true);
+
+		collector.setAllowsRequiredProposals(CompletionProposal.TYPE_REF, CompletionProposal.TYPE_REF, true);
+		collector.setFavoriteReferences(getFavoriteStaticMembers());
+		return collector;
+	}
+
 	private String[] getFavoriteStaticMembers() {
 		PreferenceManager preferenceManager = JavaLanguageServerPlugin.getPreferencesManager();
 		if (preferenceManager != null) {
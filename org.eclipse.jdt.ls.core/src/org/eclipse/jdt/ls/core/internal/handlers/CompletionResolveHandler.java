@@ -16,7 +16,6 @@ import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.fix836
 import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.getLowerBound;
 import static org.eclipse.jdt.internal.corext.template.java.SignatureUtil.stripSignatureToFQN;
 
-import java.io.Reader;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -43,12 +42,13 @@ import org.eclipse.jdt.internal.compiler.lookup.MethodBinding;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JSONUtility;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors.RequestKind;
 import org.eclipse.jdt.ls.core.internal.contentassist.CompletionProposalReplacementProvider;
 import org.eclipse.jdt.ls.core.internal.contentassist.CompletionProposalRequestor;
 import org.eclipse.jdt.ls.core.internal.contentassist.SnippetCompletionProposal;
 import org.eclipse.jdt.ls.core.internal.contentassist.SnippetUtils;
-import org.eclipse.jdt.ls.core.internal.javadoc.JavadocContentAccess;
-import org.eclipse.jdt.ls.core.internal.javadoc.JavadocContentAccess2;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache.Format;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.templates.Template;
@@ -60,10 +60,6 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.osgi.util.NLS;
-
-import com.google.common.io.CharStreams;
-import com.google.common.util.concurrent.SimpleTimeLimiter;
-import com.google.common.util.concurrent.UncheckedTimeoutException;
 /**
  * Adds the completion string and documentation.
  * It checks the client capabilities.
@@ -93,10 +89,71 @@ public class CompletionResolveHandler {
 	public static final String DATA_FIELD_CONSTANT_VALUE = "constant_value";
 	public static final String DATA_METHOD_DEFAULT_VALUE = "default_value";
 
+	/**
+	 * Returns the member the given completion proposal refers to.
+	 *
+	 * @param unit
+	 *            the compilation unit the completion is computed in
+	 * @param proposal
+	 *            the completion proposal
+	 * @param data
+	 *            the data of the completion item of the proposal
+	 * @return the member, or <code>null</code> if it can't be found
+	 * @throws JavaModelException
+	 *             if the member can't be searched
+	 */
+	public static IMember resolveMember(ICompilationUnit unit, CompletionProposal proposal, Map<String, String> data) throws JavaModelException {
+		if (!data.containsKey(DATA_FIELD_DECLARATION_SIGNATURE)) {
+			return null;
+		}
+		String typeName = stripSignatureToFQN(String.valueOf(data.get(DATA_FIELD_DECLARATION_SIGNATURE)));
+		IMember member = null;
+		IType type = unit.getJavaProject().findType(typeName);
+		if (type!=null && data.containsKey(DATA_FIELD_NAME)) {
+			String name = data.get(DATA_FIELD_NAME);
+			String[] paramSigs = CharOperation.NO_STRINGS;
+			if(data.containsKey( DATA_FIELD_SIGNATURE)){
+				if (proposal instanceof InternalCompletionProposal) {
+					Binding binding = ((InternalCompletionProposal) proposal).getBinding();
+					if (binding instanceof MethodBinding) {
+						MethodBinding methodBinding = (MethodBinding) binding;
+						MethodBinding original = methodBinding.original();
+						char[] signature;
+						if (original != binding) {
+							signature = Engine.getSignature(original);
+						} else {
+							signature = Engine.getSignature(methodBinding);
+						}
+						String[] parameters = Signature.getParameterTypes(String.valueOf(fix83600(signature)));
+						for (int i = 0; i < parameters.length; i++) {
+							parameters[i] = getLowerBound(parameters[i]);
+						}
+						paramSigs = parameters;
+					}
+				}
+			}
+			IMethod method = type.getMethod(name, paramSigs);
+			IMethod[] methods = type.findMethods(method);
+			if (methods != null && methods.length > 0) {
+				method = methods[0];
+			}
+			if (method.exists()) {
+				member = method;
+			} else {
+				IField field = type.getField(name);
+				if (field.exists()) {
+					member = field;
+				}
+			}
+		} else {
+			member = type;
+		}
+		return member;
+	}
+
 	public CompletionItem resolve(CompletionItem param, IProgressMonitor monitor) {
 
-		@SuppressWarnings("unchecked")
-		Map<String, String> data = JSONUtility.toModel(param.getData(),Map.class);
+		Map<String, String> data = JSONUtility.toStringMap(param.getData());
 		// clean resolve data
 		param.setData(null);
 		if (!CompletionProposalRequestor.SUPPORTED_KINDS.contains(param.getKind()) || data == null || !data.containsKey(DATA_FIELD_URI) || !data.containsKey(DATA_FIELD_REQUEST_ID) || !data.containsKey(DATA_FIELD_PROPOSAL_ID)) {
@@ -142,68 +199,17 @@ public class CompletionResolveHandler {
 			proposalProvider.updateAdditionalTextEdits(completionResponse.getProposals().get(proposalId), param, '\0');
 		}
 		if (data.containsKey(DATA_FIELD_DECLARATION_SIGNATURE)) {
-			String typeName = stripSignatureToFQN(String.valueOf(data.get(DATA_FIELD_DECLARATION_SIGNATURE)));
 			try {
-				IMember member = null;
-				IType type = unit.getJavaProject().findType(typeName);
-
 				CompletionProposal proposal = completionResponse.getProposals().get(proposalId);
-				if (type!=null && data.containsKey(DATA_FIELD_NAME)) {
-					String name = data.get(DATA_FIELD_NAME);
-					String[] paramSigs = CharOperation.NO_STRINGS;
-					if(data.containsKey( DATA_FIELD_SIGNATURE)){
-						if (proposal instanceof InternalCompletionProposal) {
-							Binding binding = ((InternalCompletionProposal) proposal).getBinding();
-							if (binding instanceof MethodBinding) {
-								MethodBinding methodBinding = (MethodBinding) binding;
-								MethodBinding original = methodBinding.original();
-								char[] signature;
-								if (original != binding) {
-									signature = Engine.getSignature(original);
-								} else {
-									signature = Engine.getSignature(methodBinding);
-								}
-								String[] parameters = Signature.getParameterTypes(String.valueOf(fix83600(signature)));
-								for (int i = 0; i < parameters.length; i++) {
-									parameters[i] = getLowerBound(parameters[i]);
-								}
-								paramSigs = parameters;
-							}
-						}
-					}
-					IMethod method = type.getMethod(name, paramSigs);
-					IMethod[] methods = type.findMethods(method);
-					if (methods != null && methods.length > 0) {
-						method = methods[0];
-					}
-					if (method.exists()) {
-						member = method;
-					} else {
-						IField field = type.getField(name);
-						if (field.exists()) {
-							member = field;
-						}
-					}
-				} else {
-					member = type;
-				}
-
+				IMember member = resolveMember(unit, proposal, data);
 				if (member != null && member.exists() && !monitor.isCanceled()) {
 					String javadoc = null;
 					try {
-						final IMember curMember = member;
-						javadoc = SimpleTimeLimiter.create(JavaLanguageServerPlugin.getExecutorService()).callWithTimeout(() -> {
-							Reader reader;
-							if (manager.getClientPreferences().isSupportsCompletionDocumentationMarkdown()) {
-								reader = JavadocContentAccess2.getMarkdownContentReader(curMember);
-							} else {
-								reader = JavadocContentAccess.getPlainTextContentReader(curMember);
-							}
-							return reader == null? null:CharStreams.toString(reader);
-						}, 500, TimeUnit.MILLISECONDS);
-					} catch (UncheckedTimeoutException | TimeoutException tooSlow) {
+						Format format = manager.getClientPreferences().isSupportsCompletionDocumentationMarkdown() ? Format.MARKDOWN : Format.PLAIN_TEXT;
+						javadoc = JavaLanguageServerPlugin.getJavadocCache().getJavadoc(member, format, RequestExecutors.getInstance().getExecutor(RequestKind.JAVADOC)).get(500, TimeUnit.MILLISECONDS);
+					} catch (TimeoutException tooSlow) {
 						//Ignore error for now as it's spamming clients on content assist.
-						//TODO cache javadoc resolution results?
+						//The documentation is still cached once rendered, for the next resolve.
 						//JavaLanguageServerPlugin.logError("Unable to get documentation under 500ms");
 						monitor.setCanceled(true);
 					} catch (Exception e) {
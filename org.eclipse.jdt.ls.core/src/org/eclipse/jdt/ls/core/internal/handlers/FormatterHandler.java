@@ -14,9 +14,11 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static java.util.stream.Collectors.toMap;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,11 +33,11 @@ import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextEditUtil;
 import org.eclipse.jdt.internal.formatter.DefaultCodeFormatterOptions;
 import org.eclipse.jdt.internal.ui.preferences.formatter.ProfileVersionerCore;
+import org.eclipse.jdt.ls.core.internal.ASTCache;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
@@ -64,6 +66,14 @@ public class FormatterHandler {
 	private static final char CLOSING_BRACE = '}';
 	private static final char NEW_LINE = '\n';
 
+	/**
+	 * The max number of formatters kept for reuse, one per set of formatter
+	 * options.
+	 */
+	public static final int MAX_FORMATTERS = 8;
+
+	private static final Map<Map<String, String>, CodeFormatter> formatters = new Formatters();
+
 	private PreferenceManager preferenceManager;
 
 	public FormatterHandler(PreferenceManager preferenceManager) {
@@ -103,17 +113,88 @@ public class FormatterHandler {
 		return format(cu, document, region, options, preferenceManager.getPreferences().isJavaFormatComments(), monitor);
 	}
 
+	/**
+	 * Formats the lines of a compilation unit modified since it was last saved,
+	 * with the formatter options of its project.
+	 *
+	 * @param cu
+	 *            the compilation unit to format
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the edits formatting the modified lines, empty if none was
+	 *         modified
+	 */
+	public List<org.eclipse.lsp4j.TextEdit> formatModifiedLines(ICompilationUnit cu, IProgressMonitor monitor) {
+		if (!preferenceManager.getPreferences().isJavaFormatEnabled()) {
+			return Collections.emptyList();
+		}
+		IRegion[] modified = ModifiedRegions.getInstance().get(cu);
+		if (modified.length == 0) {
+			return Collections.emptyList();
+		}
+		IDocument document = null;
+		IRegion[] regions = null;
+		try {
+			document = JsonRpcHelpers.toDocument(cu.getBuffer());
+			if (document != null) {
+				regions = getLineRegions(modified, document);
+			}
+		} catch (JavaModelException | BadLocationException e) {
+			JavaLanguageServerPlugin.logException(e.getMessage(), e);
+		}
+		if (regions == null) {
+			return Collections.emptyList();
+		}
+		return format(cu, document, regions, null, preferenceManager.getPreferences().isJavaFormatComments(), monitor);
+	}
+
+	/**
+	 * Extends the given sorted regions to whole lines, merging the regions
+	 * which share a line.
+	 */
+	private static IRegion[] getLineRegions(IRegion[] regions, IDocument document) throws BadLocationException {
+		List<IRegion> lines = new ArrayList<>(regions.length);
+		int length = document.getLength();
+		for (IRegion region : regions) {
+			int start = Math.min(region.getOffset(), length);
+			int end = Math.min(region.getOffset() + region.getLength(), length);
+			IRegion startLine = document.getLineInformationOfOffset(start);
+			IRegion endLine = document.getLineInformationOfOffset(end);
+			start = startLine.getOffset();
+			end = endLine.getOffset() + endLine.getLength();
+			int last = lines.size() - 1;
+			if (last >= 0 && lines.get(last).getOffset() + lines.get(last).getLength() >= start) {
+				start = lines.remove(last).getOffset();
+			}
+			lines.add(new Region(start, end - start));
+		}
+		return lines.toArray(new IRegion[lines.size()]);
+	}
+
 	private List<org.eclipse.lsp4j.TextEdit> format(ICompilationUnit cu, IDocument document, IRegion region, FormattingOptions options, boolean includeComments, IProgressMonitor monitor) {
-		if (cu == null || document == null || region == null || monitor.isCanceled()) {
+		if (region == null) {
+			return Collections.emptyList();
+		}
+		return format(cu, document, new IRegion[] { region }, options, includeComments, monitor);
+	}
+
+	private List<org.eclipse.lsp4j.TextEdit> format(ICompilationUnit cu, IDocument document, IRegion[] regions, FormattingOptions options, boolean includeComments, IProgressMonitor monitor) {
+		if (cu == null || document == null || regions == null || monitor.isCanceled()) {
 			return Collections.emptyList();
 		}
 
-		CodeFormatter formatter = ToolFactory.createCodeFormatter(getOptions(options, cu));
+		Map<String, String> formatterOptions = getOptions(options, cu);
+		CodeFormatter formatter = acquireFormatter(formatterOptions);
 
 		String lineDelimiter = TextUtilities.getDefaultLineDelimiter(document);
 		String sourceToFormat = document.get();
 		int kind = getFormattingKind(cu, includeComments);
-		TextEdit format = formatter.format(kind, sourceToFormat, region.getOffset(), region.getLength(), 0, lineDelimiter);
+		TextEdit format;
+		try {
+			format = formatter.format(kind, sourceToFormat, regions, 0, lineDelimiter);
+		} finally {
+			releaseFormatter(formatterOptions, formatter);
+		}
 		if (format == null || format.getChildren().length == 0 || monitor.isCanceled()) {
 			// nothing to return
 			return Collections.<org.eclipse.lsp4j.TextEdit>emptyList();
@@ -144,8 +225,32 @@ public class FormatterHandler {
 		return null;
 	}
 
+	/**
+	 * Returns a formatter for the given options, reusing the last formatter
+	 * created for the same options if it's not in use. The formatter must be
+	 * released once it's done formatting.
+	 */
+	private static CodeFormatter acquireFormatter(Map<String, String> options) {
+		synchronized (formatters) {
+			CodeFormatter formatter = formatters.remove(options);
+			if (formatter != null) {
+				return formatter;
+			}
+		}
+		return ToolFactory.createCodeFormatter(options);
+	}
+
+	private static void releaseFormatter(Map<String, String> options, CodeFormatter formatter) {
+		synchronized (formatters) {
+			formatters.put(options, formatter);
+		}
+	}
+
 	public static Map<String, String> getOptions(FormattingOptions options, ICompilationUnit cu) {
 		Map<String, String> eclipseOptions = cu.getOptions(true);
+		if (options == null) {
+			return eclipseOptions;
+		}
 
 		Map<String, String> customOptions = options.entrySet().stream().filter(map -> chekIfValueIsNotNull(map.getValue())).collect(toMap(e -> e.getKey(), e -> getOptionValue(e.getValue())));
 
@@ -282,7 +387,7 @@ public class FormatterHandler {
 
 			if (triggerChar == CLOSING_BRACE) {
 				//Format whole block, from beginning of line to end of last line
-				CompilationUnit astRoot = CoreASTProvider.getInstance().getAST(cu, CoreASTProvider.WAIT_YES, null);
+				CompilationUnit astRoot = ASTCache.getInstance().getAST(cu, null);
 				NodeFinder finder = new NodeFinder(astRoot, offset, length);
 				ASTNode block = finder.getCoveredNode();
 				if (block == null) {
@@ -336,13 +441,18 @@ public class FormatterHandler {
 		IDocument document = new Document();
 		document.set(content);
 		Map<String, String> formatOptions = (options == null) ? getCombinedDefaultFormatterSettings() : ProfileVersionerCore.updateAndComplete(options, version);
-		CodeFormatter formatter = ToolFactory.createCodeFormatter(formatOptions);
+		CodeFormatter formatter = acquireFormatter(formatOptions);
 		IRegion region = new Region(0, document.getLength());
 		int kind = CodeFormatter.K_COMPILATION_UNIT;
 		if (preferenceManager.getPreferences().isJavaFormatComments()) {
 			kind = kind | CodeFormatter.F_INCLUDE_COMMENTS;
 		}
-		TextEdit edit = formatter.format(kind, content, region.getOffset(), region.getLength(), 0, TextUtilities.getDefaultLineDelimiter(document));
+		TextEdit edit;
+		try {
+			edit = formatter.format(kind, content, region.getOffset(), region.getLength(), 0, TextUtilities.getDefaultLineDelimiter(document));
+		} finally {
+			releaseFormatter(formatOptions, formatter);
+		}
 		if (edit != null) {
 			try {
 				edit.apply(document);
@@ -367,4 +477,18 @@ public class FormatterHandler {
 		options.put(DefaultCodeFormatterConstants.FORMATTER_USE_ON_OFF_TAGS, DefaultCodeFormatterConstants.TRUE);
 		return options;
 	}
+
+	private static final class Formatters extends LinkedHashMap<Map<String, String>, CodeFormatter> {
+
+		private static final long serialVersionUID = 1L;
+
+		private Formatters() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Map<String, String>, CodeFormatter> eldest) {
+			return size() > MAX_FORMATTERS;
+		}
+	}
 }
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.CompletionContext;
+import org.eclipse.jdt.core.CompletionProposal;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.codeassist.RelevanceConstants;
+import org.eclipse.jdt.internal.codeassist.impl.AssistOptions;
+import org.eclipse.jdt.ls.core.internal.contentassist.CompletionProposalRequestor;
+import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
+
+/**
+ * The proposals of the last complete completion response, filtered instead of
+ * running the completion engine again while the same identifier is typed.
+ *
+ * A response is kept when it's complete and only made of proposals of the
+ * completion engine which match the token by their name. The next completion
+ * reuses it when the document only changed by identifier characters typed at
+ * the previous completion offset: the proposals still matching the longer
+ * token are ranked again, like the completion engine ranks the case matches,
+ * and their replaced range is extended over the typed characters. The kept
+ * response is dropped whenever the Java model changes outside of the
+ * completed compilation unit.
+ */
+public final class IncrementalCompletion {
+
+	private static IncrementalCompletion last;
+	private static boolean listening;
+
+	private final ICompilationUnit unit;
+	private final String source;
+	private final int offset;
+	private final CompletionContext context;
+	private final char[] token;
+	private final List<CompletionProposal> proposals;
+	private final List<char[]> names;
+	private final Preferences preferences;
+	private final int maxCompletions;
+
+	private IncrementalCompletion(ICompilationUnit unit, String source, int offset, CompletionContext context, char[] token, List<CompletionProposal> proposals, List<char[]> names, Preferences preferences) {
+		this.unit = unit;
+		this.source = source;
+		this.offset = offset;
+		this.context = context;
+		this.token = token;
+		this.proposals = proposals;
+		this.names = names;
+		this.preferences = preferences;
+		this.maxCompletions = preferences.getMaxCompletionResults();
+	}
+
+	/**
+	 * Keeps the proposals of a complete completion response for the next
+	 * completion, if they can be filtered.
+	 *
+	 * @param unit
+	 *            the completed compilation unit
+	 * @param source
+	 *            the source of the compilation unit when it was completed
+	 * @param offset
+	 *            the completion offset
+	 * @param collector
+	 *            the requestor which collected all the proposals of the
+	 *            response
+	 * @param preferences
+	 *            the preferences the response was computed with
+	 */
+	public static void store(ICompilationUnit unit, String source, int offset, CompletionProposalRequestor collector, Preferences preferences) {
+		CompletionContext context = collector.getContext();
+		if (source == null || context == null || context.getTokenKind() != CompletionContext.TOKEN_KIND_NAME || context.getToken() == null
+				|| context.getTokenStart() < 0 || context.getTokenStart() > offset || offset > source.length()) {
+			return;
+		}
+		// the token of a filtered response was extended since its context was created
+		char[] token = source.substring(context.getTokenStart(), offset).toCharArray();
+		if (!CharOperation.prefixEquals(context.getToken(), token, true)) {
+			return;
+		}
+		List<CompletionProposal> proposals = collector.getProposals();
+		List<char[]> names = new ArrayList<>(proposals.size());
+		for (CompletionProposal proposal : proposals) {
+			char[] name = getName(proposal);
+			if (name == null) {
+				return;
+			}
+			names.add(name);
+		}
+		IncrementalCompletion completion = new IncrementalCompletion(unit, source, offset, context, token, proposals, names, preferences);
+		synchronized (IncrementalCompletion.class) {
+			if (!listening) {
+				JavaCore.addElementChangedListener(IncrementalCompletion::elementChanged, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+				listening = true;
+			}
+			last = completion;
+		}
+	}
+
+	/**
+	 * Removes the kept proposals, so that they're not reused while they're
+	 * filtered or after they're outdated by a new completion.
+	 *
+	 * @return the kept proposals, or <code>null</code> if there are none
+	 */
+	public static synchronized IncrementalCompletion take() {
+		IncrementalCompletion completion = last;
+		last = null;
+		return completion;
+	}
+
+	/**
+	 * Filters the kept proposals for a completion at the given offset.
+	 *
+	 * @param unit
+	 *            the compilation unit to complete
+	 * @param source
+	 *            the current source of the compilation unit
+	 * @param newOffset
+	 *            the completion offset
+	 * @param manager
+	 *            the preference manager
+	 * @return the requestor which accepted the proposals still matching the
+	 *         token, or <code>null</code> if the completion engine must
+	 *         complete the compilation unit again
+	 */
+	public CompletionProposalRequestor filter(ICompilationUnit unit, String source, int newOffset, PreferenceManager manager) {
+		Preferences currentPreferences = manager.getPreferences();
+		if (!this.unit.equals(unit) || source == null || currentPreferences != preferences || currentPreferences.getMaxCompletionResults() != maxCompletions) {
+			return null;
+		}
+		int delta = newOffset - offset;
+		if (delta <= 0 || source.length() != this.source.length() + delta || !source.regionMatches(0, this.source, 0, offset)
+				|| !source.regionMatches(newOffset, this.source, offset, this.source.length() - offset)) {
+			return null;
+		}
+		for (int i = offset; i < newOffset; i++) {
+			if (!Character.isJavaIdentifierPart(source.charAt(i))) {
+				return null;
+			}
+		}
+		char[] newToken = CharOperation.concat(token, source.substring(offset, newOffset).toCharArray());
+		AssistOptions options = new AssistOptions(unit.getJavaProject().getOptions(true));
+		CompletionProposalRequestor collector = new CompletionProposalRequestor(unit, newOffset, manager);
+		collector.acceptContext(context);
+		for (int i = 0; i < proposals.size(); i++) {
+			CompletionProposal proposal = proposals.get(i);
+			char[] name = names.get(i);
+			if (!matches(newToken, name, options)) {
+				continue;
+			}
+			proposal.setRelevance(proposal.getRelevance() - getCaseRelevance(token, name, options) + getCaseRelevance(newToken, name, options));
+			shiftRanges(proposal, delta);
+			collector.accept(proposal);
+		}
+		return collector;
+	}
+
+	/**
+	 * Extends the ranges ending at the previous completion offset over the
+	 * typed characters.
+	 */
+	private void shiftRanges(CompletionProposal proposal, int delta) {
+		if (proposal.getReplaceEnd() >= offset) {
+			proposal.setReplaceRange(proposal.getReplaceStart(), proposal.getReplaceEnd() + delta);
+		}
+		if (proposal.getTokenEnd() >= offset) {
+			proposal.setTokenRange(proposal.getTokenStart(), proposal.getTokenEnd() + delta);
+		}
+		CompletionProposal[] requiredProposals = proposal.getRequiredProposals();
+		if (requiredProposals != null) {
+			for (CompletionProposal requiredProposal : requiredProposals) {
+				shiftRanges(requiredProposal, delta);
+			}
+		}
+	}
+
+	/**
+	 * Returns the name the completion engine matches the token with, or
+	 * <code>null</code> if the proposal can't be filtered.
+	 */
+	private static char[] getName(CompletionProposal proposal) {
+		switch (proposal.getKind()) {
+			case CompletionProposal.TYPE_REF:
+				return proposal.getSignature() == null ? null : Signature.getSignatureSimpleName(proposal.getSignature());
+			case CompletionProposal.CONSTRUCTOR_INVOCATION:
+			case CompletionProposal.ANONYMOUS_CLASS_CONSTRUCTOR_INVOCATION:
+				return proposal.getDeclarationSignature() == null ? null : Signature.getSignatureSimpleName(proposal.getDeclarationSignature());
+			case CompletionProposal.FIELD_REF:
+			case CompletionProposal.FIELD_REF_WITH_CASTED_RECEIVER:
+			case CompletionProposal.METHOD_REF:
+			case CompletionProposal.METHOD_REF_WITH_CASTED_RECEIVER:
+			case CompletionProposal.METHOD_NAME_REFERENCE:
+			case CompletionProposal.METHOD_DECLARATION:
+			case CompletionProposal.LOCAL_VARIABLE_REF:
+			case CompletionProposal.KEYWORD:
+			case CompletionProposal.LABEL_REF:
+			case CompletionProposal.ANNOTATION_ATTRIBUTE_REF:
+				char[] name = proposal.getName();
+				return name == null || name.length == 0 ? null : name;
+			default:
+				// generated from the token, or matched by another name
+				return null;
+		}
+	}
+
+	private static boolean matches(char[] token, char[] name, AssistOptions options) {
+		return CharOperation.prefixEquals(token, name, false) || (options.camelCaseMatch && CharOperation.camelCaseMatch(token, name))
+				|| (options.substringMatch && CharOperation.substringMatch(token, name)) || (options.subwordMatch && CharOperation.subWordMatch(token, name) != null);
+	}
+
+	/**
+	 * Returns the relevance the completion engine gives to how the name
+	 * matches the token, see
+	 * <code>CompletionEngine.computeRelevanceForCaseMatching</code>.
+	 */
+	private static int getCaseRelevance(char[] token, char[] name, AssistOptions options) {
+		if (CharOperation.equals(token, name, true)) {
+			return RelevanceConstants.R_EXACT_NAME + RelevanceConstants.R_CASE;
+		} else if (CharOperation.equals(token, name, false)) {
+			return RelevanceConstants.R_EXACT_NAME;
+		} else if (CharOperation.prefixEquals(token, name, false)) {
+			if (CharOperation.prefixEquals(token, name, true)) {
+				return RelevanceConstants.R_CASE;
+			}
+		} else if (options.camelCaseMatch && CharOperation.camelCaseMatch(token, name)) {
+			return RelevanceConstants.R_CAMEL_CASE;
+		} else if (options.substringMatch && CharOperation.substringMatch(token, name)) {
+			return RelevanceConstants.R_SUBSTRING;
+		} else if (options.subwordMatch && CharOperation.subWordMatch(token, name) != null) {
+			return RelevanceConstants.R_SUBWORD;
+		}
+		return 0;
+	}
+
+	private static void elementChanged(ElementChangedEvent event) {
+		IJavaElement element = event.getDelta().getElement();
+		synchronized (IncrementalCompletion.class) {
+			if (last != null && (event.getType() == ElementChangedEvent.POST_CHANGE || !last.unit.equals(element))) {
+				last = null;
+			}
+		}
+	}
+}
@@ -25,6 +25,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -47,6 +48,8 @@ import org.eclipse.jdt.ls.core.internal.JavaClientConnection.JavaLanguageClient;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.LanguageServerWorkingCopyOwner;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors.RequestKind;
 import org.eclipse.jdt.ls.core.internal.ServiceStatus;
 import org.eclipse.jdt.ls.core.internal.codemanipulation.GenerateGetterSetterOperation.AccessorField;
 import org.eclipse.jdt.ls.core.internal.contentassist.NewCompletionItem;
@@ -129,7 +132,10 @@ import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SelectionRange;
 import org.eclipse.lsp4j.SelectionRangeParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.eclipse.lsp4j.SymbolInformation;
@@ -141,7 +147,6 @@ import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.WorkspaceSymbolParams;
 import org.eclipse.lsp4j.extended.ProjectConfigurationsUpdateParam;
 import org.eclipse.lsp4j.extended.ProjectBuildParams;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.services.JsonDelegate;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -175,6 +180,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	private WorkspaceExecuteCommandHandler commandHandler;
 
 	private ProgressReporterManager progressReporterManager;
+	private RequestCoalescer requestCoalescer = new RequestCoalescer();
 	/**
 	 * The status of the language service
 	 */
@@ -194,6 +200,9 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 					classpathUpdateHandler.removeElementChangeListener();
 					classpathUpdateHandler = null;
 				}
+				if (documentLifeCycleHandler != null) {
+					documentLifeCycleHandler.dispose();
+				}
 				ResourcesPlugin.getWorkspace().save(true, monitor);
 			} catch (CoreException e) {
 				logException(e.getMessage(), e);
@@ -477,7 +486,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<List<? extends SymbolInformation>> symbol(WorkspaceSymbolParams params) {
 		logInfo(">> workspace/symbol");
-		return computeAsync((monitor) -> {
+		return computeAsync(RequestKind.BACKGROUND, (monitor) -> {
 			return WorkspaceSymbolHandler.search(params.getQuery(), monitor);
 		});
 	}
@@ -552,7 +561,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<Object> executeCommand(ExecuteCommandParams params) {
 		logInfo(">> workspace/executeCommand " + (params == null ? null : params.getCommand()));
-		return computeAsync((monitor) -> {
+		return computeAsync(RequestKind.COMMAND, (monitor) -> {
 			return commandHandler.executeCommand(params, monitor);
 		});
 	}
@@ -677,7 +686,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<? extends Location>> references(ReferenceParams params) {
 		logInfo(">> document/references");
 		ReferencesHandler handler = new ReferencesHandler(this.preferenceManager);
-		return computeAsync((monitor) -> handler.findReferences(params, monitor));
+		return computeAsync(RequestKind.BACKGROUND, (monitor) -> handler.findReferences(params, monitor));
 	}
 
 	@Override
@@ -702,10 +711,10 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>> documentSymbol(DocumentSymbolParams params) {
 		logInfo(">> document/documentSymbol");
 		DocumentSymbolHandler handler = new DocumentSymbolHandler(preferenceManager);
-		return computeAsync((monitor) -> {
+		return coalesce("textDocument/documentSymbol", params.getTextDocument().getUri(), null, () -> computeAsync((monitor) -> {
 			waitForLifecycleJobs(monitor);
 			return handler.documentSymbol(params, monitor);
-		});
+		}));
 	}
 
 	/* (non-Javadoc)
@@ -715,7 +724,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(CodeActionParams params) {
 		logInfo(">> document/codeAction");
 		CodeActionHandler handler = new CodeActionHandler(this.preferenceManager);
-		return computeAsync((monitor) -> {
+		return computeAsync(RequestKind.COMMAND, (monitor) -> {
 			waitForLifecycleJobs(monitor);
 			return handler.getCodeActionCommands(params, monitor);
 		});
@@ -748,10 +757,10 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
 		logInfo(">> document/codeLens");
 		CodeLensHandler handler = new CodeLensHandler(preferenceManager);
-		return computeAsync((monitor) -> {
+		return coalesce("textDocument/codeLens", params.getTextDocument().getUri(), null, () -> computeAsync((monitor) -> {
 			waitForLifecycleJobs(monitor);
 			return handler.getCodeLensSymbols(params.getTextDocument().getUri(), monitor);
-		});
+		}));
 	}
 
 	/* (non-Javadoc)
@@ -774,7 +783,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<? extends TextEdit>> formatting(DocumentFormattingParams params) {
 		logInfo(">> document/formatting");
 		FormatterHandler handler = new FormatterHandler(preferenceManager);
-		return computeAsync((monitor) -> handler.formatting(params, monitor));
+		return computeAsync(RequestKind.COMMAND, (monitor) -> handler.formatting(params, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -784,7 +793,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<? extends TextEdit>> rangeFormatting(DocumentRangeFormattingParams params) {
 		logInfo(">> document/rangeFormatting");
 		FormatterHandler handler = new FormatterHandler(preferenceManager);
-		return computeAsync((monitor) -> handler.rangeFormatting(params, monitor));
+		return computeAsync(RequestKind.COMMAND, (monitor) -> handler.rangeFormatting(params, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -794,7 +803,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<? extends TextEdit>> onTypeFormatting(DocumentOnTypeFormattingParams params) {
 		logInfo(">> document/onTypeFormatting");
 		FormatterHandler handler = new FormatterHandler(preferenceManager);
-		return computeAsync((monitor) -> handler.onTypeFormatting(params, monitor));
+		return computeAsync(RequestKind.COMMAND, (monitor) -> handler.onTypeFormatting(params, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -817,7 +826,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<WorkspaceEdit> rename(RenameParams params) {
 		logInfo(">> document/rename");
 		RenameHandler handler = new RenameHandler(preferenceManager);
-		return computeAsync((monitor) -> {
+		return computeAsync(RequestKind.COMMAND, (monitor) -> {
 			waitForLifecycleJobs(monitor);
 			return handler.rename(params, monitor);
 		});
@@ -857,7 +866,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	public CompletableFuture<List<TextEdit>> willSaveWaitUntil(WillSaveTextDocumentParams params) {
 		logInfo(">> document/willSaveWaitUntil");
 		SaveActionHandler handler = new SaveActionHandler(preferenceManager);
-		return computeAsync((monitor) -> handler.willSaveWaitUntil(params, monitor));
+		return computeAsync(RequestKind.COMMAND, (monitor) -> handler.willSaveWaitUntil(params, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -872,7 +881,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<WorkspaceEdit> willRenameFiles(RenameFilesParams params) {
 		logInfo(">> workspace/willRenameFiles");
-		return computeAsyncWithClientProgress((monitor) -> {
+		return computeAsyncWithClientProgress(RequestKind.COMMAND, (monitor) -> {
 			waitForLifecycleJobs(monitor);
 			return FileEventHandler.handleWillRenameFiles(params, monitor);
 		});
@@ -919,14 +928,14 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 		boolean rebuild = forceRebuild.isLeft() ? forceRebuild.getLeft() : forceRebuild.getRight()[0];
 		logInfo(">> java/buildWorkspace (" + (rebuild ? "full)" : "incremental)"));
 		BuildWorkspaceHandler handler = new BuildWorkspaceHandler(pm);
-		return computeAsyncWithClientProgress((monitor) -> handler.buildWorkspace(rebuild, monitor));
+		return computeAsyncWithClientProgress(RequestKind.COMMAND, (monitor) -> handler.buildWorkspace(rebuild, monitor));
 	}
 
 	@Override
 	public CompletableFuture<BuildWorkspaceStatus> buildProjects(ProjectBuildParams params) {
 		logInfo(">> java/buildProjects");
 		BuildWorkspaceHandler handler = new BuildWorkspaceHandler(pm);
-		return computeAsyncWithClientProgress((monitor) -> handler.buildProjects(params, monitor));
+		return computeAsyncWithClientProgress(RequestKind.COMMAND, (monitor) -> handler.buildProjects(params, monitor));
 	}
 
 	/* (non-Javadoc)
@@ -942,7 +951,7 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> implementation(ImplementationParams position) {
 		logInfo(">> document/implementation");
-		return computeAsyncWithClientProgress((monitor) -> {
+		return computeAsyncWithClientProgress(RequestKind.BACKGROUND, (monitor) -> {
 			ImplementationsHandler handler = new ImplementationsHandler(preferenceManager);
 			return Either.forLeft(handler.findImplementations(position, monitor));
 		});
@@ -954,16 +963,16 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<List<FoldingRange>> foldingRange(FoldingRangeRequestParams params) {
 		logInfo(">> document/foldingRange");
-		return computeAsyncWithClientProgress((monitor) -> {
+		return coalesce("textDocument/foldingRange", params.getTextDocument().getUri(), null, () -> computeAsyncWithClientProgress(RequestKind.INTERACTIVE, (monitor) -> {
 			waitForLifecycleJobs(monitor);
 			return new FoldingRangeHandler().foldingRange(params, monitor);
-		});
+		}));
 	}
 
 	@Override
 	public CompletableFuture<List<SelectionRange>> selectionRange(SelectionRangeParams params) {
 		logInfo(">> document/selectionRange");
-		return computeAsyncWithClientProgress((monitor) -> {
+		return computeAsyncWithClientProgress(RequestKind.INTERACTIVE, (monitor) -> {
 			waitForLifecycleJobs(monitor);
 			return new SelectionRangeHandler().selectionRange(params, monitor);
 		});
@@ -1068,48 +1077,75 @@ public class JDTLanguageServer extends BaseJDTLanguageServer implements Language
 	@Override
 	public CompletableFuture<RefactorWorkspaceEdit> move(MoveParams params) {
 		logInfo(">> java/move");
-		return computeAsyncWithClientProgress((monitor) -> MoveHandler.move(params, monitor));
+		return computeAsyncWithClientProgress(RequestKind.COMMAND, (monitor) -> MoveHandler.move(params, monitor));
 	}
 
 	@Override
 	public CompletableFuture<List<SymbolInformation>> searchSymbols(SearchSymbolParams params) {
 		logInfo(">> java/searchSymbols");
-		return computeAsyncWithClientProgress((monitor) -> WorkspaceSymbolHandler.search(params.getQuery(), params.maxResults, params.projectName, params.sourceOnly, monitor));
+		return computeAsyncWithClientProgress(RequestKind.BACKGROUND, (monitor) -> WorkspaceSymbolHandler.search(params.getQuery(), params.maxResults, params.projectName, params.sourceOnly, monitor));
 	}
 
 	@Override
 	public CompletableFuture<List<CallHierarchyItem>> prepareCallHierarchy(CallHierarchyPrepareParams params) {
 		logInfo(">> textDocument/prepareCallHierarchy");
-		return computeAsyncWithClientProgress((monitor) -> new CallHierarchyHandler().prepareCallHierarchy(params, monitor));
+		return computeAsyncWithClientProgress(RequestKind.BACKGROUND, (monitor) -> new CallHierarchyHandler().prepareCallHierarchy(params, monitor));
 	}
 
 	@Override
 	public CompletableFuture<List<CallHierarchyIncomingCall>> callHierarchyIncomingCalls(CallHierarchyIncomingCallsParams params) {
 		logInfo(">> callHierarchy/incomingCalls");
-		return computeAsyncWithClientProgress((monitor) -> new CallHierarchyHandler().callHierarchyIncomingCalls(params, monitor));
+		return computeAsyncWithClientProgress(RequestKind.BACKGROUND, (monitor) -> new CallHierarchyHandler().callHierarchyIncomingCalls(params, monitor));
 	}
 
 	@Override
 	public CompletableFuture<List<CallHierarchyOutgoingCall>> callHierarchyOutgoingCalls(CallHierarchyOutgoingCallsParams params) {
 		logInfo(">> callHierarchy/outgoingCalls");
-		return computeAsyncWithClientProgress((monitor) -> new CallHierarchyHandler().callHierarchyOutgoingCalls(params, monitor));
+		return computeAsyncWithClientProgress(RequestKind.BACKGROUND, (monitor) -> new CallHierarchyHandler().callHierarchyOutgoingCalls(params, monitor));
 	}
 
 	@Override
 	public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
 		logInfo(">> textDocument/semanticTokens/full");
-		return computeAsync(monitor -> SemanticTokensHandler.full(monitor, params,
-			documentLifeCycleHandler.new DocumentMonitor(params.getTextDocument().getUri())));
+		return coalesce("textDocument/semanticTokens/full", params.getTextDocument().getUri(), null,
+			() -> computeAsyncAfter(JobHelpers.waitForJobsAsync(DocumentLifeCycleHandler.DOCUMENT_LIFE_CYCLE_JOBS), monitor -> SemanticTokensHandler.full(monitor, params,
+				documentLifeCycleHandler.new DocumentMonitor(params.getTextDocument().getUri()))));
+	}
+
+	@Override
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(SemanticTokensDeltaParams params) {
+		logInfo(">> textDocument/semanticTokens/full/delta");
+		return coalesce("textDocument/semanticTokens/full/delta", params.getTextDocument().getUri(), params.getPreviousResultId(),
+			() -> computeAsyncAfter(JobHelpers.waitForJobsAsync(DocumentLifeCycleHandler.DOCUMENT_LIFE_CYCLE_JOBS), monitor -> SemanticTokensHandler.delta(monitor, params,
+				documentLifeCycleHandler.new DocumentMonitor(params.getTextDocument().getUri()))));
+	}
+
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensRange(SemanticTokensRangeParams params) {
+		logInfo(">> textDocument/semanticTokens/range");
+		return coalesce("textDocument/semanticTokens/range", params.getTextDocument().getUri(), params.getRange(),
+			() -> computeAsyncAfter(JobHelpers.waitForJobsAsync(DocumentLifeCycleHandler.DOCUMENT_LIFE_CYCLE_JOBS), monitor -> SemanticTokensHandler.range(monitor, params,
+				documentLifeCycleHandler.new DocumentMonitor(params.getTextDocument().getUri()))));
 	}
 
 	@Override
 	public CompletableFuture<List<InlayHint>> inlayHint(InlayHintParams params) {
 		logInfo(">> textDocument/inlayHint");
-		return computeAsync(monitor -> new InlayHintsHandler(preferenceManager).inlayHint(params, monitor));
+		return coalesce("textDocument/inlayHint", params.getTextDocument().getUri(), params.getRange(),
+			() -> computeAsyncAfter(JobHelpers.waitForJobsAsync(DocumentLifeCycleHandler.DOCUMENT_LIFE_CYCLE_JOBS), monitor -> new InlayHintsHandler(preferenceManager).inlayHint(params, monitor)));
+	}
+
+	/**
+	 * Shares the in-flight result of an identical request on the same version
+	 * of the document, and supersedes the requests on older versions, see
+	 * {@link RequestCoalescer}.
+	 */
+	private <R> CompletableFuture<R> coalesce(String method, String uri, Object arguments, Supplier<CompletableFuture<R>> computation) {
+		return requestCoalescer.coalesce(method, uri, documentLifeCycleHandler.getDocumentVersion(uri), arguments, computation);
 	}
 
-	private <R> CompletableFuture<R> computeAsyncWithClientProgress(Function<IProgressMonitor, R> code) {
-		return CompletableFutures.computeAsync((cc) -> {
+	private <R> CompletableFuture<R> computeAsyncWithClientProgress(RequestKind kind, Function<IProgressMonitor, R> code) {
+		return RequestExecutors.getInstance().computeAsync(kind, (cc) -> {
 			IProgressMonitor monitor = progressReporterManager.getProgressReporter(cc);
 			return code.apply(monitor);
 		});
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.CompletionProposal;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors.RequestKind;
+import org.eclipse.jdt.ls.core.internal.contentassist.CompletionProposalRequestor;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache.Format;
+import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.eclipse.lsp4j.CompletionItem;
+
+/**
+ * Renders the Javadoc of the first items of a completion response in the
+ * background, right after the response is sent, so that their
+ * <code>completionItem/resolve</code> requests find it in the
+ * {@link JavadocCache} instead of waiting for its rendering.
+ *
+ * The prefetch of a completion response is cancelled as soon as a new
+ * completion is requested. The number of prefetched items is set by the
+ * <code>completion.prefetchJavadoc</code> system property, 0 disables the
+ * prefetch.
+ */
+public class JavadocPrefetcher {
+
+	public static final int DEFAULT_PREFETCH_COUNT = 10;
+
+	private static JavadocPrefetcher instance;
+
+	private final int count;
+	private IProgressMonitor current;
+
+	public JavadocPrefetcher(int count) {
+		this.count = count;
+	}
+
+	public static synchronized JavadocPrefetcher getInstance() {
+		if (instance == null) {
+			instance = new JavadocPrefetcher(Integer.getInteger("completion.prefetchJavadoc", DEFAULT_PREFETCH_COUNT));
+		}
+		return instance;
+	}
+
+	/**
+	 * Starts rendering the Javadoc of the first items of a completion response,
+	 * cancelling the previous prefetch.
+	 *
+	 * @param unit
+	 *            the compilation unit the completion is computed in
+	 * @param items
+	 *            the completion items, in the order they're sent
+	 * @param format
+	 *            the format of the documentation of the completion items
+	 * @param executor
+	 *            the executor to render the Javadoc on
+	 * @return the future completed once the Javadoc is rendered, cancelled if
+	 *         the executor drops the prefetch
+	 */
+	public Future<?> prefetch(ICompilationUnit unit, List<CompletionItem> items, Format format, ExecutorService executor) {
+		List<CompletionItem> prefetched = new ArrayList<>(items.subList(0, Math.min(count, items.size())));
+		IProgressMonitor monitor = new NullProgressMonitor();
+		synchronized (this) {
+			cancel();
+			current = monitor;
+		}
+		if (prefetched.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		try {
+			return executor.submit(() -> {
+				JavadocCache cache = JavaLanguageServerPlugin.getJavadocCache();
+				for (CompletionItem item : prefetched) {
+					if (monitor.isCanceled()) {
+						return;
+					}
+					IMember member = resolveMember(unit, item);
+					if (member != null) {
+						try {
+							cache.getJavadoc(member, format);
+						} catch (CoreException | RuntimeException e) {
+							// reported when the item is resolved
+						}
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// the Javadoc executor is busy, the items are resolved without prefetch
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	/**
+	 * Prefetches the Javadoc of the first items of a completion response on
+	 * the Javadoc executor, in the documentation format of the client.
+	 */
+	public Future<?> prefetch(ICompilationUnit unit, List<CompletionItem> items, PreferenceManager manager) {
+		boolean markdown = manager.getClientPreferences().isSupportsCompletionDocumentationMarkdown();
+		return prefetch(unit, items, markdown ? Format.MARKDOWN : Format.PLAIN_TEXT, RequestExecutors.getInstance().getExecutor(RequestKind.JAVADOC));
+	}
+
+	/**
+	 * Cancels the current prefetch. The Javadoc being rendered is still
+	 * cached.
+	 */
+	public synchronized void cancel() {
+		if (current != null) {
+			current.setCanceled(true);
+			current = null;
+		}
+	}
+
+	private static IMember resolveMember(ICompilationUnit unit, CompletionItem item) {
+		if (!CompletionProposalRequestor.SUPPORTED_KINDS.contains(item.getKind()) || !(item.getData() instanceof Map)) {
+			return null;
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, String> data = (Map<String, String>) item.getData();
+		if (!data.containsKey(CompletionResolveHandler.DATA_FIELD_REQUEST_ID) || !data.containsKey(CompletionResolveHandler.DATA_FIELD_PROPOSAL_ID)) {
+			return null;
+		}
+		try {
+			CompletionResponse response = CompletionResponses.get(Long.parseLong(data.get(CompletionResolveHandler.DATA_FIELD_REQUEST_ID)));
+			int proposalId = Integer.parseInt(data.get(CompletionResolveHandler.DATA_FIELD_PROPOSAL_ID));
+			if (response == null || response.getProposals().size() <= proposalId) {
+				return null;
+			}
+			CompletionProposal proposal = response.getProposals().get(proposalId);
+			IMember member = CompletionResolveHandler.resolveMember(unit, proposal, data);
+			return member != null && member.exists() ? member : null;
+		} catch (CoreException | RuntimeException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+/**
+ * Tracks the regions of the open compilation units modified since they were
+ * last saved, from the <code>textDocument/didChange</code> notifications, so
+ * that the save actions can format the modified lines only.
+ *
+ * The regions are kept sorted and disjoint, in offsets of the current content
+ * of the compilation unit: a change shifts the regions after it and merges
+ * the regions it touches into a single region.
+ */
+public class ModifiedRegions {
+
+	private static final ModifiedRegions instance = new ModifiedRegions();
+
+	private final Map<ICompilationUnit, List<int[]>> regions = new HashMap<>();
+
+	public static ModifiedRegions getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Records a change of a compilation unit.
+	 *
+	 * @param unit
+	 *            the changed compilation unit
+	 * @param offset
+	 *            the offset of the replaced text
+	 * @param length
+	 *            the length of the replaced text
+	 * @param newLength
+	 *            the length of the text replacing it
+	 */
+	public synchronized void changed(ICompilationUnit unit, int offset, int length, int newLength) {
+		List<int[]> current = regions.get(unit);
+		List<int[]> changed = new ArrayList<>(current == null ? 1 : current.size() + 1);
+		int end = offset + length;
+		int delta = newLength - length;
+		int start = offset;
+		int newEnd = offset + newLength;
+		int index = 0;
+		if (current != null) {
+			for (int[] region : current) {
+				if (region[1] < offset) {
+					changed.add(region);
+					index++;
+				} else if (region[0] > end) {
+					changed.add(new int[] { region[0] + delta, region[1] + delta });
+				} else {
+					start = Math.min(start, region[0]);
+					newEnd = Math.max(newEnd, region[1] + delta);
+				}
+			}
+		}
+		changed.add(index, new int[] { start, newEnd });
+		regions.put(unit, changed);
+	}
+
+	/**
+	 * Records that the whole content of a compilation unit was replaced.
+	 */
+	public synchronized void replaced(ICompilationUnit unit, int newLength) {
+		List<int[]> changed = new ArrayList<>(1);
+		changed.add(new int[] { 0, newLength });
+		regions.put(unit, changed);
+	}
+
+	/**
+	 * Returns the regions of a compilation unit modified since it was last
+	 * saved.
+	 *
+	 * @return the sorted and disjoint modified regions, empty if the
+	 *         compilation unit wasn't modified
+	 */
+	public synchronized IRegion[] get(ICompilationUnit unit) {
+		List<int[]> current = regions.get(unit);
+		if (current == null) {
+			return new IRegion[0];
+		}
+		IRegion[] result = new IRegion[current.size()];
+		for (int i = 0; i < result.length; i++) {
+			int[] region = current.get(i);
+			result[i] = new Region(region[0], region[1] - region[0]);
+		}
+		return result;
+	}
+
+	/**
+	 * Forgets the modified regions of a compilation unit, once it's saved or
+	 * closed.
+	 */
+	public synchronized void clear(ICompilationUnit unit) {
+		regions.remove(unit);
+	}
+}
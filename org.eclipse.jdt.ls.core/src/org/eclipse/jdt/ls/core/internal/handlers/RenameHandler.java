@@ -14,17 +14,21 @@
 
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.ls.core.internal.ChangeUtil;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
+import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.corext.refactoring.rename.RenameSupport;
+import org.eclipse.jdt.ls.core.internal.preferences.ClientPreferences;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.lsp4j.RenameOptions;
 import org.eclipse.lsp4j.RenameParams;
@@ -94,6 +98,11 @@ public class RenameHandler {
 			}
 
 			Change change = create.getChange();
+			int chunkSize = preferenceManager.getPreferences().getRenameApplyEditChunkSize();
+			if (chunkSize > 0 && canApplyEditsInChunks() && ChangeUtil.countChanges(change) > chunkSize) {
+				applyEditsInChunks(change, chunkSize, monitor);
+				return edit;
+			}
 			return ChangeUtil.convertToWorkspaceEdit(change);
 		} catch (CoreException ex) {
 			JavaLanguageServerPlugin.logException("Problem with rename for " + params.getTextDocument().getUri(), ex);
@@ -101,4 +110,51 @@ public class RenameHandler {
 
 		return edit;
 	}
+
+	/**
+	 * The edits of a change can be applied in chunks when the client applies
+	 * the document changes of an edit in order.
+	 */
+	private boolean canApplyEditsInChunks() {
+		ClientPreferences clientPreferences = preferenceManager.getClientPreferences();
+		return clientPreferences != null && clientPreferences.isWorkspaceApplyEditSupported() && clientPreferences.isResourceOperationSupported();
+	}
+
+	/**
+	 * Applies the edits of a large change on the client, in chunks of the
+	 * given number of documents, instead of returning all of them in the
+	 * rename response. When a chunk fails once others are applied, the
+	 * response error tells the rename is partially applied.
+	 */
+	private static void applyEditsInChunks(Change change, int chunkSize, IProgressMonitor monitor) throws CoreException {
+		int count = ChangeUtil.countChanges(change);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, "Applying rename edits", (count + chunkSize - 1) / chunkSize);
+		JavaClientConnection connection = JavaLanguageServerPlugin.getInstance().getClientConnection();
+		AtomicInteger applied = new AtomicInteger();
+		// not cancelable once started, a partially applied rename would break the code
+		try {
+			ChangeUtil.convertToWorkspaceEdits(change, chunkSize, chunk -> {
+				if (!connection.applyWorkspaceEdit(chunk)) {
+					throw new ResponseErrorException(new ResponseError(ResponseErrorCode.InternalError, getFailureMessage("The client failed to apply the rename edits", applied.get()), null));
+				}
+				applied.incrementAndGet();
+				subMonitor.worked(1);
+			});
+		} catch (CoreException | RuntimeException e) {
+			if (applied.get() == 0 || e instanceof ResponseErrorException) {
+				throw e;
+			}
+			JavaLanguageServerPlugin.logException("Problem applying the rename edits", e);
+			throw new ResponseErrorException(new ResponseError(ResponseErrorCode.InternalError, getFailureMessage("Unable to convert the rename edits", applied.get()), null));
+		} finally {
+			subMonitor.done();
+		}
+	}
+
+	private static String getFailureMessage(String message, int applied) {
+		if (applied == 0) {
+			return message;
+		}
+		return message + ", the rename is partially applied: the edits of " + applied + (applied == 1 ? " chunk are" : " chunks are") + " applied and must be undone";
+	}
 }
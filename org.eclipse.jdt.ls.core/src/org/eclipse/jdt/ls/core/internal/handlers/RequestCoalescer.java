@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+
+/**
+ * Coalesces the document-scoped requests the clients tend to repeat while the
+ * user types (semantic tokens, inlay hints, code lenses, ...).
+ *
+ * The requests are keyed by method and document URI. A request for the same
+ * document version and arguments as an in-flight one shares its result
+ * instead of being computed again. A request for a newer document version
+ * supersedes the in-flight one, which is cancelled and whose callers get a
+ * <code>ContentModified</code> error.
+ */
+public class RequestCoalescer {
+
+	private static final int CONTENT_MODIFIED = -32801;
+
+	private final Map<String, InFlight<?>> inFlight = new HashMap<>();
+
+	/**
+	 * Returns the result of the in-flight computation of the given request if
+	 * there is one for the same document version and arguments, starts a new
+	 * one otherwise.
+	 *
+	 * @param method
+	 *            the method of the request
+	 * @param uri
+	 *            the URI of the document
+	 * @param version
+	 *            the current version of the document, <code>null</code> if it
+	 *            isn't open
+	 * @param arguments
+	 *            the other arguments the result depends on (e.g. a range), can
+	 *            be <code>null</code>
+	 * @param computation
+	 *            starts the computation of the request
+	 * @return the future result, cancelling it only cancels the computation
+	 *         once all the callers sharing it have cancelled
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> CompletableFuture<R> coalesce(String method, String uri, Integer version, Object arguments, Supplier<CompletableFuture<R>> computation) {
+		String key = method + '\n' + uri;
+		InFlight<R> entry;
+		synchronized (inFlight) {
+			InFlight<?> current = inFlight.get(key);
+			if (current != null && !current.computation.isDone()) {
+				if (!Objects.equals(current.version, version)) {
+					current.supersede();
+				} else if (Objects.equals(current.arguments, arguments)) {
+					CompletableFuture<R> shared = ((InFlight<R>) current).join();
+					if (shared != null) {
+						return shared;
+					}
+				}
+			}
+			entry = new InFlight<>(version, arguments, computation.get());
+			inFlight.put(key, entry);
+		}
+		InFlight<R> created = entry;
+		entry.computation.whenComplete((value, error) -> {
+			synchronized (inFlight) {
+				inFlight.remove(key, created);
+			}
+		});
+		return entry.join();
+	}
+
+	/**
+	 * Returns the number of in-flight computations.
+	 */
+	public int size() {
+		synchronized (inFlight) {
+			return inFlight.size();
+		}
+	}
+
+	private static final class InFlight<R> {
+
+		private final Integer version;
+		private final Object arguments;
+		private final CompletableFuture<R> computation;
+		private final List<CompletableFuture<R>> callers = new ArrayList<>();
+		private boolean released;
+
+		private InFlight(Integer version, Object arguments, CompletableFuture<R> computation) {
+			this.version = version;
+			this.arguments = arguments;
+			this.computation = computation;
+		}
+
+		/**
+		 * Returns a new view of the result of the computation, or
+		 * <code>null</code> if all the previous callers have cancelled it.
+		 */
+		private CompletableFuture<R> join() {
+			CompletableFuture<R> caller = new CompletableFuture<>();
+			synchronized (this) {
+				if (released) {
+					return null;
+				}
+				callers.add(caller);
+			}
+			computation.whenComplete((value, error) -> {
+				if (error != null) {
+					caller.completeExceptionally(error);
+				} else {
+					caller.complete(value);
+				}
+			});
+			caller.whenComplete((value, error) -> {
+				if (caller.isCancelled()) {
+					release(caller);
+				}
+			});
+			return caller;
+		}
+
+		private void release(CompletableFuture<R> caller) {
+			synchronized (this) {
+				callers.remove(caller);
+				if (!callers.isEmpty()) {
+					return;
+				}
+				released = true;
+			}
+			computation.cancel(true);
+		}
+
+		private void supersede() {
+			List<CompletableFuture<R>> superseded;
+			synchronized (this) {
+				released = true;
+				superseded = new ArrayList<>(callers);
+				callers.clear();
+			}
+			ResponseErrorException error = new ResponseErrorException(new ResponseError(CONTENT_MODIFIED, "Document changed, request superseded", null));
+			for (CompletableFuture<R> caller : superseded) {
+				caller.completeExceptionally(error);
+			}
+			computation.cancel(true);
+		}
+	}
+}
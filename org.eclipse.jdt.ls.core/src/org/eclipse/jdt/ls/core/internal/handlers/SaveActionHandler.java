@@ -17,10 +17,13 @@ import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.commands.OrganizeImportsCommand;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.WillSaveTextDocumentParams;
 import org.eclipse.lsp4j.WorkspaceEdit;
@@ -29,10 +32,12 @@ public class SaveActionHandler {
 
 	private PreferenceManager preferenceManager;
 	private OrganizeImportsCommand organizeImportsCommand;
+	private FormatterHandler formatterHandler;
 
 	public SaveActionHandler(PreferenceManager preferenceManager) {
 		this.preferenceManager = preferenceManager;
 		this.organizeImportsCommand = new OrganizeImportsCommand();
+		this.formatterHandler = new FormatterHandler(preferenceManager);
 	}
 
 	public List<TextEdit> willSaveWaitUntil(WillSaveTextDocumentParams params, IProgressMonitor monitor) {
@@ -48,9 +53,35 @@ public class SaveActionHandler {
 			edit.addAll(handleSaveActionOrganizeImports(documentUri, monitor));
 		}
 
+		if (preferenceManager.getPreferences().isJavaSaveActionsFormatModifiedLinesEnabled()) {
+			// the edits are applied together, so the modified lines overlapping the organized imports are left as is
+			for (TextEdit formatEdit : handleSaveActionFormatModifiedLines(documentUri, monitor)) {
+				if (edit.stream().noneMatch(e -> overlaps(e.getRange(), formatEdit.getRange()))) {
+					edit.add(formatEdit);
+				}
+			}
+		}
+
 		return edit;
 	}
 
+	private List<TextEdit> handleSaveActionFormatModifiedLines(String documentUri, IProgressMonitor monitor) {
+		ICompilationUnit cu = JDTUtils.resolveCompilationUnit(documentUri);
+		if (cu == null || monitor.isCanceled()) {
+			return Collections.emptyList();
+		}
+		return formatterHandler.formatModifiedLines(cu, monitor);
+	}
+
+	private static boolean overlaps(Range range, Range other) {
+		return compare(range.getStart(), other.getEnd()) < 0 && compare(other.getStart(), range.getEnd()) < 0;
+	}
+
+	private static int compare(Position position, Position other) {
+		int line = Integer.compare(position.getLine(), other.getLine());
+		return line != 0 ? line : Integer.compare(position.getCharacter(), other.getCharacter());
+	}
+
 	private List<TextEdit> handleSaveActionOrganizeImports(String documentUri, IProgressMonitor monitor) {
 		String uri = ResourceUtils.fixURI(JDTUtils.toURI(documentUri));
 		if (monitor.isCanceled()) {
@@ -25,7 +25,7 @@ import org.eclipse.jdt.core.dom.Comment;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.NodeFinder;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+import org.eclipse.jdt.ls.core.internal.ASTCache;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.lsp4j.Position;
@@ -45,7 +45,7 @@ public class SelectionRangeHandler {
 			return Collections.emptyList();
 		}
 
-		CompilationUnit ast = CoreASTProvider.getInstance().getAST(root, CoreASTProvider.WAIT_YES, monitor);
+		CompilationUnit ast = ASTCache.getInstance().getAST(root, monitor);
 
 		// extra logic to check within the line comments and block comments, which are not parts of the AST
 		@SuppressWarnings("unchecked")
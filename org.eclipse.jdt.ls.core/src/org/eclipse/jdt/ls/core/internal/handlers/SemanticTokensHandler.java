@@ -15,43 +15,161 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+import org.eclipse.jdt.ls.core.internal.ASTCache;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.handlers.BaseDocumentLifeCycleHandler.DocumentMonitor;
 import org.eclipse.jdt.ls.core.internal.semantictokens.SemanticTokensVisitor;
 import org.eclipse.jdt.ls.core.internal.semantictokens.TokenModifier;
 import org.eclipse.jdt.ls.core.internal.semantictokens.TokenType;
+import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensEdit;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import com.google.common.primitives.Ints;
 
 public class SemanticTokensHandler {
 
+	/**
+	 * The max number of documents the last semantic tokens are kept for, to
+	 * compute the next <code>textDocument/semanticTokens/full/delta</code>.
+	 */
+	public static final int MAX_DOCUMENTS = 16;
+
+	private static final AtomicLong resultIds = new AtomicLong();
+	private static final Map<String, Result> results = new Results();
+
 	public static SemanticTokens full(IProgressMonitor monitor, SemanticTokensParams params, DocumentMonitor documentMonitor) {
-		ITypeRoot typeRoot = JDTUtils.resolveTypeRoot(params.getTextDocument().getUri());
+		String uri = params.getTextDocument().getUri();
+		CompilationUnit root = getAST(uri, monitor, documentMonitor);
+		if (root == null) {
+			return new SemanticTokens(Collections.emptyList());
+		}
+
+		SemanticTokensVisitor collector = new SemanticTokensVisitor(root);
+		root.accept(collector);
+		Result result = store(uri, collector.encodedTokens());
+		return new SemanticTokens(result.id, Ints.asList(result.data));
+	}
+
+	/**
+	 * Returns the edits of the semantic tokens since the given previous result,
+	 * or all the semantic tokens if the previous result is not kept anymore.
+	 */
+	public static Either<SemanticTokens, SemanticTokensDelta> delta(IProgressMonitor monitor, SemanticTokensDeltaParams params, DocumentMonitor documentMonitor) {
+		String uri = params.getTextDocument().getUri();
+		CompilationUnit root = getAST(uri, monitor, documentMonitor);
+		if (root == null) {
+			return Either.forLeft(new SemanticTokens(Collections.emptyList()));
+		}
+
+		SemanticTokensVisitor collector = new SemanticTokensVisitor(root);
+		root.accept(collector);
+		Result previous;
+		synchronized (results) {
+			previous = results.get(uri);
+		}
+		Result result = store(uri, collector.encodedTokens());
+		if (previous == null || !previous.id.equals(params.getPreviousResultId())) {
+			return Either.forLeft(new SemanticTokens(result.id, Ints.asList(result.data)));
+		}
+		return Either.forRight(new SemanticTokensDelta(computeEdits(previous.data, result.data), result.id));
+	}
+
+	/**
+	 * Returns the semantic tokens in the given range only, typically the
+	 * visible part of the document.
+	 */
+	public static SemanticTokens range(IProgressMonitor monitor, SemanticTokensRangeParams params, DocumentMonitor documentMonitor) {
+		CompilationUnit root = getAST(params.getTextDocument().getUri(), monitor, documentMonitor);
+		if (root == null) {
+			return new SemanticTokens(Collections.emptyList());
+		}
+
+		int start = getOffset(root, params.getRange().getStart(), 0);
+		int end = getOffset(root, params.getRange().getEnd(), Integer.MAX_VALUE);
+		SemanticTokensVisitor collector = new SemanticTokensVisitor(root, start, end - start);
+		root.accept(collector);
+		return new SemanticTokens(Ints.asList(collector.encodedTokens()));
+	}
+
+	/**
+	 * Computes the edit turning the previous encoded semantic tokens into the
+	 * current ones, replacing everything between their common prefix and
+	 * suffix.
+	 *
+	 * @return the edits, empty if the semantic tokens are the same
+	 */
+	public static List<SemanticTokensEdit> computeEdits(int[] previous, int[] current) {
+		int max = Math.min(previous.length, current.length);
+		int prefix = 0;
+		while (prefix < max && previous[prefix] == current[prefix]) {
+			prefix++;
+		}
+		if (prefix == previous.length && prefix == current.length) {
+			return Collections.emptyList();
+		}
+		int suffix = 0;
+		while (suffix < max - prefix && previous[previous.length - 1 - suffix] == current[current.length - 1 - suffix]) {
+			suffix++;
+		}
+		int[] data = Arrays.copyOfRange(current, prefix, current.length - suffix);
+		return Collections.singletonList(new SemanticTokensEdit(prefix, previous.length - prefix - suffix, Ints.asList(data)));
+	}
+
+	/**
+	 * Forgets the last semantic tokens of a document.
+	 */
+	public static void forget(String uri) {
+		synchronized (results) {
+			results.remove(uri);
+		}
+	}
+
+	private static CompilationUnit getAST(String uri, IProgressMonitor monitor, DocumentMonitor documentMonitor) {
+		ITypeRoot typeRoot = JDTUtils.resolveTypeRoot(uri);
 		documentMonitor.checkChanged();
 		if (typeRoot == null || monitor.isCanceled()) {
-			return new SemanticTokens(Collections.emptyList());
+			return null;
 		}
 
 		JobHelpers.waitForJobs(DocumentLifeCycleHandler.DOCUMENT_LIFE_CYCLE_JOBS, monitor);
 		documentMonitor.checkChanged();
 
-		CompilationUnit root = CoreASTProvider.getInstance().getAST(typeRoot, CoreASTProvider.WAIT_YES, monitor);
+		CompilationUnit root = ASTCache.getInstance().getAST(typeRoot, monitor);
 		documentMonitor.checkChanged();
 		if (root == null || monitor.isCanceled()) {
-			return new SemanticTokens(Collections.emptyList());
+			return null;
 		}
+		return root;
+	}
 
-		SemanticTokensVisitor collector = new SemanticTokensVisitor(root);
-		root.accept(collector);
-		return collector.getSemanticTokens();
+	private static int getOffset(CompilationUnit root, Position position, int defaultOffset) {
+		int offset = root.getPosition(position.getLine() + 1, position.getCharacter());
+		return offset < 0 ? defaultOffset : offset;
+	}
+
+	private static Result store(String uri, int[] data) {
+		Result result = new Result(String.valueOf(resultIds.incrementAndGet()), data);
+		synchronized (results) {
+			results.put(uri, result);
+		}
+		return result;
 	}
 
 	public static SemanticTokensLegend legend() {
@@ -61,4 +179,29 @@ public class SemanticTokensHandler {
 		);
 	}
 
+	private static final class Result {
+
+		private final String id;
+		private final int[] data;
+
+		private Result(String id, int[] data) {
+			this.id = id;
+			this.data = data;
+		}
+	}
+
+	private static final class Results extends LinkedHashMap<String, Result> {
+
+		private static final long serialVersionUID = 1L;
+
+		private Results() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Result> eldest) {
+			return size() > MAX_DOCUMENTS;
+		}
+	}
+
 }
@@ -37,7 +37,7 @@ import org.eclipse.jdt.core.dom.MethodRef;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.SuperConstructorInvocation;
 import org.eclipse.jdt.core.dom.SuperMethodInvocation;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+import org.eclipse.jdt.ls.core.internal.ASTCache;
 
 /**
  * The context used to resolve the signature help.
@@ -96,7 +96,7 @@ public class SignatureHelpContext {
 	 * @throws JavaModelException
 	 */
 	public void resolve(int triggerOffset, ICompilationUnit unit, IProgressMonitor monitor) throws JavaModelException {
-		CompilationUnit root = CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, monitor);
+		CompilationUnit root = ASTCache.getInstance().getAST(unit, monitor);
 		if (root == null || monitor.isCanceled()) {
 			return;
 		}
@@ -0,0 +1,466 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageDeclaration;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.Type;
+
+/**
+ * Keeps track of the shape (declared types and member signatures) of the
+ * working copies being validated, so that an edit only causes the other
+ * open units to be validated again when something they may resolve against
+ * has actually changed.
+ *
+ * A unit is considered dependent on an edited unit when the edited unit is
+ * on its classpath and the resolved references of its last validated AST
+ * include one of the changed types. The references of a unit are the types
+ * of all the bindings of its AST, including the types of the expressions,
+ * so that types reached through inferred types, inherited or statically
+ * imported members are included, together with all their supertypes.
+ * Until a unit has been validated once, its source is searched for the
+ * simple names of the changed types instead.
+ */
+public class WorkingCopyDependencyTracker {
+
+	private final Map<ICompilationUnit, UnitShape> shapes = new HashMap<>();
+	private final Map<ICompilationUnit, References> references = new HashMap<>();
+
+	/**
+	 * Records the current shape of the given unit.
+	 *
+	 * @param unit
+	 *            the unit that has just been reconciled
+	 * @return the fully qualified names of the types declared by the unit,
+	 *         before and after the change, if its shape differs from the last
+	 *         recorded one (or was never recorded); an empty set otherwise
+	 */
+	public Set<String> update(ICompilationUnit unit) {
+		UnitShape shape;
+		try {
+			shape = UnitShape.of(unit);
+		} catch (JavaModelException e) {
+			synchronized (shapes) {
+				UnitShape previous = shapes.remove(unit);
+				return previous == null ? Collections.emptySet() : previous.typeNames;
+			}
+		}
+		UnitShape previous;
+		synchronized (shapes) {
+			previous = shapes.put(unit, shape);
+		}
+		if (previous != null && previous.signature.equals(shape.signature)) {
+			return Collections.emptySet();
+		}
+		Set<String> changed = new HashSet<>(shape.typeNames);
+		if (previous != null) {
+			changed.addAll(previous.typeNames);
+		}
+		return changed;
+	}
+
+	/**
+	 * Records the types the given unit resolves against.
+	 *
+	 * @param unit
+	 *            the unit that has just been validated
+	 * @param astRoot
+	 *            the AST of the unit, with bindings
+	 */
+	public void updateReferences(ICompilationUnit unit, CompilationUnit astRoot) {
+		References unitReferences = References.of(astRoot);
+		synchronized (shapes) {
+			references.put(unit, unitReferences);
+		}
+	}
+
+	/**
+	 * Forgets the recorded shape of the given unit, typically when it is closed.
+	 *
+	 * @param unit
+	 *            the unit
+	 * @return the fully qualified names of the types the unit used to declare
+	 */
+	public Set<String> remove(ICompilationUnit unit) {
+		synchronized (shapes) {
+			references.remove(unit);
+			UnitShape previous = shapes.remove(unit);
+			return previous == null ? Collections.emptySet() : previous.typeNames;
+		}
+	}
+
+	/**
+	 * Returns the units among <code>candidates</code> that may resolve against
+	 * the changed types of <code>edited</code>.
+	 *
+	 * @param edited
+	 *            the edited unit
+	 * @param changedTypeNames
+	 *            the names returned by {@link #update(ICompilationUnit)}
+	 * @param candidates
+	 *            the open working copies
+	 * @return the dependent units, never containing <code>edited</code>
+	 */
+	public Set<ICompilationUnit> getDependents(ICompilationUnit edited, Set<String> changedTypeNames, Collection<ICompilationUnit> candidates) {
+		Set<ICompilationUnit> dependents = new LinkedHashSet<>();
+		if (changedTypeNames.isEmpty()) {
+			return dependents;
+		}
+		for (ICompilationUnit candidate : candidates) {
+			if (candidate.equals(edited) || !isVisible(edited, candidate)) {
+				continue;
+			}
+			try {
+				if (dependsOn(candidate, getReferences(candidate), changedTypeNames)) {
+					dependents.add(candidate);
+				}
+			} catch (JavaModelException e) {
+				// the unit is gone, nothing to validate
+			}
+		}
+		return dependents;
+	}
+
+	/**
+	 * Splits the given units into groups that can be validated independently
+	 * of each other: two units end up in the same group when one of them may
+	 * resolve against a type declared by the other. Units whose shape has not
+	 * been recorded yet form their own group.
+	 *
+	 * @param units
+	 *            the units to validate
+	 * @return the groups, preserving the order of the units within each group
+	 */
+	public List<List<ICompilationUnit>> partition(List<ICompilationUnit> units) {
+		int size = units.size();
+		int[] parents = new int[size];
+		List<Set<String>> typeNames = new ArrayList<>(size);
+		List<References> unitReferences = new ArrayList<>(size);
+		synchronized (shapes) {
+			for (ICompilationUnit unit : units) {
+				UnitShape shape = shapes.get(unit);
+				typeNames.add(shape == null ? Collections.emptySet() : shape.typeNames);
+				unitReferences.add(references.get(unit));
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			parents[i] = i;
+		}
+		for (int i = 0; i < size; i++) {
+			if (typeNames.get(i).isEmpty()) {
+				continue;
+			}
+			for (int j = 0; j < size; j++) {
+				if (i == j || find(parents, i) == find(parents, j) || !isVisible(units.get(i), units.get(j))) {
+					continue;
+				}
+				try {
+					if (dependsOn(units.get(j), unitReferences.get(j), typeNames.get(i))) {
+						parents[find(parents, j)] = find(parents, i);
+					}
+				} catch (JavaModelException e) {
+					// the unit is gone, it can't depend on anything
+				}
+			}
+		}
+		Map<Integer, List<ICompilationUnit>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			groups.computeIfAbsent(find(parents, i), k -> new ArrayList<>()).add(units.get(i));
+		}
+		return new ArrayList<>(groups.values());
+	}
+
+	private static int find(int[] parents, int i) {
+		while (parents[i] != i) {
+			parents[i] = parents[parents[i]];
+			i = parents[i];
+		}
+		return i;
+	}
+
+	private References getReferences(ICompilationUnit unit) {
+		synchronized (shapes) {
+			return references.get(unit);
+		}
+	}
+
+	/**
+	 * Returns whether the given unit may resolve against one of the given
+	 * types, from its recorded references, or from its source if none were
+	 * recorded yet.
+	 */
+	private static boolean dependsOn(ICompilationUnit unit, References unitReferences, Set<String> typeNames) throws JavaModelException {
+		if (unitReferences != null) {
+			return unitReferences.includesAny(typeNames);
+		}
+		String source = unit.getSource();
+		if (source == null) {
+			return false;
+		}
+		Set<String> simpleNames = new HashSet<>();
+		for (String typeName : typeNames) {
+			simpleNames.add(toSimpleName(typeName));
+		}
+		return mentionsAny(source, simpleNames);
+	}
+
+	private static boolean isVisible(ICompilationUnit edited, ICompilationUnit candidate) {
+		IJavaProject javaProject = candidate.getJavaProject();
+		return javaProject != null && javaProject.isOnClasspath(edited);
+	}
+
+	/**
+	 * Returns whether the given source contains one of the given names as a
+	 * whole word. Being a plain text search, it also finds the names in
+	 * comments and strings.
+	 */
+	static boolean mentionsAny(String source, Set<String> names) {
+		for (String name : names) {
+			if (name.isEmpty()) {
+				continue;
+			}
+			int index = source.indexOf(name);
+			while (index >= 0) {
+				int end = index + name.length();
+				boolean startsWord = index == 0 || !Character.isJavaIdentifierPart(source.charAt(index - 1));
+				boolean endsWord = end == source.length() || !Character.isJavaIdentifierPart(source.charAt(end));
+				if (startsWord && endsWord) {
+					return true;
+				}
+				index = source.indexOf(name, end);
+			}
+		}
+		return false;
+	}
+
+	private static String toSimpleName(String typeName) {
+		return typeName.substring(typeName.lastIndexOf('.') + 1);
+	}
+
+	/**
+	 * The types a unit resolves against.
+	 */
+	private static final class References {
+
+		/**
+		 * The fully qualified names of the resolved types.
+		 */
+		private final Set<String> types = new HashSet<>();
+		/**
+		 * The simple names of the types and names which didn't resolve, which
+		 * may resolve once a type is added.
+		 */
+		private final Set<String> unresolved = new HashSet<>();
+		private final Set<ITypeBinding> visited = new HashSet<>();
+
+		private static References of(CompilationUnit astRoot) {
+			References references = new References();
+			astRoot.accept(new ASTVisitor() {
+
+				@Override
+				public boolean preVisit2(ASTNode node) {
+					if (node instanceof Name) {
+						references.addBinding((Name) node);
+					} else if (node instanceof Expression) {
+						references.addType(((Expression) node).resolveTypeBinding());
+					} else if (node instanceof Type) {
+						references.addType(((Type) node).resolveBinding());
+					}
+					return true;
+				}
+			});
+			references.visited.clear();
+			return references;
+		}
+
+		private void addBinding(Name name) {
+			IBinding binding = name.resolveBinding();
+			if (binding == null) {
+				if (name instanceof SimpleName) {
+					unresolved.add(((SimpleName) name).getIdentifier());
+				}
+				return;
+			}
+			switch (binding.getKind()) {
+				case IBinding.TYPE:
+					addType((ITypeBinding) binding);
+					break;
+				case IBinding.VARIABLE:
+					IVariableBinding variable = (IVariableBinding) binding;
+					addType(variable.getType());
+					addType(variable.getDeclaringClass());
+					break;
+				case IBinding.METHOD:
+					IMethodBinding method = (IMethodBinding) binding;
+					addType(method.getDeclaringClass());
+					addType(method.getReturnType());
+					for (ITypeBinding parameterType : method.getParameterTypes()) {
+						addType(parameterType);
+					}
+					break;
+				default:
+					break;
+			}
+			addType(name.resolveTypeBinding());
+		}
+
+		private void addType(ITypeBinding type) {
+			if (type == null || !visited.add(type)) {
+				return;
+			}
+			if (type.isArray()) {
+				addType(type.getElementType());
+				return;
+			}
+			if (type.isPrimitive() || type.isNullType()) {
+				return;
+			}
+			if (type.isRecovered()) {
+				unresolved.add(toSimpleName(type.getErasure().getName()));
+				return;
+			}
+			if (type.isWildcardType()) {
+				addType(type.getBound());
+				return;
+			}
+			if (type.isTypeVariable() || type.isCapture()) {
+				for (ITypeBinding bound : type.getTypeBounds()) {
+					addType(bound);
+				}
+				return;
+			}
+			for (ITypeBinding typeArgument : type.getTypeArguments()) {
+				addType(typeArgument);
+			}
+			ITypeBinding erasure = type.getErasure();
+			if (erasure != type) {
+				addType(erasure);
+				return;
+			}
+			String qualifiedName = type.getQualifiedName();
+			if (!qualifiedName.isEmpty()) {
+				types.add(qualifiedName);
+			}
+			// the members inherited from a supertype resolve against it too
+			addType(type.getSuperclass());
+			for (ITypeBinding superInterface : type.getInterfaces()) {
+				addType(superInterface);
+			}
+		}
+
+		private boolean includesAny(Set<String> typeNames) {
+			for (String typeName : typeNames) {
+				if (types.contains(typeName) || unresolved.contains(toSimpleName(typeName))) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class UnitShape {
+
+		private final String signature;
+		private final Set<String> typeNames;
+
+		private UnitShape(String signature, Set<String> typeNames) {
+			this.signature = signature;
+			this.typeNames = typeNames;
+		}
+
+		private static UnitShape of(ICompilationUnit unit) throws JavaModelException {
+			StringBuilder signature = new StringBuilder();
+			Set<String> typeNames = new HashSet<>();
+			for (IPackageDeclaration declaration : unit.getPackageDeclarations()) {
+				signature.append(declaration.getElementName()).append(';');
+			}
+			for (IType type : unit.getTypes()) {
+				appendType(type, signature, typeNames);
+			}
+			return new UnitShape(signature.toString(), typeNames);
+		}
+
+		private static void appendType(IType type, StringBuilder signature, Set<String> typeNames) throws JavaModelException {
+			typeNames.add(type.getFullyQualifiedName('.'));
+			signature.append('T').append(type.getFullyQualifiedName()).append(':').append(type.getFlags());
+			appendAnnotations(type, signature);
+			String superclass = type.getSuperclassTypeSignature();
+			if (superclass != null) {
+				signature.append('^').append(superclass);
+			}
+			for (String superInterface : type.getSuperInterfaceTypeSignatures()) {
+				signature.append('^').append(superInterface);
+			}
+			for (String typeParameter : type.getTypeParameterSignatures()) {
+				signature.append('<').append(typeParameter);
+			}
+			for (IField field : type.getFields()) {
+				signature.append('F').append(field.getElementName()).append(':').append(field.getTypeSignature()).append(':').append(field.getFlags());
+				Object constant = field.getConstant();
+				if (constant != null) {
+					signature.append('=').append(constant);
+				}
+				appendAnnotations(field, signature);
+			}
+			for (IMethod method : type.getMethods()) {
+				signature.append('M').append(method.getElementName()).append(method.getSignature()).append(':').append(method.getFlags());
+				for (String exception : method.getExceptionTypes()) {
+					signature.append('!').append(exception);
+				}
+				for (String typeParameter : method.getTypeParameterSignatures()) {
+					signature.append('<').append(typeParameter);
+				}
+				appendAnnotations(method, signature);
+			}
+			for (IType memberType : type.getTypes()) {
+				appendType(memberType, signature, typeNames);
+			}
+			signature.append(';');
+		}
+
+		private static void appendAnnotations(IAnnotatable annotatable, StringBuilder signature) throws JavaModelException {
+			for (IAnnotation annotation : annotatable.getAnnotations()) {
+				signature.append('@').append(annotation.getElementName());
+			}
+		}
+	}
+
+}
@@ -13,10 +13,11 @@
 package org.eclipse.jdt.ls.core.internal.handlers;
 
 import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -37,6 +38,7 @@ import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager;
 import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager.CHANGE_TYPE;
+import org.eclipse.jdt.ls.core.internal.managers.RefreshBatch;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
@@ -70,35 +72,55 @@ public class WorkspaceEventsHandler {
 	}
 
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams param) {
-		List<FileEvent> changes = param.getChanges().stream().distinct().collect(Collectors.toList());
-		for (FileEvent fileEvent : changes) {
-			CHANGE_TYPE changeType = toChangeType(fileEvent.getType());
+		Map<String, CHANGE_TYPE> changes = new LinkedHashMap<>();
+		for (FileEvent fileEvent : param.getChanges()) {
+			changes.merge(fileEvent.getUri(), toChangeType(fileEvent.getType()), WorkspaceEventsHandler::merge);
+		}
+		try {
+			// a mass change, like a branch switch, is handled while holding the workspace lock once,
+			// and its resources are refreshed at once when all the events are handled
+			ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
+				@Override
+				public void run(IProgressMonitor monitor) throws CoreException {
+					RefreshBatch batch = RefreshBatch.begin();
+					try {
+						handleChanges(changes);
+					} finally {
+						batch.end(monitor);
+					}
+				}
+			}, ResourcesPlugin.getWorkspace().getRoot(), IWorkspace.AVOID_UPDATE, new NullProgressMonitor());
+		} catch (CoreException e) {
+			JavaLanguageServerPlugin.logException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Merges the change types of the events of the same file in a batch.
+	 */
+	private static CHANGE_TYPE merge(CHANGE_TYPE previous, CHANGE_TYPE next) {
+		return previous == CHANGE_TYPE.CREATED && next == CHANGE_TYPE.CHANGED ? CHANGE_TYPE.CREATED : next;
+	}
+
+	private void handleChanges(Map<String, CHANGE_TYPE> changes) {
+		Map<String, CHANGE_TYPE> fileChanges = new LinkedHashMap<>();
+		for (Map.Entry<String, CHANGE_TYPE> change : changes.entrySet()) {
+			String uri = change.getKey();
+			CHANGE_TYPE changeType = change.getValue();
 			if (changeType == CHANGE_TYPE.DELETED) {
-				cleanUpDiagnostics(fileEvent.getUri());
-				handler.didClose(new DidCloseTextDocumentParams(new TextDocumentIdentifier(fileEvent.getUri())));
-				discardWorkingCopies(fileEvent.getUri());
+				cleanUpDiagnostics(uri);
+				handler.didClose(new DidCloseTextDocumentParams(new TextDocumentIdentifier(uri)));
+				discardWorkingCopies(uri);
 			}
-			ICompilationUnit unit = JDTUtils.resolveCompilationUnit(fileEvent.getUri());
+			ICompilationUnit unit = JDTUtils.resolveCompilationUnit(uri);
 			if (unit != null && changeType == CHANGE_TYPE.CREATED && !unit.exists()) {
-				final ICompilationUnit[] units = new ICompilationUnit[1];
-				units[0] = unit;
-				try {
-					ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
-						@Override
-						public void run(IProgressMonitor monitor) throws CoreException {
-							units[0] = createCompilationUnit(units[0]);
-						}
-					}, new NullProgressMonitor());
-				} catch (CoreException e) {
-					JavaLanguageServerPlugin.logException(e.getMessage(), e);
-				}
-				unit = units[0];
+				unit = createCompilationUnit(unit);
 			}
 			if (unit != null) {
 				if (unit.isWorkingCopy()) {
 					try {
 						IResource resource = unit.getUnderlyingResource();
-						if (resource != null && resource.exists()) {
+						if (resource != null && resource.exists() && !RefreshBatch.defer(resource)) {
 							resource.refreshLocal(IResource.DEPTH_ZERO, new NullProgressMonitor());
 						}
 					} catch (CoreException e) {
@@ -112,8 +134,9 @@ public class WorkspaceEventsHandler {
 					}
 				}
 			}
-			pm.fileChanged(fileEvent.getUri(), changeType);
+			fileChanges.put(uri, changeType);
 		}
+		pm.filesChanged(fileChanges);
 	}
 
 	private ICompilationUnit createCompilationUnit(ICompilationUnit unit) {
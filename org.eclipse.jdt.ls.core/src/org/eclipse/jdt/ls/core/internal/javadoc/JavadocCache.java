@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.javadoc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.ls.core.internal.StatusFactory;
+import org.eclipse.jdt.ls.core.internal.managers.DecompiledSourceCache;
+
+import com.google.common.io.CharStreams;
+
+/**
+ * Caches the Javadoc of the Java elements, rendered in Markdown or plain text,
+ * for the hover, the completion resolve and the signature help.
+ *
+ * The rendered Javadoc is kept in memory for the most recently used elements.
+ * The Javadoc of the source elements is dropped whenever the Java model
+ * changes, as it may be inherited from any other source; the Javadoc of the
+ * binary elements only when a classpath or a library changes. The Javadoc of
+ * the binary members is also persisted on disk, so that it survives restarts.
+ */
+public class JavadocCache {
+
+	/**
+	 * The max number of elements the Javadoc is kept in memory for.
+	 */
+	public static final int MAX_ELEMENTS = 512;
+
+	/**
+	 * The max size of the Javadoc persisted on disk, in bytes.
+	 */
+	public static final long MAX_DISK_SIZE = 16L * 1024 * 1024;
+
+	private static final int BINARY_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_SOURCEATTACHED
+			| IJavaElementDelta.F_SOURCEDETACHED | IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH;
+
+	public enum Format {
+		MARKDOWN, PLAIN_TEXT
+	}
+
+	private final Map<String, Optional<String>> sourceDocs = new Cache();
+	private final Map<String, Optional<String>> binaryDocs = new Cache();
+	private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+	private final DecompiledSourceCache diskCache;
+	private long generation;
+
+	/**
+	 * @param diskCache
+	 *            persists the Javadoc of the binary members, can be
+	 *            <code>null</code>
+	 */
+	public JavadocCache(DecompiledSourceCache diskCache) {
+		this.diskCache = diskCache;
+		JavaCore.addElementChangedListener(this::elementChanged, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the Javadoc of the given element, rendering it if it's not
+	 * cached.
+	 *
+	 * @param element
+	 *            a member or a package fragment
+	 * @param format
+	 *            the format to render the Javadoc in
+	 * @return the rendered Javadoc, or <code>null</code> if the element has
+	 *         none
+	 * @throws CoreException
+	 *             if the Javadoc can't be read
+	 */
+	public String getJavadoc(IJavaElement element, Format format) throws CoreException {
+		try {
+			return getJavadoc(element, format, Runnable::run).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof CoreException) {
+				throw (CoreException) e.getCause();
+			}
+			throw new CoreException(StatusFactory.newErrorStatus("Unable to read documentation", e.getCause()));
+		}
+	}
+
+	/**
+	 * Returns the Javadoc of the given element, rendering it on the given
+	 * executor if it's not cached. The rendering isn't cancelled when the
+	 * caller stops waiting for it, so that the Javadoc is cached for the next
+	 * request.
+	 *
+	 * @param element
+	 *            a member or a package fragment
+	 * @param format
+	 *            the format to render the Javadoc in
+	 * @param executor
+	 *            the executor to render the Javadoc on
+	 * @return the future rendered Javadoc, completed with <code>null</code> if
+	 *         the element has none
+	 */
+	public CompletableFuture<String> getJavadoc(IJavaElement element, Format format, Executor executor) {
+		String key = format + ":" + element.getHandleIdentifier();
+		boolean binary = isBinary(element);
+		Map<String, Optional<String>> docs = binary ? binaryDocs : sourceDocs;
+		long start;
+		synchronized (this) {
+			Optional<String> javadoc = docs.get(key);
+			if (javadoc != null) {
+				return CompletableFuture.completedFuture(javadoc.orElse(null));
+			}
+			start = generation;
+		}
+		CompletableFuture<String> future = inFlight.get(key);
+		if (future != null) {
+			return copy(future);
+		}
+		CompletableFuture<String> rendering = new CompletableFuture<>();
+		future = inFlight.putIfAbsent(key, rendering);
+		if (future != null) {
+			return copy(future);
+		}
+		FutureTask<Void> task = new FutureTask<>(() -> {
+			try {
+				String javadoc = load(element, format, binary);
+				synchronized (this) {
+					if (generation == start) {
+						docs.put(key, Optional.ofNullable(javadoc));
+					}
+				}
+				rendering.complete(javadoc);
+			} catch (CoreException | IOException | RuntimeException e) {
+				rendering.completeExceptionally(e);
+			} finally {
+				inFlight.remove(key, rendering);
+			}
+		}, null) {
+
+			@Override
+			public boolean cancel(boolean mayInterruptIfRunning) {
+				// dropped by the executor before it ran
+				boolean cancelled = super.cancel(mayInterruptIfRunning);
+				if (cancelled) {
+					inFlight.remove(key, rendering);
+					rendering.cancel(false);
+				}
+				return cancelled;
+			}
+		};
+		try {
+			executor.execute(task);
+		} catch (RuntimeException e) {
+			inFlight.remove(key, rendering);
+			rendering.completeExceptionally(e);
+		}
+		return copy(rendering);
+	}
+
+	public synchronized void clear() {
+		generation++;
+		sourceDocs.clear();
+		binaryDocs.clear();
+	}
+
+	private String load(IJavaElement element, Format format, boolean binary) throws CoreException, IOException {
+		String diskKey = null;
+		if (binary && diskCache != null && element instanceof IMember) {
+			diskKey = getDiskKey((IMember) element, format);
+			if (diskKey != null) {
+				String javadoc = diskCache.get(diskKey);
+				if (javadoc != null) {
+					return javadoc;
+				}
+			}
+		}
+		String javadoc = render(element, format);
+		if (diskKey != null && javadoc != null) {
+			diskCache.put(diskKey, javadoc);
+		}
+		return javadoc;
+	}
+
+	private static String render(IJavaElement element, Format format) throws CoreException, IOException {
+		Reader reader;
+		if (format == Format.MARKDOWN) {
+			reader = JavadocContentAccess2.getMarkdownContentReader(element);
+		} else if (element instanceof IMember) {
+			reader = JavadocContentAccess.getPlainTextContentReader((IMember) element);
+		} else {
+			reader = null;
+		}
+		return reader == null ? null : CharStreams.toString(reader);
+	}
+
+	/**
+	 * Returns the key of the Javadoc of the given binary member on disk, which
+	 * changes with its library, source attachment and Javadoc location.
+	 */
+	private static String getDiskKey(IMember member, Format format) throws JavaModelException {
+		IClassFile classFile = member.getClassFile();
+		if (classFile == null) {
+			return null;
+		}
+		URL javadocLocation = JavaDocLocations.getJavadocBaseLocation(member);
+		return DecompiledSourceCache.getKey(classFile, "javadoc:" + format + ":" + member.getHandleIdentifier() + ":" + javadocLocation);
+	}
+
+	private static boolean isBinary(IJavaElement element) {
+		IPackageFragmentRoot root = (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		try {
+			return root != null && root.getKind() == IPackageFragmentRoot.K_BINARY;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		boolean binaries = affectsBinaries(event.getDelta());
+		synchronized (this) {
+			generation++;
+			sourceDocs.clear();
+			if (binaries) {
+				binaryDocs.clear();
+			}
+		}
+	}
+
+	private static boolean affectsBinaries(IJavaElementDelta delta) {
+		if ((delta.getFlags() & BINARY_FLAGS) != 0) {
+			return true;
+		}
+		int type = delta.getElement().getElementType();
+		if (type == IJavaElement.PACKAGE_FRAGMENT_ROOT) {
+			return delta.getKind() != IJavaElementDelta.CHANGED;
+		}
+		if (type == IJavaElement.JAVA_MODEL || type == IJavaElement.JAVA_PROJECT) {
+			if (type == IJavaElement.JAVA_PROJECT && delta.getKind() != IJavaElementDelta.CHANGED) {
+				return true;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsBinaries(child)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a view of the given future, which can be cancelled without
+	 * cancelling the rendering.
+	 */
+	private static CompletableFuture<String> copy(CompletableFuture<String> future) {
+		return future.thenApply(javadoc -> javadoc);
+	}
+
+	private static final class Cache extends LinkedHashMap<String, Optional<String>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private Cache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Optional<String>> eldest) {
+			return size() > MAX_ELEMENTS;
+		}
+	}
+}
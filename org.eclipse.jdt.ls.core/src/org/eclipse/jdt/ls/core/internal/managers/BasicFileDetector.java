@@ -75,13 +75,21 @@ public class BasicFileDetector {
 		this.rootDir = rootDir;
 		this.fileNames = fileNames == null ? new ArrayList<>() : Arrays.asList(fileNames);
 		directories = new ArrayList<>();
-		addExclusions(METADATA_FOLDER);
+		exclusions.addAll(getDefaultExclusions());
+	}
+
+	/**
+	 * Returns the exclusions every search starts with: the ".metadata" folder
+	 * and the <code>java.import.exclusions</code>.
+	 */
+	static Set<String> getDefaultExclusions() {
+		Set<String> exclusions = new LinkedHashSet<>();
+		exclusions.add(METADATA_FOLDER);
 		List<String> javaImportExclusions = JavaLanguageServerPlugin.getPreferencesManager().getPreferences().getJavaImportExclusions();
 		if (javaImportExclusions != null) {
-			for (String pattern : javaImportExclusions) {
-				addExclusions(pattern);
-			}
+			exclusions.addAll(javaImportExclusions);
 		}
+		return exclusions;
 	}
 
 	/**
@@ -134,6 +142,11 @@ public class BasicFileDetector {
 	 * @throws CoreException if an error is encountered during the scan
 	 */
 	public Collection<Path> scan(IProgressMonitor monitor) throws CoreException {
+		BuildFileIndex index = BuildFileIndex.get(rootDir);
+		if (index != null && index.covers(fileNames, maxDepth, exclusions)) {
+			directories.addAll(index.findDirectories(fileNames, maxDepth, includeNested, exclusions, monitor));
+			return getDirectories();
+		}
 		try {
 			scanDir(rootDir, (monitor == null? new NullProgressMonitor(): monitor));
 		} catch (IOException e) {
@@ -143,9 +156,7 @@ public class BasicFileDetector {
 	}
 
 	private void scanDir(Path dir, final IProgressMonitor monitor) throws IOException {
-		boolean hasInclusionPattern = exclusions.stream().anyMatch((e) -> {
-			return e.startsWith("!");
-		});
+		boolean hasInclusionPattern = hasInclusionPattern(exclusions);
 
 		FileVisitor<Path> visitor = new SimpleFileVisitor<>() {
 			@Override
@@ -154,7 +165,7 @@ public class BasicFileDetector {
 					return TERMINATE;
 				}
 				Objects.requireNonNull(dir);
-				if (isExcluded(dir)) {
+				if (isExcluded(dir, exclusions)) {
 					return hasInclusionPattern ? CONTINUE : SKIP_SUBTREE;
 				}
 				if (hasTargetFile(dir)) {
@@ -178,7 +189,13 @@ public class BasicFileDetector {
 		Files.walkFileTree(dir, FOLLOW_LINKS_OPTION, maxDepth, visitor);
 	}
 
-	private boolean isExcluded(Path dir) {
+	static boolean hasInclusionPattern(Collection<String> exclusions) {
+		return exclusions.stream().anyMatch((e) -> {
+			return e.startsWith("!");
+		});
+	}
+
+	static boolean isExcluded(Path dir, Collection<String> exclusions) {
 		if (dir.getFileName() == null) {
 			return true;
 		}
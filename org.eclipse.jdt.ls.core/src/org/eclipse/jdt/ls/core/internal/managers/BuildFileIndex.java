@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RecursiveTask;
+
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.ls.core.internal.StatusFactory;
+
+/**
+ * An index of the build descriptors found under a root folder, shared by the
+ * project importers while the root folder is imported.
+ *
+ * The root folder is scanned once, in parallel, the first time an importer
+ * looks for its build descriptors. The {@link BasicFileDetector}s of the
+ * importers then search the index instead of walking the file system again.
+ * The <code>java.import.exclusions</code> are applied by the scan, the
+ * exclusions of each importer when the index is searched.
+ */
+public class BuildFileIndex implements AutoCloseable {
+
+	/**
+	 * The max depth of the scan, which is the default depth of the
+	 * {@link BasicFileDetector}.
+	 */
+	public static final int MAX_DEPTH = 5;
+
+	/**
+	 * The names of the indexed files.
+	 */
+	public static final Set<String> FILE_NAMES = Set.of(
+		MavenProjectImporter.POM_FILE,
+		GradleProjectImporter.BUILD_GRADLE_DESCRIPTOR,
+		GradleProjectImporter.BUILD_GRADLE_KTS_DESCRIPTOR,
+		GradleProjectImporter.SETTINGS_GRADLE_DESCRIPTOR,
+		GradleProjectImporter.SETTINGS_GRADLE_KTS_DESCRIPTOR,
+		IProjectDescription.DESCRIPTION_FILE_NAME
+	);
+
+	private static final Map<Path, BuildFileIndex> indexes = new ConcurrentHashMap<>();
+
+	private final Path rootDir;
+	private final Set<String> exclusions;
+	private final boolean hasInclusionPattern;
+	private Node root;
+
+	private BuildFileIndex(Path rootDir) {
+		this.rootDir = rootDir;
+		this.exclusions = BasicFileDetector.getDefaultExclusions();
+		this.hasInclusionPattern = BasicFileDetector.hasInclusionPattern(exclusions);
+	}
+
+	/**
+	 * Shares a new index of the given root folder until it's closed.
+	 *
+	 * @param rootDir
+	 *            the root folder
+	 * @return the index, not scanned yet
+	 */
+	public static BuildFileIndex open(Path rootDir) {
+		BuildFileIndex index = new BuildFileIndex(rootDir);
+		indexes.put(rootDir, index);
+		return index;
+	}
+
+	/**
+	 * Returns the shared index of the given root folder, or <code>null</code>
+	 * if there is none.
+	 */
+	public static BuildFileIndex get(Path rootDir) {
+		return indexes.get(rootDir);
+	}
+
+	@Override
+	public void close() {
+		indexes.remove(rootDir, this);
+	}
+
+	/**
+	 * Returns whether a search with the given parameters can be answered by
+	 * the index.
+	 */
+	boolean covers(Collection<String> fileNames, int maxDepth, Collection<String> searchExclusions) {
+		return maxDepth <= MAX_DEPTH && FILE_NAMES.containsAll(fileNames) && searchExclusions.containsAll(exclusions)
+				&& BasicFileDetector.hasInclusionPattern(searchExclusions) == hasInclusionPattern;
+	}
+
+	/**
+	 * Searches the directories containing one of the given files, the same way
+	 * {@link BasicFileDetector} walks the file system.
+	 *
+	 * @param fileNames
+	 *            the names of the files to search, must be indexed
+	 * @param maxDepth
+	 *            the max depth of the search
+	 * @param includeNested
+	 *            whether to search the sub-directories of a found directory
+	 * @param searchExclusions
+	 *            the patterns of the excluded directories
+	 * @param monitor
+	 *            the progress monitor used to cancel the scan
+	 * @return the found directories
+	 * @throws CoreException
+	 *             if the root folder can't be scanned
+	 */
+	public List<Path> findDirectories(Collection<String> fileNames, int maxDepth, boolean includeNested, Collection<String> searchExclusions, IProgressMonitor monitor) throws CoreException {
+		Node node = getRoot(monitor == null ? new NullProgressMonitor() : monitor);
+		List<Path> directories = new ArrayList<>();
+		boolean inclusions = BasicFileDetector.hasInclusionPattern(searchExclusions);
+		collect(node, 0, fileNames, maxDepth, includeNested, searchExclusions, inclusions, directories);
+		return directories;
+	}
+
+	private void collect(Node node, int depth, Collection<String> fileNames, int maxDepth, boolean includeNested, Collection<String> searchExclusions, boolean inclusions, List<Path> directories) {
+		if (depth >= maxDepth) {
+			return;
+		}
+		if (BasicFileDetector.isExcluded(node.path, searchExclusions)) {
+			if (!inclusions) {
+				return;
+			}
+		} else if (!Collections.disjoint(node.files, fileNames)) {
+			directories.add(node.path);
+			if (!includeNested) {
+				return;
+			}
+		}
+		for (Node child : node.children) {
+			collect(child, depth + 1, fileNames, maxDepth, includeNested, searchExclusions, inclusions, directories);
+		}
+	}
+
+	private synchronized Node getRoot(IProgressMonitor monitor) throws CoreException {
+		if (root != null) {
+			return root;
+		}
+		try {
+			Node node = new ScanTask(rootDir, 0, Collections.emptySet(), monitor).invoke();
+			// a cancelled scan is incomplete
+			if (!monitor.isCanceled()) {
+				root = node;
+			}
+			return node;
+		} catch (UncheckedIOException e) {
+			throw new CoreException(StatusFactory.newErrorStatus("Failed to scan " + rootDir, e.getCause()));
+		}
+	}
+
+	private static final class Node {
+
+		private final Path path;
+		private final Set<String> files;
+		private final List<Node> children;
+
+		private Node(Path path, Set<String> files, List<Node> children) {
+			this.path = path;
+			this.files = files;
+			this.children = children;
+		}
+	}
+
+	/**
+	 * Lists a directory, and scans its sub-directories in parallel.
+	 */
+	private final class ScanTask extends RecursiveTask<Node> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path dir;
+		private final int depth;
+		private final Set<Object> ancestors;
+		private final IProgressMonitor monitor;
+
+		private ScanTask(Path dir, int depth, Set<Object> ancestors, IProgressMonitor monitor) {
+			this.dir = dir;
+			this.depth = depth;
+			this.ancestors = ancestors;
+			this.monitor = monitor;
+		}
+
+		@Override
+		protected Node compute() {
+			Set<String> files = new HashSet<>();
+			List<ScanTask> tasks = new ArrayList<>();
+			if (!monitor.isCanceled()) {
+				try {
+					BasicFileAttributes dirAttributes = Files.readAttributes(dir, BasicFileAttributes.class);
+					if (!dirAttributes.isDirectory()) {
+						return new Node(dir, Collections.emptySet(), Collections.emptyList());
+					}
+					Set<Object> path = new HashSet<>(ancestors);
+					path.add(getKey(dir, dirAttributes));
+					try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+						for (Path entry : entries) {
+							BasicFileAttributes attributes;
+							try {
+								attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+							} catch (IOException e) {
+								// a broken link, the file system walk ignores it too
+								continue;
+							}
+							String name = entry.getFileName().toString();
+							if (attributes.isRegularFile() && FILE_NAMES.contains(name)) {
+								files.add(name);
+							} else if (attributes.isDirectory() && depth + 1 < MAX_DEPTH && !path.contains(getKey(entry, attributes))
+									&& (hasInclusionPattern || !BasicFileDetector.isExcluded(entry, exclusions))) {
+								tasks.add(new ScanTask(entry, depth + 1, path, monitor));
+							}
+						}
+					}
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			invokeAll(tasks);
+			List<Node> children = new ArrayList<>(tasks.size());
+			for (ScanTask task : tasks) {
+				children.add(task.join());
+			}
+			children.sort(Comparator.comparing(node -> node.path.getFileName().toString()));
+			return new Node(dir, files.isEmpty() ? Collections.emptySet() : new LinkedHashSet<>(files), children);
+		}
+
+		private Object getKey(Path path, BasicFileAttributes attributes) throws IOException {
+			Object key = attributes.fileKey();
+			return key != null ? key : path.toRealPath();
+		}
+	}
+}
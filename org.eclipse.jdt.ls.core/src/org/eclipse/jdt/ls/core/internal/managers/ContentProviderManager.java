@@ -28,7 +28,9 @@ import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.ls.core.internal.IContentProvider;
 import org.eclipse.jdt.ls.core.internal.IDecompiler;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.jdt.ls.core.internal.SourceContentProvider;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.osgi.framework.Bundle;
 
 public class ContentProviderManager {
 
@@ -43,10 +45,24 @@ public class ContentProviderManager {
 
 	private final PreferenceManager preferenceManager;
 
+	private final DecompiledSourceCache sourceCache;
+
 	private Set<ContentProviderDescriptor> descriptors;
 
 	public ContentProviderManager(PreferenceManager preferenceManager) {
+		this(preferenceManager, null);
+	}
+
+	/**
+	 * @param preferenceManager
+	 *            the preference manager
+	 * @param sourceCache
+	 *            the cache of the decompiled class file sources, can be
+	 *            <code>null</code>
+	 */
+	public ContentProviderManager(PreferenceManager preferenceManager, DecompiledSourceCache sourceCache) {
 		this.preferenceManager = preferenceManager;
+		this.sourceCache = sourceCache;
 	}
 
 	/**
@@ -87,6 +103,13 @@ public class ContentProviderManager {
 		if (monitor.isCanceled()) {
 			return EMPTY_CONTENT;
 		}
+		String sourceCacheKey = getSourceCacheKey(source, matches);
+		if (sourceCacheKey != null) {
+			String cached = sourceCache.get(sourceCacheKey);
+			if (cached != null) {
+				return cached;
+			}
+		}
 
 		int previousPriority = -1;
 		for (ContentProviderDescriptor match : matches) {
@@ -114,6 +137,10 @@ public class ContentProviderManager {
 				if (monitor.isCanceled()) {
 					return EMPTY_CONTENT;
 				} else if (content != null) {
+					// attached sources are cheap to read again
+					if (sourceCacheKey != null && !(contentProvider instanceof SourceContentProvider)) {
+						sourceCache.put(sourceCacheKey, content);
+					}
 					return content;
 				}
 			} catch (Exception e) {
@@ -126,6 +153,18 @@ public class ContentProviderManager {
 		return EMPTY_CONTENT;
 	}
 
+	/**
+	 * Returns the key of the cached source of the given class file, or
+	 * <code>null</code> if it must not be cached.
+	 */
+	private String getSourceCacheKey(Object source, List<ContentProviderDescriptor> matches) {
+		if (sourceCache == null || !(source instanceof IClassFile) || matches == null) {
+			return null;
+		}
+		String providers = matches.stream().map(d -> d.id + "@" + d.version).collect(Collectors.joining(","));
+		return DecompiledSourceCache.getKey((IClassFile) source, providers);
+	}
+
 	private synchronized Set<ContentProviderDescriptor> getDescriptors(List<String> preferredProviderIds) {
 		if (descriptors == null) {
 			IConfigurationElement[] elements = Platform.getExtensionRegistry().getConfigurationElementsFor(EXTENSION_POINT_ID);
@@ -168,6 +207,7 @@ public class ContentProviderManager {
 
 		private final IConfigurationElement configurationElement;
 		public final String id;
+		public final String version;
 		private final int basePriority;
 		public int priority;
 		public final Pattern uriPattern;
@@ -175,6 +215,8 @@ public class ContentProviderManager {
 		public ContentProviderDescriptor(IConfigurationElement element) {
 			configurationElement = element;
 			id = configurationElement.getAttribute(ID);
+			Bundle bundle = Platform.getBundle(configurationElement.getContributor().getName());
+			version = bundle == null ? "" : bundle.getVersion().toString();
 			basePriority = parsePriority();
 			priority = basePriority;
 			String uriPatternString = configurationElement.getAttribute(URI_PATTERN);
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * A size-bounded, on-disk cache of the sources produced by the decompilers
+ * and disassemblers of class files, which survives restarts.
+ *
+ * Each source is stored in its own file, named after the digest of its key.
+ * The key is made of the handle identifier of the class file, the size and
+ * timestamp of its container and of its source attachment, and the content
+ * providers it is computed with, so that it changes whenever the source could
+ * be different. The least recently used sources are deleted when the cache
+ * grows over its max size.
+ *
+ * The rendered Javadoc of the binary members is persisted the same way, see
+ * {@link org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache}.
+ */
+public class DecompiledSourceCache {
+
+	public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+	private static final String EXTENSION = ".java";
+
+	private final File directory;
+	private final long maxSize;
+	private long size = -1;
+
+	public DecompiledSourceCache(File directory) {
+		this(directory, DEFAULT_MAX_SIZE);
+	}
+
+	public DecompiledSourceCache(File directory, long maxSize) {
+		this.directory = directory;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the key of the source of the given class file.
+	 *
+	 * @param classFile
+	 *            the class file
+	 * @param providers
+	 *            identifies the content providers (and their versions) the
+	 *            source is computed with
+	 * @return the key, or <code>null</code> if the container of the class file
+	 *         can't be found, in which case the source must not be cached
+	 */
+	public static String getKey(IClassFile classFile, String providers) {
+		IPackageFragmentRoot root = (IPackageFragmentRoot) classFile.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root == null) {
+			return null;
+		}
+		String container = getStamp(root.isArchive() ? root.getPath() : classFile.getPath());
+		if (container == null) {
+			return null;
+		}
+		String sourceAttachment;
+		try {
+			IPath sourceAttachmentPath = root.getSourceAttachmentPath();
+			sourceAttachment = sourceAttachmentPath == null ? "" : sourceAttachmentPath + "@" + getStamp(sourceAttachmentPath);
+		} catch (JavaModelException e) {
+			return null;
+		}
+		String key = classFile.getHandleIdentifier() + "|" + container + "|" + sourceAttachment + "|" + providers;
+		return key.replace('\n', ' ').replace('\r', ' ');
+	}
+
+	/**
+	 * Returns the cached source for the given key, or <code>null</code> if
+	 * there is none.
+	 */
+	public synchronized String get(String key) {
+		File file = getFile(key);
+		if (!file.isFile()) {
+			return null;
+		}
+		try {
+			String data = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+			int newline = data.indexOf('\n');
+			if (newline < 0 || !key.equals(data.substring(0, newline))) {
+				return null;
+			}
+			file.setLastModified(System.currentTimeMillis());
+			return data.substring(newline + 1);
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Unable to read the cached source of " + key, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the given source, evicting the least recently used ones if the
+	 * cache grows over its max size.
+	 */
+	public synchronized void put(String key, String source) {
+		byte[] data = (key + "\n" + source).getBytes(StandardCharsets.UTF_8);
+		if (data.length > maxSize) {
+			return;
+		}
+		File file = getFile(key);
+		File temp = null;
+		try {
+			Files.createDirectories(directory.toPath());
+			long previousSize = file.isFile() ? file.length() : 0;
+			temp = File.createTempFile("source", ".tmp", directory);
+			Files.write(temp.toPath(), data);
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			size = getSize() - previousSize + data.length;
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Unable to cache the source of " + key, e);
+			return;
+		} finally {
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+		evict();
+	}
+
+	public synchronized void clear() {
+		File[] files = listFiles();
+		for (File file : files) {
+			file.delete();
+		}
+		size = 0;
+	}
+
+	/**
+	 * Returns the size of the cached sources, in bytes.
+	 */
+	public synchronized long getSize() {
+		if (size < 0) {
+			size = 0;
+			for (File file : listFiles()) {
+				size += file.length();
+			}
+		}
+		return size;
+	}
+
+	private void evict() {
+		if (size <= maxSize) {
+			return;
+		}
+		File[] files = listFiles();
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (File file : files) {
+			if (size <= maxSize) {
+				break;
+			}
+			long length = file.length();
+			if (file.delete()) {
+				size -= length;
+			}
+		}
+	}
+
+	private File[] listFiles() {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(EXTENSION));
+		return files == null ? new File[0] : files;
+	}
+
+	private File getFile(String key) {
+		return new File(directory, digest(key) + EXTENSION);
+	}
+
+	private static String digest(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+			StringBuilder builder = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				builder.append(String.format("%02x", b));
+			}
+			return builder.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is supported by every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns the size and timestamp of the file at the given path, which is
+	 * either absolute or relative to the workspace.
+	 */
+	private static String getStamp(IPath path) {
+		if (path == null) {
+			return null;
+		}
+		File file = path.toFile();
+		if (!file.exists()) {
+			IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+			if (resource == null || resource.getLocation() == null) {
+				return null;
+			}
+			file = resource.getLocation().toFile();
+		}
+		return file.length() + ":" + file.lastModified();
+	}
+}
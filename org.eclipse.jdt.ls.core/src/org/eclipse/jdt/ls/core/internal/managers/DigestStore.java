@@ -12,19 +12,29 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.managers;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
@@ -36,19 +46,48 @@ import org.eclipse.jdt.ls.core.internal.StatusFactory;
  *         This class handles digests for build files. It serves to prevent
  *         unnecessary updating of maven/gradle, etc. info on workspace
  *         projects.
+ *
+ *         The digests are kept in an append-only binary log: each update
+ *         appends one record, and the log is compacted once it holds much
+ *         more records than files. A file whose size and modification time
+ *         haven't changed since its digest was computed isn't read again.
  */
 public class DigestStore {
-	private Map<String, String> fileDigests;
-	private File stateFile;
 
 	private static final String SERIALIZATION_FILE_NAME = ".file-digests";
+	private static final String LOG_FILE_NAME = ".file-digests.log";
+
+	private static final int MAGIC = 0x4A444447;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+
+	/**
+	 * The log is compacted when it holds more than this number of records and
+	 * more than twice as many records as files.
+	 */
+	private static final int COMPACTION_THRESHOLD = 1024;
+
+	/**
+	 * Modification times this close to the time the digest was computed
+	 * can't be trusted, as the file may have been modified again within the
+	 * resolution of the file system timestamps.
+	 */
+	private static final long RACY_INTERVAL_MILLIS = 2000;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Map<String, Entry> fileDigests = new ConcurrentHashMap<>();
+	private final File logFile;
+	private final Object logLock = new Object();
+	private int records;
 
 	public DigestStore(File stateLocation) {
-		this.stateFile = new File(stateLocation, SERIALIZATION_FILE_NAME);
-		if (stateFile.isFile()) {
-			fileDigests = deserializeFileDigests();
-		} else {
-			fileDigests = new HashMap<>();
+		this.logFile = new File(stateLocation, LOG_FILE_NAME);
+		File legacyFile = new File(stateLocation, SERIALIZATION_FILE_NAME);
+		if (logFile.isFile()) {
+			readLog();
+		} else if (legacyFile.isFile()) {
+			migrate(legacyFile);
 		}
 	}
 
@@ -63,45 +102,220 @@ public class DigestStore {
 	 *             if a digest cannot be computed
 	 */
 	public boolean updateDigest(Path p) throws CoreException {
+		String key = p.toString();
 		try {
-			String digest = computeDigest(p);
-			synchronized (fileDigests) {
-				if (!digest.equals(fileDigests.get(p.toString()))) {
-					fileDigests.put(p.toString(), digest);
-					serializeFileDigests();
-					return true;
-				} else {
-					return false;
-				}
+			BasicFileAttributes attributes = Files.readAttributes(p, BasicFileAttributes.class);
+			long size = attributes.size();
+			long lastModified = attributes.lastModifiedTime().toMillis();
+			Entry previous = fileDigests.get(key);
+			if (previous != null && previous.isUnchanged(size, lastModified)) {
+				return false;
 			}
+			long checkedAt = System.currentTimeMillis();
+			byte[] digest = computeDigest(p);
+			Entry entry = new Entry(size, lastModified, checkedAt, digest);
+			boolean[] changed = new boolean[1];
+			fileDigests.compute(key, (k, current) -> {
+				changed[0] = current == null || !Arrays.equals(current.digest, digest);
+				return entry;
+			});
+			append(key, entry);
+			return changed[0];
 		} catch (NoSuchAlgorithmException | IOException e) {
 			throw new CoreException(StatusFactory.newErrorStatus("Exception updating digest for " + p, e));
 		}
+	}
+
+	/**
+	 * Appends the given entry to the log, compacting it if needed.
+	 */
+	private void append(String key, Entry entry) {
+		synchronized (logLock) {
+			try {
+				if (!logFile.isFile() || records > COMPACTION_THRESHOLD && records > 2 * fileDigests.size()) {
+					compact();
+					return;
+				}
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (DataOutputStream out = new DataOutputStream(bytes)) {
+					writeRecord(out, key, entry);
+				}
+				try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+					ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+					while (buffer.hasRemaining()) {
+						channel.write(buffer);
+					}
+				}
+				records++;
+			} catch (IOException e) {
+				JavaLanguageServerPlugin.logException("Exception occured while writing file digests", e);
+			}
+		}
+	}
 
+	/**
+	 * Rewrites the log with one record per existing file.
+	 */
+	private void compact() throws IOException {
+		logFile.getParentFile().mkdirs();
+		File temp = new File(logFile.getParentFile(), LOG_FILE_NAME + ".tmp");
+		int count = 0;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			for (Map.Entry<String, Entry> fileDigest : fileDigests.entrySet()) {
+				if (!new File(fileDigest.getKey()).exists()) {
+					fileDigests.remove(fileDigest.getKey(), fileDigest.getValue());
+					continue;
+				}
+				writeRecord(out, fileDigest.getKey(), fileDigest.getValue());
+				count++;
+			}
+		}
+		Files.move(temp.toPath(), logFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		records = count;
 	}
 
-	private void serializeFileDigests() {
-		try (ObjectOutputStream outStream = new ObjectOutputStream(new FileOutputStream(stateFile))) {
-			outStream.writeObject(fileDigests);
+	private void readLog() {
+		int validLength = 0;
+		try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				// read the whole log
+			}
+			buffer.flip();
+			if (buffer.remaining() >= HEADER_SIZE && buffer.getInt() == MAGIC && buffer.getInt() == VERSION) {
+				validLength = HEADER_SIZE;
+				while (buffer.hasRemaining()) {
+					String key;
+					Entry entry;
+					try {
+						key = readKey(buffer);
+						entry = readEntry(buffer);
+					} catch (BufferUnderflowException | IllegalArgumentException e) {
+						// a partially written record
+						break;
+					}
+					fileDigests.put(key, entry);
+					records++;
+					validLength = buffer.position();
+				}
+			}
 		} catch (IOException e) {
-			JavaLanguageServerPlugin.logException("Exception occured while serialization of file digests", e);
+			JavaLanguageServerPlugin.logException("Exception occured while reading file digests", e);
+		}
+		// drop a partially written record, or a corrupted log
+		if (validLength < logFile.length()) {
+			synchronized (logLock) {
+				try {
+					compact();
+				} catch (IOException e) {
+					JavaLanguageServerPlugin.logException("Exception occured while writing file digests", e);
+				}
+			}
 		}
 	}
 
+	/**
+	 * Imports the digests serialized by the previous versions, which only
+	 * stored the digests.
+	 */
 	@SuppressWarnings("unchecked")
-	private Map<String, String> deserializeFileDigests() {
-		try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(stateFile))) {
-			return (Map<String, String>) ois.readObject();
-		} catch (IOException | ClassNotFoundException e) {
+	private void migrate(File legacyFile) {
+		try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(legacyFile))) {
+			Map<String, String> legacyDigests = (Map<String, String>) ois.readObject();
+			for (Map.Entry<String, String> legacyDigest : legacyDigests.entrySet()) {
+				byte[] digest = parseLegacyDigest(legacyDigest.getValue());
+				if (digest != null) {
+					fileDigests.put(legacyDigest.getKey(), new Entry(-1, -1, -1, digest));
+				}
+			}
+		} catch (IOException | ClassNotFoundException | RuntimeException e) {
 			JavaLanguageServerPlugin.logException("Exception occured while deserialization of file digests", e);
-			return new HashMap<>();
+		}
+		synchronized (logLock) {
+			try {
+				compact();
+				legacyFile.delete();
+			} catch (IOException e) {
+				JavaLanguageServerPlugin.logException("Exception occured while writing file digests", e);
+			}
 		}
 	}
 
-	private String computeDigest(Path path) throws IOException, NoSuchAlgorithmException {
-		byte[] fileBytes = Files.readAllBytes(path);
-		byte[] digest = MessageDigest.getInstance("MD5").digest(fileBytes);
-		return Arrays.toString(digest);
+	/**
+	 * Parses a digest formatted by {@link Arrays#toString(byte[])}.
+	 */
+	private static byte[] parseLegacyDigest(String value) {
+		if (value == null || value.length() < 2) {
+			return null;
+		}
+		String[] parts = value.substring(1, value.length() - 1).split(",");
+		byte[] digest = new byte[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			digest[i] = Byte.parseByte(parts[i].trim());
+		}
+		return digest;
 	}
 
+	private static void writeRecord(DataOutputStream out, String key, Entry entry) throws IOException {
+		byte[] path = key.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(path.length);
+		out.write(path);
+		out.writeLong(entry.size);
+		out.writeLong(entry.lastModified);
+		out.writeLong(entry.checkedAt);
+		out.writeByte(entry.digest.length);
+		out.write(entry.digest);
+	}
+
+	private static String readKey(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid file digest record");
+		}
+		byte[] path = new byte[length];
+		buffer.get(path);
+		return new String(path, StandardCharsets.UTF_8);
+	}
+
+	private static Entry readEntry(ByteBuffer buffer) {
+		long size = buffer.getLong();
+		long lastModified = buffer.getLong();
+		long checkedAt = buffer.getLong();
+		byte[] digest = new byte[buffer.get() & 0xFF];
+		buffer.get(digest);
+		return new Entry(size, lastModified, checkedAt, digest);
+	}
+
+	private byte[] computeDigest(Path path) throws IOException, NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("MD5");
+		byte[] buffer = new byte[BUFFER_SIZE];
+		try (InputStream in = Files.newInputStream(path)) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return digest.digest();
+	}
+
+	private static final class Entry {
+
+		private final long size;
+		private final long lastModified;
+		private final long checkedAt;
+		private final byte[] digest;
+
+		private Entry(long size, long lastModified, long checkedAt, byte[] digest) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.checkedAt = checkedAt;
+			this.digest = digest;
+		}
+
+		private boolean isUnchanged(long size, long lastModified) {
+			return this.size == size && this.lastModified == lastModified && lastModified < checkedAt - RACY_INTERVAL_MILLIS;
+		}
+	}
 }
@@ -0,0 +1,380 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.core.resources.FileInfoMatcherDescription;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceFilterDescription;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * A lightweight snapshot of the directories of a project: a hash, per
+ * directory, of the names and modification times of its entries.
+ *
+ * The snapshots of the Maven projects are taken from the workspace tree when
+ * the workspace is saved at shutdown, so that they record the state the tree
+ * is in sync with, and read back on the next start, so that a project which
+ * is already imported is refreshed by refreshing only the directories whose
+ * entries differ from the file system, instead of the whole project. A
+ * snapshot is deleted once read, so that the projects of a session which
+ * didn't shut down properly are refreshed entirely.
+ */
+public final class FileSystemSnapshot {
+
+	private static final String SNAPSHOTS_DIRECTORY = "snapshots";
+
+	private static final String REGEX_FILTER_MATCHER_ID = "org.eclipse.core.resources.regexFilterMatcher";
+
+	private static final int MAGIC = 0x4A445353;
+	private static final int VERSION = 2;
+
+	private final String root;
+	private final Map<String, Long> directories;
+
+	private FileSystemSnapshot(String root, Map<String, Long> directories) {
+		this.root = root;
+		this.directories = directories;
+	}
+
+	/**
+	 * Takes the snapshot of the given directory and all its subdirectories in
+	 * the file system. Symbolic links aren't followed.
+	 */
+	public static FileSystemSnapshot take(Path root) throws IOException {
+		return take(root, null);
+	}
+
+	/**
+	 * Takes the snapshot of the directory of the given project in the file
+	 * system, like {@link #take(Path)}, but skips what the workspace tree
+	 * doesn't have: the entries excluded by the regular expression filters of
+	 * the project, such as <code>.git</code> or <code>node_modules</code>,
+	 * and the content of the directories which have no folder in the tree
+	 * yet, since they're refreshed entirely anyway.
+	 */
+	public static FileSystemSnapshot take(Path root, IProject project) throws IOException {
+		Map<String, Long> directories = new HashMap<>();
+		Deque<long[]> hashes = new ArrayDeque<>();
+		List<Pattern> fileFilters = new ArrayList<>();
+		List<Pattern> folderFilters = new ArrayList<>();
+		if (project != null) {
+			getFilters(project, fileFilters, folderFilters);
+		}
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+				if (project != null && !hashes.isEmpty()) {
+					String name = dir.getFileName().toString();
+					if (isFiltered(name, folderFilters)) {
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+					String path = getRelativePath(root, dir);
+					if (!project.getFolder(path).exists()) {
+						directories.put(path, 0L);
+						hashes.peek()[0] += hash(name, -1);
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+				}
+				hashes.push(new long[1]);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				String name = file.getFileName().toString();
+				if (!isFiltered(name, fileFilters)) {
+					hashes.peek()[0] += hash(name, attributes.lastModifiedTime().toMillis());
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException e) {
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+				directories.put(getRelativePath(root, dir), hashes.pop()[0]);
+				if (!hashes.isEmpty()) {
+					// a subdirectory is an entry of its parent, its own entries are hashed separately
+					hashes.peek()[0] += hash(dir.getFileName().toString(), -1);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		return new FileSystemSnapshot(root.toString(), directories);
+	}
+
+	/**
+	 * Collects the patterns of the regular expression filters of a project
+	 * which exclude files and folders from the workspace tree, e.g. the ones
+	 * configured by <code>java.project.resourceFilters</code>. The other
+	 * filters are ignored: the directories they exclude aren't walked anyway,
+	 * since they have no folder in the tree.
+	 */
+	private static void getFilters(IProject project, List<Pattern> fileFilters, List<Pattern> folderFilters) {
+		try {
+			for (IResourceFilterDescription filter : project.getFilters()) {
+				FileInfoMatcherDescription matcher = filter.getFileInfoMatcherDescription();
+				int type = filter.getType();
+				if ((type & IResourceFilterDescription.EXCLUDE_ALL) == 0 || (type & IResourceFilterDescription.INHERITABLE) == 0 || !REGEX_FILTER_MATCHER_ID.equals(matcher.getId()) || !(matcher.getArguments() instanceof String)) {
+					continue;
+				}
+				Pattern pattern = Pattern.compile((String) matcher.getArguments());
+				if ((type & IResourceFilterDescription.FILES) != 0) {
+					fileFilters.add(pattern);
+				}
+				if ((type & IResourceFilterDescription.FOLDERS) != 0) {
+					folderFilters.add(pattern);
+				}
+			}
+		} catch (CoreException | PatternSyntaxException e) {
+			JavaLanguageServerPlugin.logException("Problem reading the resource filters of " + project.getName(), e);
+		}
+	}
+
+	private static boolean isFiltered(String name, List<Pattern> filters) {
+		for (Pattern filter : filters) {
+			if (filter.matcher(name).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Takes the snapshot of the given container and all its subfolders in the
+	 * workspace tree, with the modification times of the files when they were
+	 * last refreshed. The linked resources are skipped.
+	 */
+	public static FileSystemSnapshot take(IContainer root) throws CoreException {
+		Map<String, Long> directories = new HashMap<>();
+		take(root, root.getFullPath(), directories);
+		return new FileSystemSnapshot(root.getLocation().toFile().toPath().toString(), directories);
+	}
+
+	private static void take(IContainer container, IPath root, Map<String, Long> directories) throws CoreException {
+		long hash = 0;
+		for (IResource member : container.members(IContainer.INCLUDE_HIDDEN)) {
+			if (member.isLinked()) {
+				continue;
+			}
+			if (member.getType() == IResource.FILE) {
+				hash += hash(member.getName(), member.getLocalTimeStamp());
+			} else {
+				hash += hash(member.getName(), -1);
+				take((IContainer) member, root, directories);
+			}
+		}
+		directories.put(container.getFullPath().makeRelativeTo(root).toString(), hash);
+	}
+
+	/**
+	 * Returns the directories to refresh to bring a workspace tree in sync
+	 * with this snapshot up to date with the current one.
+	 *
+	 * @return the relative paths of the directories whose entries changed,
+	 *         mapped to {@link IResource#DEPTH_ONE}, and of the new
+	 *         directories, mapped to {@link IResource#DEPTH_INFINITE}, sorted
+	 *         so that a directory comes before its subdirectories. The
+	 *         subdirectories of a new directory are skipped.
+	 */
+	public Map<String, Integer> getChanges(FileSystemSnapshot current) {
+		Map<String, Integer> changes = new TreeMap<>();
+		for (Map.Entry<String, Long> directory : current.directories.entrySet()) {
+			String path = directory.getKey();
+			Long previous = directories.get(path);
+			if (previous == null) {
+				if (directories.containsKey(getParentPath(path))) {
+					changes.put(path, IResource.DEPTH_INFINITE);
+				}
+			} else if (!previous.equals(directory.getValue())) {
+				changes.put(path, IResource.DEPTH_ONE);
+			}
+		}
+		return changes;
+	}
+
+	/**
+	 * Refreshes the given open projects from their saved snapshots, one after
+	 * the other, in the calling thread: the projects are imported under the
+	 * workspace root rule, which concurrent refresh jobs would wait for.
+	 *
+	 * @return the projects refreshed, the other ones have no snapshot and must
+	 *         be refreshed entirely
+	 */
+	public static Set<IProject> refresh(Collection<IProject> projects, IProgressMonitor monitor) {
+		Set<IProject> refreshed = new HashSet<>();
+		for (IProject project : projects) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			IPath location = project.getLocation();
+			FileSystemSnapshot previous = read(project);
+			if (location == null || previous == null || !previous.root.equals(location.toFile().toPath().toString())) {
+				continue;
+			}
+			if (refresh(project, previous, monitor)) {
+				refreshed.add(project);
+			}
+		}
+		return refreshed;
+	}
+
+	/**
+	 * Refreshes the directories of a project which changed since its snapshot
+	 * was taken.
+	 *
+	 * @return whether the project is refreshed
+	 */
+	private static boolean refresh(IProject project, FileSystemSnapshot previous, IProgressMonitor monitor) {
+		try {
+			Map<String, Integer> changes = previous.getChanges(take(project.getLocation().toFile().toPath(), project));
+			for (Map.Entry<String, Integer> change : changes.entrySet()) {
+				if (monitor.isCanceled()) {
+					return false;
+				}
+				IResource resource = change.getKey().isEmpty() ? project : project.getFolder(change.getKey());
+				// the directories filtered out of the workspace don't exist
+				if (resource.exists()) {
+					resource.refreshLocal(change.getValue(), monitor);
+				}
+			}
+			return true;
+		} catch (IOException | CoreException e) {
+			JavaLanguageServerPlugin.logException("Problem refreshing " + project.getName(), e);
+			return false;
+		}
+	}
+
+	/**
+	 * Saves the snapshots of the given projects, taken from the workspace
+	 * tree.
+	 */
+	public static void save(Collection<IProject> projects) {
+		projects.parallelStream().forEach(project -> {
+			if (project.getLocation() == null || !project.isOpen()) {
+				return;
+			}
+			try {
+				take(project).write(getSnapshotFile(project));
+			} catch (IOException | CoreException e) {
+				JavaLanguageServerPlugin.logException("Problem saving the snapshot of " + project.getName(), e);
+			}
+		});
+	}
+
+	/**
+	 * Reads and deletes the saved snapshot of a project.
+	 *
+	 * @return the snapshot, or <code>null</code> if there's none
+	 */
+	static FileSystemSnapshot read(IProject project) {
+		File file = getSnapshotFile(project);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			String root = in.readUTF();
+			int count = in.readInt();
+			Map<String, Long> directories = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				directories.put(in.readUTF(), in.readLong());
+			}
+			return new FileSystemSnapshot(root, directories);
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Problem reading the snapshot of " + project.getName(), e);
+			return null;
+		} finally {
+			file.delete();
+		}
+	}
+
+	private void write(File file) throws IOException {
+		file.getParentFile().mkdirs();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(root);
+			out.writeInt(directories.size());
+			for (Map.Entry<String, Long> directory : directories.entrySet()) {
+				out.writeUTF(directory.getKey());
+				out.writeLong(directory.getValue());
+			}
+		}
+	}
+
+	private static File getSnapshotFile(IProject project) {
+		return JavaLanguageServerPlugin.getInstance().getStateLocation().append(SNAPSHOTS_DIRECTORY).append(project.getName()).toFile();
+	}
+
+	private static String getRelativePath(Path root, Path dir) {
+		return root.relativize(dir).toString().replace(File.separatorChar, '/');
+	}
+
+	private static String getParentPath(String path) {
+		return path.substring(0, Math.max(0, path.lastIndexOf('/')));
+	}
+
+	/**
+	 * Hashes an entry of a directory, so that the hash of a directory, the sum
+	 * of the hashes of its entries, doesn't depend on the order they are
+	 * listed in. The sizes of the files aren't hashed, since the workspace
+	 * tree doesn't record them.
+	 */
+	private static long hash(String name, long lastModified) {
+		long hash = name.hashCode();
+		hash = hash * 0x9E3779B97F4A7C15L + lastModified;
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		return hash ^ (hash >>> 33);
+	}
+}
@@ -51,6 +51,8 @@ import org.eclipse.buildship.core.WrapperGradleDistribution;
 import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.preferences.PersistentModel;
 import org.eclipse.buildship.core.internal.util.gradle.GradleVersion;
+import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
+import org.eclipse.buildship.core.internal.workspace.InternalGradleBuild;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
@@ -61,8 +63,11 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.jdt.core.IJavaProject;
@@ -85,8 +90,10 @@ import org.eclipse.jdt.ls.internal.gradle.checksums.WrapperValidator;
 import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.lsp4j.MessageParams;
 import org.eclipse.lsp4j.MessageType;
+import org.gradle.tooling.GradleConnector;
 import org.gradle.tooling.model.build.BuildEnvironment;
 import org.gradle.tooling.model.build.GradleEnvironment;
+import org.gradle.tooling.model.eclipse.EclipseProject;
 
 /**
  * @author Fred Bricon
@@ -122,6 +129,14 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 
 	private static final String MESSAGE_DIGEST_ALGORITHM = "SHA-256";
 
+	/**
+	 * The system property setting the max number of independent Gradle builds
+	 * whose models are fetched concurrently before they are synchronized.
+	 */
+	public static final String MODEL_FETCH_THREADS_PROPERTY = "jdt.ls.gradle.modelFetchThreads";
+
+	public static final int DEFAULT_MODEL_FETCH_THREADS = 4;
+
 	//@formatter:off
 	public static final String GRADLE_WRAPPER_CHEKSUM_WARNING_TEMPLATE =
 			"Security Warning! The gradle wrapper '@wrapper@' could be malicious. "
@@ -212,6 +227,7 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		subMonitor.worked(1);
 		MultiStatus compatibilityStatus = new MultiStatus(IConstants.PLUGIN_ID, -1, "Compatibility issue occurs when importing Gradle projects", null);
 		MultiStatus gradleUpgradeWrapperStatus = new MultiStatus(IConstants.PLUGIN_ID, -1, "Gradle upgrade wrapper", null);
+		fetchModels(directories, monitor);
 		for (Path directory : directories) {
 			IStatus importStatus = importDir(directory, subMonitor.newChild(1));
 			if (isFailedStatus(importStatus) && importStatus instanceof GradleCompatibilityStatus) {
@@ -293,6 +309,52 @@ public class GradleProjectImporter extends AbstractProjectImporter {
 		subMonitor.done();
 	}
 
+	/**
+	 * Fetches the Eclipse models of the given independent Gradle builds
+	 * concurrently, in jobs that don't hold the workspace root rule. Buildship
+	 * synchronizes a build, the model fetch included, under that rule, so the
+	 * builds are still synchronized one at a time afterwards, but their
+	 * daemons are started, their build scripts compiled and their dependencies
+	 * resolved by then. A failed fetch is ignored, the synchronization reports
+	 * it.
+	 */
+	private void fetchModels(Collection<Path> roots, IProgressMonitor monitor) {
+		List<Path> builds = roots.stream().filter(root -> shouldSynchronize(root.toFile())).collect(Collectors.toList());
+		int threads = Math.min(builds.size(), Integer.getInteger(MODEL_FETCH_THREADS_PROPERTY, Math.min(DEFAULT_MODEL_FETCH_THREADS, Runtime.getRuntime().availableProcessors())));
+		if (threads <= 1) {
+			// nothing to overlap
+			return;
+		}
+		JobGroup group = new JobGroup(IMPORTING_GRADLE_PROJECTS, threads, builds.size());
+		for (Path root : builds) {
+			Job job = new Job("Fetch the Gradle model of " + root.getFileName()) {
+
+				@Override
+				protected IStatus run(IProgressMonitor jobMonitor) {
+					GradleBuild gradleBuild = GradleCore.getWorkspace().createBuild(getBuildConfiguration(root));
+					if (gradleBuild instanceof InternalGradleBuild) {
+						try {
+							((InternalGradleBuild) gradleBuild).getModelProvider().fetchModels(EclipseProject.class, FetchStrategy.FORCE_RELOAD, GradleConnector.newCancellationTokenSource(), jobMonitor);
+						} catch (Exception e) {
+							JavaLanguageServerPlugin.logInfo("Failed to fetch the Gradle model of " + root + ": " + e.getMessage());
+						}
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		try {
+			group.join(0, monitor);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (OperationCanceledException e) {
+			group.cancel();
+		}
+	}
+
 	private IStatus importDir(Path projectFolder, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return Status.CANCEL_STATUS;
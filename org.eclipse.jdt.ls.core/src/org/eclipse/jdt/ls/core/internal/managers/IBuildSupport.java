@@ -103,7 +103,7 @@ public interface IBuildSupport {
 			}
 			resource = resource.getParent();
 		}
-		if (resource != null) {
+		if (resource != null && !RefreshBatch.defer(resource)) {
 			resource.refreshLocal(IResource.DEPTH_INFINITE, monitor);
 		}
 	}
@@ -15,6 +15,7 @@ package org.eclipse.jdt.ls.core.internal.managers;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.core.resources.IProject;
@@ -85,6 +86,13 @@ public interface IProjectsManager {
 	 */
 	void fileChanged(String uriString, CHANGE_TYPE changeType);
 
+	/**
+	 * Handle a batch of file change events, at most one per file.
+	 */
+	default void filesChanged(Map<String, CHANGE_TYPE> changes) {
+		changes.forEach(this::fileChanged);
+	}
+
 	/**
 	 * Unregister listeners.
 	 */
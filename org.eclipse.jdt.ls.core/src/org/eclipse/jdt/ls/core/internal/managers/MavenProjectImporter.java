@@ -254,15 +254,21 @@ public class MavenProjectImporter extends AbstractProjectImporter {
 		if (projects.isEmpty()) {
 			return;
 		}
+		for (IProject project : projects) {
+			project.open(monitor);
+		}
+		// the projects already imported are refreshed from the snapshots saved at shutdown
+		Set<IProject> refreshed = FileSystemSnapshot.refresh(projects, monitor);
 		Iterator<IProject> iterator = projects.iterator();
 		while (iterator.hasNext()) {
 			IProject project = iterator.next();
-			project.open(monitor);
-			if (Platform.OS_WIN32.equals(Platform.getOS())) {
-				project.refreshLocal(IResource.DEPTH_ONE, monitor);
-				((Workspace) ResourcesPlugin.getWorkspace()).getRefreshManager().refresh(project);
-			} else {
-				project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+			if (!refreshed.contains(project)) {
+				if (Platform.OS_WIN32.equals(Platform.getOS())) {
+					project.refreshLocal(IResource.DEPTH_ONE, monitor);
+					((Workspace) ResourcesPlugin.getWorkspace()).getRefreshManager().refresh(project);
+				} else {
+					project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+				}
 			}
 			if (!needsMavenUpdate(project, lastWorkspaceStateSaved)) {
 				iterator.remove();
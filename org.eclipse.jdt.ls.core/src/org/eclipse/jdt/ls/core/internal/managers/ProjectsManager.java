@@ -142,7 +142,8 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 		MultiStatus importStatusCollection = new MultiStatus(IConstants.PLUGIN_ID, -1, "Failed to import projects", null);
 		for (IPath rootPath : rootPaths) {
 			File rootFolder = rootPath.toFile();
-			try {
+			// the importers search their build files in the same scan of the root folder
+			try (BuildFileIndex index = BuildFileIndex.open(rootFolder.toPath())) {
 				for (IProjectImporter importer : importers()) {
 					importer.initialize(rootFolder);
 					if (importer.applies(subMonitor.split(1))) {
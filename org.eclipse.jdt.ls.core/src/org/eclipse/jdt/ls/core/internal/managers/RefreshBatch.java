@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * Defers the refreshes of the resources of a batch of file events to its end,
+ * so that a mass change, like a branch switch, is refreshed with the minimal
+ * set of refreshes: the resources whose ancestor is refreshed are skipped, and
+ * the files of a folder with many changed files are refreshed by refreshing
+ * the folder.
+ *
+ * A batch is bound to the thread which began it. Beginning a batch while
+ * another one is running on the same thread joins it, so that the refreshes
+ * are done when the outermost batch ends.
+ */
+public final class RefreshBatch {
+
+	/**
+	 * The min number of changed files of a folder refreshed by refreshing the
+	 * folder.
+	 */
+	public static final int FOLDER_THRESHOLD = 16;
+
+	private static final ThreadLocal<RefreshBatch> current = new ThreadLocal<>();
+
+	private final Set<IResource> resources = new LinkedHashSet<>();
+	private int depth = 1;
+
+	private RefreshBatch() {
+	}
+
+	/**
+	 * Begins a batch on the current thread, or joins the running one.
+	 *
+	 * @return the batch, which must be ended
+	 */
+	public static RefreshBatch begin() {
+		RefreshBatch batch = current.get();
+		if (batch != null) {
+			batch.depth++;
+			return batch;
+		}
+		batch = new RefreshBatch();
+		current.set(batch);
+		return batch;
+	}
+
+	/**
+	 * Defers the refresh of the given resource, and all its members, to the
+	 * end of the batch running on the current thread.
+	 *
+	 * @return <code>true</code> if the refresh is deferred,
+	 *         <code>false</code> if no batch is running and the resource must
+	 *         be refreshed now
+	 */
+	public static boolean defer(IResource resource) {
+		RefreshBatch batch = current.get();
+		if (batch == null) {
+			return false;
+		}
+		batch.resources.add(resource);
+		return true;
+	}
+
+	/**
+	 * Ends the batch, refreshing its resources if it's the outermost batch.
+	 */
+	public void end(IProgressMonitor monitor) {
+		if (--depth > 0) {
+			return;
+		}
+		current.remove();
+		Map<IResource, Integer> refreshes = getRefreshes(resources);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, refreshes.size());
+		for (Map.Entry<IResource, Integer> refresh : refreshes.entrySet()) {
+			try {
+				refresh.getKey().refreshLocal(refresh.getValue(), subMonitor.split(1));
+			} catch (CoreException e) {
+				JavaLanguageServerPlugin.logException("Problem refreshing workspace", e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the minimal refreshes covering the given resources, with their
+	 * depth.
+	 */
+	public static Map<IResource, Integer> getRefreshes(Collection<IResource> resources) {
+		Set<IResource> all = new HashSet<>(resources);
+		Map<IContainer, List<IResource>> filesByFolder = new LinkedHashMap<>();
+		Map<IResource, Integer> refreshes = new LinkedHashMap<>();
+		for (IResource resource : resources) {
+			if (isCovered(resource, all)) {
+				continue;
+			}
+			if (resource.getType() == IResource.FILE && resource.getParent() != null) {
+				filesByFolder.computeIfAbsent(resource.getParent(), folder -> new ArrayList<>()).add(resource);
+			} else {
+				refreshes.put(resource, IResource.DEPTH_INFINITE);
+			}
+		}
+		for (Map.Entry<IContainer, List<IResource>> files : filesByFolder.entrySet()) {
+			if (files.getValue().size() >= FOLDER_THRESHOLD) {
+				refreshes.put(files.getKey(), IResource.DEPTH_ONE);
+			} else {
+				for (IResource file : files.getValue()) {
+					refreshes.put(file, IResource.DEPTH_ZERO);
+				}
+			}
+		}
+		return refreshes;
+	}
+
+	private static boolean isCovered(IResource resource, Set<IResource> resources) {
+		for (IContainer parent = resource.getParent(); parent != null; parent = parent.getParent()) {
+			if (resources.contains(parent)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.LinkedHashSet;
@@ -179,91 +180,96 @@ public class StandardProjectsManager extends ProjectsManager {
 		if (uriString == null) {
 			return;
 		}
+		filesChanged(Collections.singletonMap(uriString, changeType));
+	}
+
+	/**
+	 * Handles a batch of file changes: the formatter and settings URLs are
+	 * parsed once, the resources are refreshed with the minimal set of
+	 * refreshes once all the changes are handled, and each project is updated
+	 * at most once.
+	 */
+	@Override
+	public void filesChanged(Map<String, CHANGE_TYPE> changes) {
+		Preferences preferences = preferenceManager.getPreferences();
 		boolean configureNeeded = false;
-		String formatterUrl = preferenceManager.getPreferences().getFormatterUrl();
-		if (formatterUrl != null && JavaLanguageServerPlugin.getInstance().getProtocol() != null) {
-			URI uri = JDTUtils.toURI(uriString);
-			List<URI> uris = getURIs(formatterUrl);
-			boolean changed = false;
-			for (URI formatterUri : uris) {
-				if (URIUtil.sameURI(formatterUri, uri)) {
-					changed = true;
-					break;
-				}
-			}
-			if (changed) {
-				if (changeType == CHANGE_TYPE.DELETED || changeType == CHANGE_TYPE.CREATED) {
-					registerWatchers();
+		boolean watchersChanged = false;
+		if (JavaLanguageServerPlugin.getInstance().getProtocol() != null) {
+			List<URI> uris = new ArrayList<>(getURIs(preferences.getFormatterUrl()));
+			uris.addAll(getURIs(preferences.getSettingsUrl()));
+			if (!uris.isEmpty()) {
+				for (Map.Entry<String, CHANGE_TYPE> change : changes.entrySet()) {
+					URI uri = JDTUtils.toURI(change.getKey());
+					if (uris.stream().anyMatch(settingsUri -> URIUtil.sameURI(settingsUri, uri))) {
+						configureNeeded = true;
+						watchersChanged |= change.getValue() == CHANGE_TYPE.DELETED || change.getValue() == CHANGE_TYPE.CREATED;
+					}
 				}
-				configureNeeded = true;
 			}
 		}
-		String settingsUrl = preferenceManager.getPreferences().getSettingsUrl();
-		if (settingsUrl != null && JavaLanguageServerPlugin.getInstance().getProtocol() != null) {
-			URI uri = JDTUtils.toURI(uriString);
-			List<URI> uris = getURIs(settingsUrl);
-			boolean changed = false;
-			for (URI settingsURI : uris) {
-				if (URIUtil.sameURI(settingsURI, uri)) {
-					changed = true;
-					break;
-				}
-			}
-			if (changed) {
-				if (changeType == CHANGE_TYPE.DELETED || changeType == CHANGE_TYPE.CREATED) {
-					registerWatchers();
-				}
-				configureNeeded = true;
-			}
+		if (watchersChanged) {
+			registerWatchers();
 		}
 		if (configureNeeded) {
-			configureSettings(preferenceManager.getPreferences());
-		}
-		IResource resource = JDTUtils.getFileOrFolder(uriString);
-		if (resource == null) {
-			return;
+			configureSettings(preferences);
 		}
+		Map<IProject, Optional<IBuildSupport>> buildSupports = new HashMap<>();
+		Set<IProject> projectsToUpdate = new LinkedHashSet<>();
+		RefreshBatch batch = RefreshBatch.begin();
 		try {
-			IProject project = resource.getProject();
-			Optional<IBuildSupport> bs = getBuildSupport(project);
-			if (bs.isPresent()) {
-				IBuildSupport buildSupport = bs.get();
-
-				if (JDTUtils.isExcludedFile(buildSupport.getExcludedFilePatterns(), uriString)) {
-					return;
+			for (Map.Entry<String, CHANGE_TYPE> change : changes.entrySet()) {
+				String uriString = change.getKey();
+				IResource resource = JDTUtils.getFileOrFolder(uriString);
+				if (resource == null) {
+					continue;
 				}
+				try {
+					IProject project = resource.getProject();
+					Optional<IBuildSupport> bs = buildSupports.computeIfAbsent(project, this::getBuildSupport);
+					if (bs.isPresent()) {
+						IBuildSupport buildSupport = bs.get();
 
-				boolean requireConfigurationUpdate = buildSupport.fileChanged(resource, changeType, new NullProgressMonitor()) &&
-						JavaLanguageServerPlugin.getDigestStore().updateDigest(resource.getLocation().toFile().toPath());
-				if (requireConfigurationUpdate) {
-					FeatureStatus status = preferenceManager.getPreferences().getUpdateBuildConfigurationStatus();
-					switch (status) {
-						case automatic:
-							if (ProjectUtils.isGradleProject(project)) {
-								// See https://github.com/redhat-developer/vscode-java/issues/2673
-								return;
-							}
-							updateProject(project, true);
-							break;
-						case disabled:
-							appendBuildFileMarker(resource);
-							break;
-						default:
-							if (client != null) {
-								String cmd = "java.projectConfiguration.status";
-								TextDocumentIdentifier uri = new TextDocumentIdentifier(uriString);
-								ActionableNotification updateProjectConfigurationNotification = new ActionableNotification().withSeverity(MessageType.Info)
-										.withMessage("A build file was modified. Do you want to synchronize the Java classpath/configuration?").withCommands(asList(new Command("Yes", cmd, asList(uri, FeatureStatus.interactive)),
-												new Command("Always", cmd, asList(uri, FeatureStatus.automatic)), new Command("Never", cmd, asList(uri, FeatureStatus.disabled))));
-								client.sendActionableNotification(updateProjectConfigurationNotification);
+						if (JDTUtils.isExcludedFile(buildSupport.getExcludedFilePatterns(), uriString)) {
+							continue;
+						}
+
+						boolean requireConfigurationUpdate = buildSupport.fileChanged(resource, change.getValue(), new NullProgressMonitor()) &&
+								JavaLanguageServerPlugin.getDigestStore().updateDigest(resource.getLocation().toFile().toPath());
+						if (requireConfigurationUpdate) {
+							FeatureStatus status = preferences.getUpdateBuildConfigurationStatus();
+							switch (status) {
+								case automatic:
+									// See https://github.com/redhat-developer/vscode-java/issues/2673
+									if (!ProjectUtils.isGradleProject(project)) {
+										projectsToUpdate.add(project);
+									}
+									break;
+								case disabled:
+									appendBuildFileMarker(resource);
+									break;
+								default:
+									if (client != null) {
+										String cmd = "java.projectConfiguration.status";
+										TextDocumentIdentifier uri = new TextDocumentIdentifier(uriString);
+										ActionableNotification updateProjectConfigurationNotification = new ActionableNotification().withSeverity(MessageType.Info)
+												.withMessage("A build file was modified. Do you want to synchronize the Java classpath/configuration?").withCommands(asList(new Command("Yes", cmd, asList(uri, FeatureStatus.interactive)),
+														new Command("Always", cmd, asList(uri, FeatureStatus.automatic)), new Command("Never", cmd, asList(uri, FeatureStatus.disabled))));
+										client.sendActionableNotification(updateProjectConfigurationNotification);
+									}
+									appendBuildFileMarker(resource);
+									break;
 							}
-							appendBuildFileMarker(resource);
-							break;
+						}
 					}
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.logException("Problem refreshing workspace", e);
 				}
 			}
-		} catch (CoreException e) {
-			JavaLanguageServerPlugin.logException("Problem refreshing workspace", e);
+		} finally {
+			batch.end(new NullProgressMonitor());
+		}
+		for (IProject project : projectsToUpdate) {
+			updateProject(project, true);
 		}
 	}
 
@@ -404,6 +410,7 @@ public class StandardProjectsManager extends ProjectsManager {
 	public void prepareToSave(ISaveContext context) throws CoreException {
 		if (context.getKind() == ISaveContext.FULL_SAVE) {
 			GradleBuildSupport.saveModels();
+			FileSystemSnapshot.save(Stream.of(ProjectUtils.getAllProjects()).filter(ProjectUtils::isMavenProject).collect(Collectors.toList()));
 		}
 	}
 
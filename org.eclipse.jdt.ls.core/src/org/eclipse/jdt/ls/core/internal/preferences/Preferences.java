@@ -218,6 +218,12 @@ public class Preferences {
 	 */
 	public static final String JAVA_SAVE_ACTIONS_ORGANIZE_IMPORTS_KEY = "java.saveActions.organizeImports";
 
+	/**
+	 * Preference key to enable/disable formatting the lines modified since the
+	 * last save, on save
+	 */
+	public static final String JAVA_SAVE_ACTIONS_FORMAT_MODIFIED_LINES_KEY = "java.saveActions.formatModifiedLines";
+
 	/**
 	 * Preference key to enable/disable signature help.
 	 */
@@ -233,6 +239,13 @@ public class Preferences {
 	 */
 	public static final String RENAME_ENABLED_KEY = "java.rename.enabled";
 
+	/**
+	 * Preference key for the number of files whose edits the server applies
+	 * together, with <code>workspace/applyEdit</code>, when a rename changes
+	 * more files than that. 0 returns all the edits in the rename response.
+	 */
+	public static final String RENAME_APPLY_EDIT_CHUNK_SIZE_KEY = "java.rename.applyEditChunkSize";
+
 	/**
 	 * Preference key to enable/disable executeCommand.
 	 */
@@ -248,6 +261,13 @@ public class Preferences {
 	 */
 	public static final String JAVA_MAX_CONCURRENT_BUILDS = "java.maxConcurrentBuilds";
 
+	/**
+	 * Preference key to set the max number of independent working copies
+	 * validated concurrently. Defaults to 1, i.e. sequential validation.
+	 */
+	public static final String JAVA_VALIDATION_PARALLELISM_KEY = "java.validation.parallelism";
+	public static final int JAVA_VALIDATION_PARALLELISM_DEFAULT = 1;
+
 	/**
 	 * Preference key to exclude directories when importing projects.
 	 */
@@ -536,9 +556,11 @@ public class Preferences {
 	private String javaQuickFixShowAt;
 	private boolean javaFormatOnTypeEnabled;
 	private boolean javaSaveActionsOrganizeImportsEnabled;
+	private boolean javaSaveActionsFormatModifiedLinesEnabled;
 	private boolean signatureHelpEnabled;
 	private boolean signatureHelpDescriptionEnabled;
 	private boolean renameEnabled;
+	private int renameApplyEditChunkSize;
 	private boolean executeCommandEnabled;
 	private boolean autobuildEnabled;
 	private boolean completionEnabled;
@@ -584,6 +606,7 @@ public class Preferences {
 	private Collection<IPath> triggerFiles;
 	private Collection<IPath> projectConfigurations;
 	private int parallelBuildsCount;
+	private int validationParallelism;
 	private int maxCompletionResults;
 	private int importOnDemandThreshold;
 	private int staticImportOnDemandThreshold;
@@ -777,9 +800,11 @@ public class Preferences {
 		javaQuickFixShowAt = LINE;
 		javaFormatOnTypeEnabled = false;
 		javaSaveActionsOrganizeImportsEnabled = false;
+		javaSaveActionsFormatModifiedLinesEnabled = false;
 		signatureHelpEnabled = false;
 		signatureHelpDescriptionEnabled = false;
 		renameEnabled = true;
+		renameApplyEditChunkSize = 0;
 		executeCommandEnabled = true;
 		autobuildEnabled = true;
 		completionEnabled = true;
@@ -807,6 +832,7 @@ public class Preferences {
 		importOrder = JAVA_IMPORT_ORDER_DEFAULT;
 		filteredTypes = JAVA_COMPLETION_FILTERED_TYPES_DEFAULT;
 		parallelBuildsCount = PreferenceInitializer.PREF_MAX_CONCURRENT_BUILDS_DEFAULT;
+		validationParallelism = JAVA_VALIDATION_PARALLELISM_DEFAULT;
 		maxCompletionResults = JAVA_COMPLETION_MAX_RESULTS_DEFAULT;
 		importOnDemandThreshold = IMPORTS_ONDEMANDTHRESHOLD_DEFAULT;
 		staticImportOnDemandThreshold = IMPORTS_STATIC_ONDEMANDTHRESHOLD_DEFAULT;
@@ -929,6 +955,9 @@ public class Preferences {
 		boolean javaSaveActionAutoOrganizeImportsEnabled = getBoolean(configuration, JAVA_SAVE_ACTIONS_ORGANIZE_IMPORTS_KEY, false);
 		prefs.setJavaSaveActionAutoOrganizeImportsEnabled(javaSaveActionAutoOrganizeImportsEnabled);
 
+		boolean javaSaveActionsFormatModifiedLinesEnabled = getBoolean(configuration, JAVA_SAVE_ACTIONS_FORMAT_MODIFIED_LINES_KEY, false);
+		prefs.setJavaSaveActionsFormatModifiedLinesEnabled(javaSaveActionsFormatModifiedLinesEnabled);
+
 		boolean signatureHelpEnabled = getBoolean(configuration, SIGNATURE_HELP_ENABLED_KEY, true);
 		prefs.setSignatureHelpEnabled(signatureHelpEnabled);
 
@@ -938,6 +967,9 @@ public class Preferences {
 		boolean renameEnabled = getBoolean(configuration, RENAME_ENABLED_KEY, true);
 		prefs.setRenameEnabled(renameEnabled);
 
+		int renameApplyEditChunkSize = getInt(configuration, RENAME_APPLY_EDIT_CHUNK_SIZE_KEY, 0);
+		prefs.setRenameApplyEditChunkSize(renameApplyEditChunkSize);
+
 		boolean executeCommandEnable = getBoolean(configuration, EXECUTE_COMMAND_ENABLED_KEY, true);
 		prefs.setExecuteCommandEnabled(executeCommandEnable);
 
@@ -1071,6 +1103,9 @@ public class Preferences {
 		maxConcurrentBuilds = maxConcurrentBuilds >= 1 ? maxConcurrentBuilds : 1;
 		prefs.setMaxBuildCount(maxConcurrentBuilds);
 
+		int validationParallelism = getInt(configuration, JAVA_VALIDATION_PARALLELISM_KEY, JAVA_VALIDATION_PARALLELISM_DEFAULT);
+		prefs.setValidationParallelism(validationParallelism);
+
 		int maxCompletions = getInt(configuration, JAVA_COMPLETION_MAX_RESULTS_KEY, JAVA_COMPLETION_MAX_RESULTS_DEFAULT);
 		prefs.setMaxCompletionResults(maxCompletions);
 
@@ -1317,6 +1352,11 @@ public class Preferences {
 		return this;
 	}
 
+	public Preferences setRenameApplyEditChunkSize(int renameApplyEditChunkSize) {
+		this.renameApplyEditChunkSize = Math.max(0, renameApplyEditChunkSize);
+		return this;
+	}
+
 	private Preferences setExecuteCommandEnabled(boolean enabled) {
 		this.executeCommandEnabled = enabled;
 		return this;
@@ -1375,6 +1415,11 @@ public class Preferences {
 		return this;
 	}
 
+	public Preferences setJavaSaveActionsFormatModifiedLinesEnabled(boolean javaSaveActionsFormatModifiedLinesEnabled) {
+		this.javaSaveActionsFormatModifiedLinesEnabled = javaSaveActionsFormatModifiedLinesEnabled;
+		return this;
+	}
+
 	public Preferences setHashCodeEqualsTemplateUseJava7Objects(boolean hashCodeEqualsTemplateUseJ7Objects) {
 		this.hashCodeEqualsTemplateUseJava7Objects = hashCodeEqualsTemplateUseJ7Objects;
 		return this;
@@ -1450,6 +1495,21 @@ public class Preferences {
 		return this;
 	}
 
+	public int getValidationParallelism() {
+		return validationParallelism;
+	}
+
+	/**
+	 * Sets the max number of independent working copies validated
+	 * concurrently. Values lower than 1 are treated as 1.
+	 *
+	 * @param validationParallelism
+	 */
+	public Preferences setValidationParallelism(int validationParallelism) {
+		this.validationParallelism = Math.max(1, validationParallelism);
+		return this;
+	}
+
 	public Severity getIncompleteClasspathSeverity() {
 		return incompleteClasspathSeverity;
 	}
@@ -1622,6 +1682,10 @@ public class Preferences {
 		return javaSaveActionsOrganizeImportsEnabled;
 	}
 
+	public boolean isJavaSaveActionsFormatModifiedLinesEnabled() {
+		return javaSaveActionsFormatModifiedLinesEnabled;
+	}
+
 	public boolean isSignatureHelpEnabled() {
 		return signatureHelpEnabled;
 	}
@@ -1634,6 +1698,10 @@ public class Preferences {
 		return renameEnabled;
 	}
 
+	public int getRenameApplyEditChunkSize() {
+		return renameApplyEditChunkSize;
+	}
+
 	public boolean isExecuteCommandEnabled() {
 		return executeCommandEnabled;
 	}
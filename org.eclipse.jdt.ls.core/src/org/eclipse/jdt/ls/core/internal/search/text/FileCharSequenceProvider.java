@@ -14,14 +14,21 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.search.text;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.content.IContentDescription;
 
 /**
@@ -32,9 +39,30 @@ public class FileCharSequenceProvider {
 	private static int NUMBER_OF_BUFFERS= 3;
 	public static int BUFFER_SIZE= 2 << 18; // public for testing
 
+	/**
+	 * The min size of the files searched through a view of their bytes, the
+	 * smaller ones are read faster through a reader.
+	 */
+	public static int BYTES_FILE_MIN_SIZE= 2 << 15; // public for testing
+
+	/**
+	 * The max size of the files searched through a view of their bytes, so
+	 * that the reused buffer holding them stays small enough to be kept.
+	 */
+	private static final int BYTES_FILE_MAX_SIZE= 2 << 25;
+
+	private static final String CHARSET_UTF_8= "UTF-8"; //$NON-NLS-1$
+	private static final String CHARSET_US_ASCII= "US-ASCII"; //$NON-NLS-1$
+	private static final String CHARSET_ISO_8859_1= "ISO-8859-1"; //$NON-NLS-1$
+
 	private FileCharSequence fReused= null;
+	private ByteBuffer fReusedBytes= null;
 
 	public CharSequence newCharSequence(IFile file) throws CoreException, IOException {
+		CharSequence bytes= newByteCharSequence(file);
+		if (bytes != null) {
+			return bytes;
+		}
 		if (fReused == null) {
 			return new FileCharSequence(file);
 		}
@@ -45,7 +73,9 @@ public class FileCharSequenceProvider {
 	}
 
 	public void releaseCharSequence(CharSequence seq) throws IOException {
-		if (seq instanceof FileCharSequence) {
+		if (seq instanceof ByteCharSequence) {
+			fReusedBytes= ((ByteCharSequence) seq).fBytes;
+		} else if (seq instanceof FileCharSequence) {
 			FileCharSequence curr= (FileCharSequence) seq;
 			try {
 				curr.close();
@@ -57,6 +87,92 @@ public class FileCharSequenceProvider {
 		}
 	}
 
+	/**
+	 * Returns a view of the bytes of a large file whose characters are all
+	 * encoded with a single byte, i.e. an ISO-8859-1 file or an ASCII only
+	 * UTF-8 or US-ASCII file, so that the file is searched without being
+	 * decoded. The bytes are read at once in a direct buffer, reused once the
+	 * sequence is released, and the file is closed before being searched, so
+	 * that it can be written while it is, even on Windows.
+	 *
+	 * @return the view, or <code>null</code> if the file must be read through
+	 *         a reader
+	 */
+	private CharSequence newByteCharSequence(IFile file) throws CoreException, IOException {
+		IPath location= file.getLocation();
+		if (location == null || !file.isSynchronized(IResource.DEPTH_ZERO)) {
+			return null;
+		}
+		String charset= file.getCharset();
+		boolean isLatin1= CHARSET_ISO_8859_1.equals(charset);
+		if (!isLatin1 && !CHARSET_UTF_8.equals(charset) && !CHARSET_US_ASCII.equals(charset)) {
+			return null;
+		}
+		File localFile= location.toFile();
+		long size= localFile.length();
+		if (size < BYTES_FILE_MIN_SIZE || size > BYTES_FILE_MAX_SIZE) {
+			return null;
+		}
+		ByteBuffer bytes= fReusedBytes;
+		fReusedBytes= null;
+		if (bytes == null || bytes.capacity() < size) {
+			bytes= ByteBuffer.allocateDirect((int) size);
+		}
+		bytes.clear();
+		try (FileChannel channel= FileChannel.open(localFile.toPath(), StandardOpenOption.READ)) {
+			while (bytes.hasRemaining()) {
+				if (channel.read(bytes) == -1) {
+					break;
+				}
+			}
+			// the file may have grown since its size was read
+			if (channel.position() != channel.size()) {
+				fReusedBytes= bytes;
+				return null;
+			}
+		}
+		bytes.flip();
+		int offset= 0;
+		if (CHARSET_UTF_8.equals(charset) && hasUTF8ByteOrderMark(bytes)) {
+			offset= IContentDescription.BOM_UTF_8.length;
+		}
+		if (!isLatin1 && !isASCII(bytes, offset)) {
+			fReusedBytes= bytes;
+			return null;
+		}
+		return new ByteCharSequence(bytes, offset, bytes.limit() - offset);
+	}
+
+	private static boolean hasUTF8ByteOrderMark(ByteBuffer bytes) {
+		byte[] bom= IContentDescription.BOM_UTF_8;
+		if (bytes.limit() < bom.length) {
+			return false;
+		}
+		for (int i= 0; i < bom.length; i++) {
+			if (bytes.get(i) != bom[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isASCII(ByteBuffer bytes, int offset) {
+		int limit= bytes.limit();
+		int pos= offset;
+		// check 8 bytes at once
+		for (; pos + Long.BYTES <= limit; pos+= Long.BYTES) {
+			if ((bytes.getLong(pos) & 0x8080808080808080L) != 0) {
+				return false;
+			}
+		}
+		for (; pos < limit; pos++) {
+			if (bytes.get(pos) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public static class FileCharSequenceException extends RuntimeException {
 		private static final long serialVersionUID= 1L;
 
@@ -135,6 +251,59 @@ public class FileCharSequenceProvider {
 	}
 
 
+	/**
+	 * A view of bytes, each byte being a character.
+	 */
+	private static final class ByteCharSequence implements CharSequence {
+
+		private final ByteBuffer fBytes;
+		private final int fOffset;
+		private final int fLength;
+
+		public ByteCharSequence(ByteBuffer bytes, int offset, int length) {
+			fBytes= bytes;
+			fOffset= offset;
+			fLength= length;
+		}
+
+		@Override
+		public int length() {
+			return fLength;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0) {
+				throw new IndexOutOfBoundsException("index must be larger than 0"); //$NON-NLS-1$
+			}
+			if (index >= fLength) {
+				throw new IndexOutOfBoundsException("index must be smaller than length"); //$NON-NLS-1$
+			}
+			return (char) (fBytes.get(fOffset + index) & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (end < start) {
+				throw new IndexOutOfBoundsException("end cannot be smaller than start"); //$NON-NLS-1$
+			}
+			if (start < 0) {
+				throw new IndexOutOfBoundsException("start must be larger than 0"); //$NON-NLS-1$
+			}
+			if (end > fLength) {
+				throw new IndexOutOfBoundsException("end must be smaller or equal than length"); //$NON-NLS-1$
+			}
+			return new ByteCharSequence(fBytes, fOffset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			byte[] bytes= new byte[fLength];
+			fBytes.get(fOffset, bytes);
+			return new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+	}
+
 	private static final class Buffer {
 		private final char[] fBuf;
 		private int fOffset;
@@ -233,8 +402,6 @@ public class FileCharSequenceProvider {
 
 	private final class FileCharSequence implements CharSequence {
 
-		private static final String CHARSET_UTF_8= "UTF-8"; //$NON-NLS-1$
-
 		private Reader fReader;
 		private int fReaderPos;
 
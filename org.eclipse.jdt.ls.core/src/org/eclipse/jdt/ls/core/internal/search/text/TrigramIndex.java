@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.search.text;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.LocationKind;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * Indexes the trigrams, the sequences of three characters, of the text files
+ * of the workspace, so that the files which can't contain a string are
+ * skipped without being read.
+ *
+ * A file is indexed the first time it's searched, and reindexed in the
+ * background when it changes, the index being kept up to date with the
+ * resource deltas. The files too large to be indexed, and the files open in
+ * a buffer, whose content may differ from the file one, are never skipped.
+ */
+public final class TrigramIndex {
+
+	/**
+	 * The max size of the files indexed.
+	 */
+	public static final long MAX_FILE_SIZE = 1 << 20;
+
+	private static final int MIN_LITERAL_LENGTH = 3;
+
+	private static TrigramIndex instance;
+
+	private final Map<IFile, Entry> entries = new ConcurrentHashMap<>();
+
+	private TrigramIndex() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this::resourceChanged, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	public static synchronized TrigramIndex getInstance() {
+		if (instance == null) {
+			instance = new TrigramIndex();
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the files which may contain a match of the given pattern,
+	 * indexing the files not indexed yet.
+	 *
+	 * @param files
+	 *            the files to search
+	 * @param pattern
+	 *            a string including '*' and '?' wildcards and '\' for escaping
+	 *            the literals '*', '?' and '\', matched case sensitively
+	 * @return the candidate files, in the order of the given ones
+	 */
+	public IFile[] getCandidates(IFile[] files, String pattern, IProgressMonitor monitor) {
+		int[][] literals = getLiterals(pattern).stream().map(TrigramIndex::getTrigrams).toArray(int[][]::new);
+		if (literals.length == 0) {
+			return files;
+		}
+		return Arrays.stream(files).parallel().filter(file -> {
+			if (monitor != null && monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			return mayContain(file, literals);
+		}).toArray(IFile[]::new);
+	}
+
+	private boolean mayContain(IFile file, int[][] literals) {
+		if (FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE) != null) {
+			return true;
+		}
+		Entry entry = getEntry(file);
+		if (entry == null) {
+			return true;
+		}
+		for (int[] literal : literals) {
+			for (int trigram : literal) {
+				if (Arrays.binarySearch(entry.trigrams, trigram) < 0) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the up to date entry of a file, or <code>null</code> if the file
+	 * can't be indexed.
+	 */
+	private Entry getEntry(IFile file) {
+		File location = getLocation(file);
+		if (location == null || location.length() > MAX_FILE_SIZE) {
+			entries.remove(file);
+			return null;
+		}
+		long stamp = file.getModificationStamp();
+		long lastModified = location.lastModified();
+		Entry entry = entries.get(file);
+		if (entry != null && entry.stamp == stamp && entry.lastModified == lastModified) {
+			return entry;
+		}
+		try {
+			entry = new Entry(stamp, lastModified, index(file));
+			entries.put(file, entry);
+			return entry;
+		} catch (IOException | CoreException e) {
+			entries.remove(file);
+			return null;
+		}
+	}
+
+	private static int[] index(IFile file) throws IOException, CoreException {
+		int[] trigrams = new int[1024];
+		int count = 0;
+		try (Reader reader = new InputStreamReader(file.getContents(true), file.getCharset())) {
+			char[] buffer = new char[8192];
+			char c0 = 0;
+			char c1 = 0;
+			int read = 0;
+			int length;
+			while ((length = reader.read(buffer)) != -1) {
+				for (int i = 0; i < length; i++) {
+					char c2 = buffer[i];
+					if (++read >= MIN_LITERAL_LENGTH) {
+						if (count == trigrams.length) {
+							trigrams = dedup(trigrams, count);
+							count = trigrams.length;
+							trigrams = Arrays.copyOf(trigrams, Math.max(1024, count * 2));
+						}
+						trigrams[count++] = hash(c0, c1, c2);
+					}
+					c0 = c1;
+					c1 = c2;
+				}
+			}
+		}
+		return dedup(trigrams, count);
+	}
+
+	/**
+	 * Returns the sorted distinct values of the first <code>count</code>
+	 * values of the given array.
+	 */
+	private static int[] dedup(int[] values, int count) {
+		Arrays.sort(values, 0, count);
+		int distinct = 0;
+		for (int i = 0; i < count; i++) {
+			if (distinct == 0 || values[distinct - 1] != values[i]) {
+				values[distinct++] = values[i];
+			}
+		}
+		return Arrays.copyOf(values, distinct);
+	}
+
+	private static int[] getTrigrams(String literal) {
+		int[] trigrams = new int[literal.length() - MIN_LITERAL_LENGTH + 1];
+		for (int i = 0; i < trigrams.length; i++) {
+			trigrams[i] = hash(literal.charAt(i), literal.charAt(i + 1), literal.charAt(i + 2));
+		}
+		return trigrams;
+	}
+
+	/**
+	 * Hashes a trigram. The trigrams of ASCII characters don't collide, the
+	 * other ones only make files candidates they shouldn't.
+	 */
+	private static int hash(char c0, char c1, char c2) {
+		return (c0 << 20) ^ (c1 << 10) ^ c2;
+	}
+
+	/**
+	 * Returns the literals, long enough to be looked up, between the wildcards
+	 * of the given pattern.
+	 */
+	private static List<String> getLiterals(String pattern) {
+		List<String> literals = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		boolean escaped = false;
+		for (int i = 0; i < pattern.length(); i++) {
+			char ch = pattern.charAt(i);
+			if (!escaped && (ch == '*' || ch == '?')) {
+				addLiteral(literals, literal);
+			} else if (!escaped && ch == '\\') {
+				escaped = true;
+				continue;
+			} else {
+				if (escaped && ch != '*' && ch != '?' && ch != '\\') {
+					literal.append('\\');
+				}
+				literal.append(ch);
+			}
+			escaped = false;
+		}
+		addLiteral(literals, literal);
+		return literals;
+	}
+
+	private static void addLiteral(List<String> literals, StringBuilder literal) {
+		if (literal.length() >= MIN_LITERAL_LENGTH) {
+			literals.add(literal.toString());
+		}
+		literal.setLength(0);
+	}
+
+	private static File getLocation(IFile file) {
+		IPath location = file.getLocation();
+		return location == null ? null : location.toFile();
+	}
+
+	private void resourceChanged(IResourceChangeEvent event) {
+		if (entries.isEmpty() || event.getDelta() == null) {
+			return;
+		}
+		List<IFile> changed = new ArrayList<>();
+		try {
+			event.getDelta().accept(delta -> {
+				IResource resource = delta.getResource();
+				if (delta.getKind() == IResourceDelta.REMOVED) {
+					if (resource instanceof IContainer) {
+						IPath path = resource.getFullPath();
+						entries.keySet().removeIf(file -> path.isPrefixOf(file.getFullPath()));
+						return false;
+					}
+					entries.remove(resource);
+				} else if (resource.getType() == IResource.FILE && entries.remove(resource) != null && delta.getKind() == IResourceDelta.CHANGED) {
+					changed.add((IFile) resource);
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			JavaLanguageServerPlugin.logException("Problem updating the trigram index", e);
+			entries.clear();
+			return;
+		}
+		if (!changed.isEmpty()) {
+			Job job = new Job("Update trigram index") {
+
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					for (IFile file : changed) {
+						if (monitor.isCanceled()) {
+							return Status.CANCEL_STATUS;
+						}
+						if (file.exists()) {
+							getEntry(file);
+						}
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			job.setSystem(true);
+			job.schedule();
+		}
+	}
+
+	private static final class Entry {
+
+		private final long stamp;
+		private final long lastModified;
+		private final int[] trigrams;
+
+		private Entry(long stamp, long lastModified, int[] trigrams) {
+			this.stamp = stamp;
+			this.lastModified = lastModified;
+			this.trigrams = trigrams;
+		}
+	}
+}
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ls.core.internal.semantictokens;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -47,14 +48,33 @@ import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.TypeLiteral;
 import org.eclipse.lsp4j.SemanticTokens;
 
+import com.google.common.primitives.Ints;
+
 public class SemanticTokensVisitor extends ASTVisitor {
 	private CompilationUnit cu;
 	private List<SemanticToken> tokens;
+	private final int rangeStart;
+	private final int rangeEnd;
 
 	public SemanticTokensVisitor(CompilationUnit cu) {
+		this(cu, 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a visitor collecting the semantic tokens in the given range of
+	 * the compilation unit only. The nodes outside of the range are not
+	 * visited.
+	 *
+	 * @param cu The compilation unit.
+	 * @param offset The start offset of the range.
+	 * @param length The length of the range.
+	 */
+	public SemanticTokensVisitor(CompilationUnit cu, int offset, int length) {
 		super(true);
 		this.cu = cu;
 		this.tokens = new ArrayList<>();
+		this.rangeStart = offset;
+		this.rangeEnd = length > Integer.MAX_VALUE - offset ? Integer.MAX_VALUE : offset + length;
 	}
 
 	private class SemanticToken {
@@ -88,12 +108,17 @@ public class SemanticTokensVisitor extends ASTVisitor {
 	}
 
 	public SemanticTokens getSemanticTokens() {
-		return new SemanticTokens(encodedTokens());
+		return new SemanticTokens(Ints.asList(encodedTokens()));
 	}
 
-	private List<Integer> encodedTokens() {
+	/**
+	 * Returns the collected semantic tokens, encoded as specified by the
+	 * <code>textDocument/semanticTokens</code> request.
+	 */
+	public int[] encodedTokens() {
 		int numTokens = tokens.size();
-		List<Integer> data = new ArrayList<>(numTokens * 5);
+		int[] data = new int[numTokens * 5];
+		int size = 0;
 		int currentLine = 0;
 		int currentColumn = 0;
 		for (int i = 0; i < numTokens; i++) {
@@ -112,14 +137,14 @@ public class SemanticTokensVisitor extends ASTVisitor {
 				int tokenTypeIndex = token.getTokenType().ordinal();
 				int tokenModifiers = token.getTokenModifiers();
 
-				data.add(deltaLine);
-				data.add(deltaColumn);
-				data.add(token.getLength());
-				data.add(tokenTypeIndex);
-				data.add(tokenModifiers);
+				data[size++] = deltaLine;
+				data[size++] = deltaColumn;
+				data[size++] = token.getLength();
+				data[size++] = tokenTypeIndex;
+				data[size++] = tokenModifiers;
 			}
 		}
-		return data;
+		return size == data.length ? data : Arrays.copyOf(data, size);
 	}
 
 	/**
@@ -146,6 +171,9 @@ public class SemanticTokensVisitor extends ASTVisitor {
 	 * the encoding algorithm might discard them.
 	 */
 	private void addToken(int offset, int length, TokenType tokenType, int modifiers) {
+		if (offset >= rangeEnd || offset + length <= rangeStart) {
+			return;
+		}
 		tokens.add(new SemanticToken(offset, length, tokenType, modifiers | staticModifiers));
 	}
 
@@ -180,6 +208,12 @@ public class SemanticTokensVisitor extends ASTVisitor {
 		addToken(node, tokenType, 0);
 	}
 
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		// Skip the nodes outside of the requested range
+		return node.getStartPosition() < rangeEnd && node.getStartPosition() + node.getLength() >= rangeStart;
+	}
+
 	@Override
 	public boolean visit(TypeLiteral node) {
 		acceptNode(node.getType());
@@ -92,8 +92,8 @@ public class SyntaxInitHandler extends BaseInitHandler {
 		capabilities.setWorkspace(wsCapabilities);
 
 		SemanticTokensWithRegistrationOptions semanticTokensOptions = new SemanticTokensWithRegistrationOptions();
-		semanticTokensOptions.setFull(new SemanticTokensServerFull(false));
-		semanticTokensOptions.setRange(false);
+		semanticTokensOptions.setFull(new SemanticTokensServerFull(true));
+		semanticTokensOptions.setRange(true);
 		semanticTokensOptions.setDocumentSelector(List.of(
 			new DocumentFilter("java", "file", null),
 			new DocumentFilter("java", "jdt", null)
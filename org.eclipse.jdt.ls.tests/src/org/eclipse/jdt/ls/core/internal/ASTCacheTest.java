@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ASTCacheTest extends AbstractProjectsManagerBasedTest {
+
+	private ASTCache cache;
+	private IPackageFragment pack1;
+
+	@Before
+	public void setup() throws Exception {
+		cache = ASTCache.getInstance();
+		IJavaProject javaProject = newEmptyProject();
+		IPackageFragmentRoot sourceFolder = javaProject.getPackageFragmentRoot(javaProject.getProject().getFolder("src"));
+		pack1 = sourceFolder.createPackageFragment("test1", false, null);
+	}
+
+	@After
+	public void tearDown() {
+		cache.setMaxSize(ASTCache.DEFAULT_MAX_SIZE);
+		cache.clear();
+	}
+
+	@Test
+	public void testCachesSeveralDocuments() throws Exception {
+		ICompilationUnit cu1 = pack1.createCompilationUnit("A.java", "package test1;\npublic class A {}\n", false, null);
+		ICompilationUnit cu2 = pack1.createCompilationUnit("B.java", "package test1;\npublic class B {}\n", false, null);
+		cache.clear();
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+
+		CompilationUnit ast1 = cache.getAST(cu1, new NullProgressMonitor());
+		CompilationUnit ast2 = cache.getAST(cu2, new NullProgressMonitor());
+		assertNotNull(ast1);
+		assertNotNull(ast2);
+		assertEquals(2, cache.size());
+		assertEquals(misses + 2, cache.getMissCount());
+
+		assertSame(ast1, cache.getAST(cu1, new NullProgressMonitor()));
+		assertSame(ast2, cache.getAST(cu2, new NullProgressMonitor()));
+		assertEquals(hits + 2, cache.getHitCount());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() throws Exception {
+		ICompilationUnit cu1 = pack1.createCompilationUnit("A.java", "package test1;\npublic class A {}\n", false, null);
+		ICompilationUnit cu2 = pack1.createCompilationUnit("B.java", "package test1;\npublic class B {}\n", false, null);
+		ICompilationUnit cu3 = pack1.createCompilationUnit("C.java", "package test1;\npublic class C {}\n", false, null);
+		cache.clear();
+		cache.setMaxSize(2);
+
+		CompilationUnit ast1 = cache.getAST(cu1, new NullProgressMonitor());
+		CompilationUnit ast2 = cache.getAST(cu2, new NullProgressMonitor());
+		assertSame(ast1, cache.getAST(cu1, new NullProgressMonitor()));
+		long evictions = cache.getEvictionCount();
+		cache.getAST(cu3, new NullProgressMonitor());
+		assertEquals(2, cache.size());
+		assertEquals(evictions + 1, cache.getEvictionCount());
+		assertSame(ast1, cache.getAST(cu1, new NullProgressMonitor()));
+		assertNotSame(ast2, cache.getAST(cu2, new NullProgressMonitor()));
+	}
+
+	@Test
+	public void testInvalidatedOnJavaModelChange() throws Exception {
+		ICompilationUnit cu1 = pack1.createCompilationUnit("A.java", "package test1;\npublic class A {}\n", false, null);
+		cache.clear();
+		cache.getAST(cu1, new NullProgressMonitor());
+		assertEquals(1, cache.size());
+
+		pack1.createCompilationUnit("B.java", "package test1;\npublic class B {}\n", false, null);
+		assertEquals(0, cache.size());
+	}
+}
@@ -128,6 +128,28 @@ public class ChangeUtilTest extends AbstractProjectsManagerBasedTest {
 		assertTrue(edit.getDocumentChanges().get(1).getLeft() instanceof TextDocumentEdit);
 	}
 
+	@Test
+	public void testConvertToWorkspaceEditsInChunks() throws CoreException {
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		CompositeChange change = new CompositeChange("composite change");
+		CompositeChange child = new CompositeChange("child composite change");
+		change.add(child);
+		for (int i = 0; i < 3; i++) {
+			ICompilationUnit cu = pack1.createCompilationUnit("E" + i + ".java", "", false, null);
+			CompilationUnitChange textChange = new CompilationUnitChange("insertText", cu);
+			textChange.setEdit(new InsertEdit(0, "// some content"));
+			(i == 0 ? change : child).add(textChange);
+		}
+		assertEquals(3, ChangeUtil.countChanges(change));
+
+		List<WorkspaceEdit> edits = new ArrayList<>();
+		ChangeUtil.convertToWorkspaceEdits(change, 2, edits::add);
+		assertEquals(2, edits.size());
+		assertEquals(2, edits.get(0).getDocumentChanges().size());
+		assertEquals(1, edits.get(1).getDocumentChanges().size());
+		assertTrue(edits.get(1).getDocumentChanges().get(0).getLeft().getTextDocument().getUri().endsWith("E0.java"));
+	}
+
 	@Test
 	public void testMergeChanges() {
 		WorkspaceEdit editA = new WorkspaceEdit();
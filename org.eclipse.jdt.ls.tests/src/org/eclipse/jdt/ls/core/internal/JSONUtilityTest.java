@@ -17,11 +17,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
+import java.util.Map;
+
 import org.eclipse.lsp4j.Position;
 import org.junit.Test;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 /**
  * JSONUtilityTest
@@ -54,4 +57,17 @@ public class JSONUtilityTest {
 		assertNull(JSONUtility.toModel(null, Object.class));
 	}
 
+	@Test
+	public void testToStringMap() {
+		JsonObject data = new JsonObject();
+		data.addProperty("uri", "file:///Foo.java");
+		data.addProperty("rid", 12);
+		Map<String, String> map = JSONUtility.toStringMap(data);
+		assertEquals("file:///Foo.java", map.get("uri"));
+		assertEquals("12", map.get("rid"));
+		assertSame(map, JSONUtility.toStringMap(map));
+		assertEquals(map, JSONUtility.toStringMap(data.toString()));
+		assertNull(JSONUtility.toStringMap(null));
+	}
+
 }
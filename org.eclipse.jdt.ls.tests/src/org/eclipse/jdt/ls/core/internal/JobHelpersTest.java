@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.junit.Test;
+
+public class JobHelpersTest {
+
+	private static final String FAMILY = "JobHelpersTestFamily";
+
+	@Test
+	public void testWaitForJobsAsyncWithoutJobs() {
+		CompletableFuture<Void> future = JobHelpers.waitForJobsAsync(FAMILY);
+		assertTrue(future.isDone());
+	}
+
+	@Test
+	public void testWaitForJobsAsync() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Job job = new BlockingJob(release);
+		job.schedule();
+
+		CompletableFuture<Void> future = JobHelpers.waitForJobsAsync(FAMILY);
+		assertFalse(future.isDone());
+
+		release.countDown();
+		future.get(10, TimeUnit.SECONDS);
+		assertEquals(Job.NONE, job.getState());
+	}
+
+	@Test
+	public void testWaitForJobsWithMatcher() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Job job = new BlockingJob(release);
+		job.schedule();
+
+		CompletableFuture.runAsync(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				// ignore
+			}
+			release.countDown();
+		});
+		JobHelpers.waitForJobs(j -> j.belongsTo(FAMILY), 10000);
+		assertEquals(Job.NONE, job.getState());
+	}
+
+	private static class BlockingJob extends Job {
+
+		private final CountDownLatch release;
+
+		BlockingJob(CountDownLatch release) {
+			super("Blocking job");
+			this.release = release;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				return Status.CANCEL_STATUS;
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return FAMILY.equals(family);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.ls.core.internal.RequestExecutors.Metrics;
+import org.eclipse.jdt.ls.core.internal.RequestExecutors.RequestKind;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RequestExecutorsTest {
+
+	private RequestExecutors executors;
+	private CountDownLatch release;
+
+	@Before
+	public void setup() {
+		executors = new RequestExecutors(1, 1, 2, false);
+		release = new CountDownLatch(1);
+	}
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		executors.shutdown();
+	}
+
+	@Test
+	public void testComputeAsync() throws Exception {
+		CompletableFuture<String> result = executors.computeAsync(RequestKind.INTERACTIVE, cc -> "done");
+		assertEquals("done", result.get(10, TimeUnit.SECONDS));
+		Metrics metrics = executors.getMetrics().get("interactive");
+		assertEquals(1, metrics.submittedRequests);
+		assertEquals(1, metrics.threads);
+		assertEquals(2, metrics.queueCapacity);
+	}
+
+	@Test
+	public void testRejectsOldestPendingRequest() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<String> running = executors.computeAsync(RequestKind.INTERACTIVE, cc -> {
+			started.countDown();
+			await(release);
+			return "running";
+		});
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		CompletableFuture<String> oldest = executors.computeAsync(RequestKind.INTERACTIVE, cc -> "oldest");
+		CompletableFuture<String> pending = executors.computeAsync(RequestKind.INTERACTIVE, cc -> "pending");
+		CompletableFuture<String> newest = executors.computeAsync(RequestKind.INTERACTIVE, cc -> "newest");
+
+		assertTrue(oldest.isCompletedExceptionally());
+		try {
+			oldest.get();
+			fail("The oldest request should have been rejected");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof ResponseErrorException);
+			assertEquals(RequestExecutors.SERVER_CANCELLED, ((ResponseErrorException) e.getCause()).getResponseError().getCode());
+		}
+		assertEquals(1, executors.getMetrics().get("interactive").rejectedRequests);
+
+		release.countDown();
+		assertEquals("running", running.get(10, TimeUnit.SECONDS));
+		assertEquals("pending", pending.get(10, TimeUnit.SECONDS));
+		assertEquals("newest", newest.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testCancelledPendingRequestIsNotComputed() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<String> running = executors.computeAsync(RequestKind.BACKGROUND, cc -> {
+			started.countDown();
+			await(release);
+			return "running";
+		});
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		AtomicBoolean computed = new AtomicBoolean();
+		CompletableFuture<String> cancelled = executors.computeAsync(RequestKind.BACKGROUND, cc -> {
+			computed.set(true);
+			return "cancelled";
+		});
+		assertEquals(1, executors.getMetrics().get("background").queuedRequests);
+		cancelled.cancel(true);
+		assertEquals(0, executors.getMetrics().get("background").queuedRequests);
+		assertEquals(1, executors.getMetrics().get("background").cancelledRequests);
+
+		release.countDown();
+		assertEquals("running", running.get(10, TimeUnit.SECONDS));
+		assertFalse(computed.get());
+		// the interactive pool is not affected
+		assertEquals(0, executors.getMetrics().get("interactive").submittedRequests);
+	}
+
+	@Test
+	public void testNeverRejectsCommands() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<String> running = executors.computeAsync(RequestKind.COMMAND, cc -> {
+			started.countDown();
+			await(release);
+			return "running";
+		});
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		List<CompletableFuture<String>> pending = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			String value = "command" + i;
+			pending.add(executors.computeAsync(RequestKind.COMMAND, cc -> value));
+		}
+		// more pending commands than the queue size of the other pools
+		assertEquals(4, executors.getMetrics().get("command").queuedRequests);
+
+		release.countDown();
+		assertEquals("running", running.get(10, TimeUnit.SECONDS));
+		for (int i = 0; i < 4; i++) {
+			assertEquals("command" + i, pending.get(i).get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(0, executors.getMetrics().get("command").rejectedRequests);
+	}
+
+	@Test
+	public void testJavadocDoesNotEvictOtherRequests() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<String> running = executors.computeAsync(RequestKind.BACKGROUND, cc -> {
+			started.countDown();
+			await(release);
+			return "running";
+		});
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		CompletableFuture<String> search = executors.computeAsync(RequestKind.BACKGROUND, cc -> "search");
+		for (int i = 0; i < 4; i++) {
+			executors.getExecutor(RequestKind.JAVADOC).submit(() -> await(release));
+		}
+		assertFalse(search.isDone());
+
+		release.countDown();
+		assertEquals("running", running.get(10, TimeUnit.SECONDS));
+		assertEquals("search", search.get(10, TimeUnit.SECONDS));
+		assertEquals(0, executors.getMetrics().get("background").rejectedRequests);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
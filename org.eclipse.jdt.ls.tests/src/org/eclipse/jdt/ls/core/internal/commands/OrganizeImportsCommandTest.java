@@ -16,7 +16,9 @@ package org.eclipse.jdt.ls.core.internal.commands;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,7 +28,9 @@ import java.util.List;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
@@ -397,6 +401,81 @@ public class OrganizeImportsCommandTest extends AbstractProjectsManagerBasedTest
 		assertEquals(buf.toString(), getOrganizeImportResult(cu2, rootEdit));
 	}
 
+	@Test
+	public void testOrganizeImportsInProjectInParallel() throws Exception {
+		IPackageFragment pack1 = fSourceFolder.createPackageFragment("test1", false, null);
+		List<ICompilationUnit> units = new ArrayList<>();
+		for (int i = 0; i < OrganizeImportsCommand.CHUNK_SIZE + 1; i++) {
+			StringBuilder buf = new StringBuilder();
+			buf.append("package test1;\n");
+			buf.append("\n");
+			buf.append("import java.util.ArrayList;\n");
+			buf.append("\n");
+			buf.append("public class E" + i + " {\n");
+			buf.append("}\n");
+			units.add(pack1.createCompilationUnit("E" + i + ".java", buf.toString(), false, null));
+		}
+
+		List<WorkspaceEdit> edits = new ArrayList<>();
+		String uri = fJProject1.getProject().getLocationURI().toString();
+		WorkspaceEdit result = command.organizeImports(Arrays.asList(uri), edits::add, new NullProgressMonitor());
+		assertNull(result);
+		assertEquals(2, edits.size());
+		assertEquals(OrganizeImportsCommand.CHUNK_SIZE, edits.get(0).getChanges().size());
+		assertEquals(1, edits.get(1).getChanges().size());
+
+		WorkspaceEdit rootEdit = new WorkspaceEdit();
+		edits.forEach(edit -> rootEdit.getChanges().putAll(edit.getChanges()));
+		for (int i = 0; i < units.size(); i++) {
+			StringBuilder buf = new StringBuilder();
+			buf.append("package test1;\n");
+			buf.append("\n");
+			buf.append("public class E" + i + " {\n");
+			buf.append("}\n");
+			assertEquals(buf.toString(), getOrganizeImportResult(units.get(i), rootEdit));
+		}
+	}
+
+	@Test
+	public void testOrganizeImportsInParallelReportsFailures() throws Exception {
+		IPackageFragment pack1 = fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit unit = pack1.createCompilationUnit("E.java", "package test1;\n\nimport java.util.ArrayList;\n\npublic class E {\n}\n", false, null);
+		ICompilationUnit missing = pack1.getCompilationUnit("Missing.java");
+
+		List<WorkspaceEdit> edits = new ArrayList<>();
+		try {
+			command.organizeImportsInParallel(Arrays.<IJavaElement> asList(missing, unit), edits::add, new NullProgressMonitor());
+			fail("The failure to organize the imports of " + missing.getElementName() + " isn't reported");
+		} catch (CoreException e) {
+			assertEquals(1, e.getStatus().getChildren().length);
+			assertEquals(missing.getPath().toString(), e.getStatus().getChildren()[0].getMessage());
+		}
+		assertEquals(1, edits.size());
+		assertEquals("package test1;\n\npublic class E {\n}\n", getOrganizeImportResult(unit, edits.get(0)));
+	}
+
+	@Test
+	public void testOrganizeImportsInParallelReportsRejectedEdits() throws Exception {
+		IPackageFragment pack1 = fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit unit1 = pack1.createCompilationUnit("E1.java", "package test1;\n\nimport java.util.ArrayList;\n\npublic class E1 {\n}\n", false, null);
+		ICompilationUnit unit2 = pack1.createCompilationUnit("E2.java", "package test1;\n\nimport java.util.ArrayList;\n\npublic class E2 {\n}\n", false, null);
+
+		List<WorkspaceEdit> edits = new ArrayList<>();
+		try {
+			command.organizeImportsInParallel(Arrays.<IJavaElement> asList(unit1, unit2), edit -> {
+				edits.add(edit);
+				// the client rejects the edits
+				return false;
+			}, new NullProgressMonitor());
+			fail("The rejected edits aren't reported");
+		} catch (CoreException e) {
+			assertEquals(2, e.getStatus().getChildren().length);
+			assertEquals("The edits of " + unit1.getPath() + " were not applied", e.getStatus().getChildren()[0].getMessage());
+			assertEquals("The edits of " + unit2.getPath() + " were not applied", e.getStatus().getChildren()[1].getMessage());
+		}
+		assertEquals(1, edits.size());
+	}
+
 	@Test
 	public void testOrganizeImportsOnDemandThreshold() throws Exception {
 		int onDemandTreshold = preferenceManager.getPreferences().getImportOnDemandThreshold();
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.correction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
+import org.eclipse.jdt.ls.core.internal.corrections.TypeNameIndex;
+import org.eclipse.jdt.ls.core.internal.corrections.TypeNameIndex.Index;
+import org.eclipse.jdt.ls.core.internal.corrections.TypeNameIndex.TypeName;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TypeNameIndexTest extends AbstractProjectsManagerBasedTest {
+
+	private IJavaProject project;
+
+	@Before
+	public void setup() throws Exception {
+		importProjects("eclipse/hello");
+		project = JavaCore.create(WorkspaceHelper.getProject("hello"));
+	}
+
+	@Test
+	public void testFindsTypesBySimpleName() throws Exception {
+		Index index = TypeNameIndex.getInstance().buildIndex(project, new NullProgressMonitor());
+		List<String> lists = getNames(index.getTypes("List"));
+		assertTrue(lists.toString(), lists.contains("java.util.List"));
+		assertTrue(lists.toString(), lists.contains("java.awt.List"));
+
+		List<String> similar = getNames(index.getSimilarTypes("Lst"));
+		assertTrue(similar.toString(), similar.contains("java.util.List"));
+	}
+
+	@Test
+	public void testUpdatesSavedCompilationUnits() throws Exception {
+		Index index = TypeNameIndex.getInstance().buildIndex(project, new NullProgressMonitor());
+		assertEquals(0, index.getTypes("IndexedType").size());
+
+		IPackageFragment pack = project.findPackageFragment(project.getProject().getFullPath().append("src/org/sample"));
+		ICompilationUnit unit = pack.createCompilationUnit("IndexedType.java", "package org.sample;\npublic class IndexedType {\n}\n", true, null);
+		assertEquals("[org.sample.IndexedType]", getNames(index.getTypes("IndexedType")).toString());
+
+		unit.delete(true, null);
+		assertEquals(0, index.getTypes("IndexedType").size());
+	}
+
+	@Test
+	public void testRebuildsOnlyTheIndexesOfChangedRoots() throws Exception {
+		importProjects("eclipse/myhello");
+		IJavaProject other = JavaCore.create(WorkspaceHelper.getProject("myhello"));
+		Index index = TypeNameIndex.getInstance().buildIndex(project, new NullProgressMonitor());
+		TypeNameIndex.getInstance().buildIndex(other, new NullProgressMonitor());
+
+		other.getPackageFragmentRoot(other.getProject().getFolder("src")).createPackageFragment("org.added", true, null);
+		assertSame(index, TypeNameIndex.getInstance().getIndex(project));
+		assertNull(TypeNameIndex.getInstance().getIndex(other));
+	}
+
+	private static List<String> getNames(List<TypeName> types) {
+		return types.stream().map(TypeName::getFullyQualifiedName).collect(Collectors.toList());
+	}
+}
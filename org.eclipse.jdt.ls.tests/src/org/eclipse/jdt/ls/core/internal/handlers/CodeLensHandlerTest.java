@@ -26,8 +26,24 @@ import static org.mockito.Mockito.when;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
@@ -336,6 +352,147 @@ public class CodeLensHandlerTest extends AbstractProjectsManagerBasedTest {
 		assertRange(5, 25, 28, loc.getRange());
 	}
 
+	@Test
+	public void testResolveBatchedReferences() throws Exception {
+		IPackageFragment pack = JavaCore.create(project).getPackageFragmentRoot(project.getFolder("src")).getPackageFragment("java");
+		//@formatter:off
+		pack.createCompilationUnit("Lenses.java",
+				"package java;\n" +
+				"public class Lenses {\n" +
+				"	public Lenses() {}\n" +
+				"	public void foo() {}\n" +
+				"	public void foo(int i) {}\n" +
+				"}\n", false, null);
+		pack.createCompilationUnit("LensesUser.java",
+				"package java;\n" +
+				"public class LensesUser {\n" +
+				"	void use(Lenses l) {\n" +
+				"		new Lenses().foo();\n" +
+				"		l.foo(1);\n" +
+				"		l.foo(2);\n" +
+				"	}\n" +
+				"}\n", false, null);
+		//@formatter:on
+		CodeLensCache.getInstance().clear();
+
+		assertEquals("2 references", resolveReferences("src/java/Lenses.java", 1, 13, 19));
+		assertEquals(1, CodeLensCache.getInstance().size());
+		assertEquals("1 reference", resolveReferences("src/java/Lenses.java", 2, 8, 14));
+		assertEquals("1 reference", resolveReferences("src/java/Lenses.java", 3, 13, 16));
+		assertEquals("2 references", resolveReferences("src/java/Lenses.java", 4, 13, 16));
+	}
+
+	@Test
+	public void testResolveOverloadedConstructorReferences() throws Exception {
+		IPackageFragment pack = JavaCore.create(project).getPackageFragmentRoot(project.getFolder("src")).getPackageFragment("java");
+		//@formatter:off
+		pack.createCompilationUnit("Ctors.java",
+				"package java;\n" +
+				"public class Ctors {\n" +
+				"	public Ctors() { this(\"a, b\", 0); }\n" +
+				"	public Ctors(String s, int i) {}\n" +
+				"	public Ctors(int i) {}\n" +
+				"}\n", false, null);
+		pack.createCompilationUnit("CtorsUser.java",
+				"package java;\n" +
+				"public class CtorsUser {\n" +
+				"	Object o = new Ctors(foo(1, 2));\n" +
+				"	Object p = new Ctors(\"(\", 1);\n" +
+				"	static int foo(int i, int j) { return i; }\n" +
+				"}\n", false, null);
+		//@formatter:on
+		CodeLensCache.getInstance().clear();
+
+		assertEquals("0 references", resolveReferences("src/java/Ctors.java", 2, 8, 13));
+		assertEquals("2 references", resolveReferences("src/java/Ctors.java", 3, 8, 13));
+		assertEquals("1 reference", resolveReferences("src/java/Ctors.java", 4, 8, 13));
+	}
+
+	@Test
+	public void testReconcileKeepsCachedReferences() throws Exception {
+		IPackageFragment pack = JavaCore.create(project).getPackageFragmentRoot(project.getFolder("src")).getPackageFragment("java");
+		//@formatter:off
+		ICompilationUnit unit = pack.createCompilationUnit("Cached.java",
+				"package java;\n" +
+				"public class Cached {\n" +
+				"	public void foo() {}\n" +
+				"}\n", false, null);
+		//@formatter:on
+		CodeLensCache.getInstance().clear();
+		assertEquals("0 references", resolveReferences("src/java/Cached.java", 2, 13, 16));
+		assertEquals(1, CodeLensCache.getInstance().size());
+
+		unit.becomeWorkingCopy(null);
+		try {
+			unit.getBuffer().append("//");
+			unit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertEquals(1, CodeLensCache.getInstance().size());
+
+			unit.commitWorkingCopy(true, null);
+			assertEquals(0, CodeLensCache.getInstance().size());
+		} finally {
+			unit.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testResolveOverriddenMethodReferences() throws Exception {
+		IPackageFragment pack = JavaCore.create(project).getPackageFragmentRoot(project.getFolder("src")).getPackageFragment("java");
+		//@formatter:off
+		ICompilationUnit unit = pack.createCompilationUnit("Poly.java",
+				"package java;\n" +
+				"public class Poly {\n" +
+				"	public void foo() {}\n" +
+				"	public static class Sub extends Poly {\n" +
+				"		@Override\n" +
+				"		public void foo() {}\n" +
+				"	}\n" +
+				"}\n", false, null);
+		pack.createCompilationUnit("PolyUser.java",
+				"package java;\n" +
+				"public class PolyUser {\n" +
+				"	void use(Poly p, Poly.Sub s) {\n" +
+				"		p.foo();\n" +
+				"		s.foo();\n" +
+				"		new Poly().foo();\n" +
+				"	}\n" +
+				"}\n", false, null);
+		//@formatter:on
+		CodeLensCache.getInstance().clear();
+		IType poly = unit.getType("Poly");
+		IType sub = poly.getType("Sub");
+
+		// each declaration counts the references its own search finds, whichever is resolved first
+		assertEquals(toTitle(countReferences(sub.getMethod("foo", new String[0]))), resolveReferences("src/java/Poly.java", 5, 14, 17));
+		assertEquals(toTitle(countReferences(poly.getMethod("foo", new String[0]))), resolveReferences("src/java/Poly.java", 2, 13, 16));
+	}
+
+	private static int countReferences(IJavaElement element) throws CoreException {
+		AtomicInteger count = new AtomicInteger();
+		SearchPattern pattern = SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		IJavaSearchScope scope = SearchEngine.createJavaSearchScope(JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects(), IJavaSearchScope.SOURCES);
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, new SearchRequestor() {
+
+			@Override
+			public void acceptSearchMatch(SearchMatch match) {
+				if (match.getAccuracy() != SearchMatch.A_INACCURATE && match.getElement() instanceof IJavaElement && ((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT) != null) {
+					count.incrementAndGet();
+				}
+			}
+		}, new NullProgressMonitor());
+		return count.get();
+	}
+
+	private static String toTitle(int count) {
+		return count == 1 ? "1 reference" : count + " references";
+	}
+
+	private String resolveReferences(String file, int line, int start, int end) {
+		CodeLens lens = getParams(createCodeLensRequest(file, line, start, end));
+		CodeLens result = handler.resolve(lens, monitor);
+		return result.getCommand().getTitle();
+	}
+
 	@Test
 	public void testResolveCodeLenseBoundaries() {
 		CodeLens result = handler.resolve(null, monitor);
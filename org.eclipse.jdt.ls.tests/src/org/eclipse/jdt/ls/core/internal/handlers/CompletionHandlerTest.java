@@ -32,6 +32,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
@@ -43,6 +46,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.CompletionProposal;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
@@ -56,8 +60,10 @@ import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.TextEditUtil;
 import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
+import org.eclipse.jdt.ls.core.internal.contentassist.CompletionProposalRequestor;
 import org.eclipse.jdt.ls.core.internal.contentassist.JavadocCompletionProposal;
 import org.eclipse.jdt.ls.core.internal.contentassist.NewCompletionItem;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache.Format;
 import org.eclipse.jdt.ls.core.internal.preferences.ClientPreferences;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
@@ -205,6 +211,36 @@ public class CompletionHandlerTest extends AbstractCompilationUnitBasedTest {
 		}
 	}
 
+	@Test
+	public void testCompletion_prefetchesJavadoc() throws Exception {
+		IJavaProject javaProject = JavaCore.create(project);
+		ICompilationUnit unit = (ICompilationUnit) javaProject.findElement(new Path("org/sample/TestJavadoc.java"));
+		unit.becomeWorkingCopy(null);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			CompletionList list = requestCompletions(unit, "inner.");
+			CompletionItem item = list.getItems().get(0);
+			JavadocPrefetcher.getInstance().prefetch(unit, list.getItems(), Format.PLAIN_TEXT, executor).get();
+
+			@SuppressWarnings("unchecked")
+			Map<String, String> data = (Map<String, String>) item.getData();
+			CompletionResponse response = CompletionResponses.get(Long.parseLong(data.get(CompletionResolveHandler.DATA_FIELD_REQUEST_ID)));
+			CompletionProposal proposal = response.getProposals().get(Integer.parseInt(data.get(CompletionResolveHandler.DATA_FIELD_PROPOSAL_ID)));
+			IMember member = CompletionResolveHandler.resolveMember(unit, proposal, data);
+			assertNotNull(member);
+			AtomicInteger renderings = new AtomicInteger();
+			String javadoc = JavaLanguageServerPlugin.getJavadocCache().getJavadoc(member, Format.PLAIN_TEXT, command -> {
+				renderings.incrementAndGet();
+				command.run();
+			}).get();
+			assertEquals("Test ", javadoc);
+			assertEquals("The Javadoc should have been prefetched", 0, renderings.get());
+		} finally {
+			executor.shutdown();
+			unit.discardWorkingCopy();
+		}
+	}
+
 	@Test
 	public void testCompletion_nojavadoc() throws Exception {
 		IJavaProject javaProject = JavaCore.create(project);
@@ -2996,6 +3032,93 @@ public class CompletionHandlerTest extends AbstractCompilationUnitBasedTest {
 		}
 	}
 
+	@Test
+	public void testLimitCompletionResults_keepsMostRelevant() throws Exception {
+		int maxCompletionResults = PreferenceManager.getPrefs(null).getMaxCompletionResults();
+		try {
+			ICompilationUnit unit = getWorkingCopy("src/test1/B.java",
+			//@formatter:off
+				"package test1;\n" +
+				"\n" +
+				"public class B {\n" +
+				"    public void bar() {\n" +
+				"        d\n" +
+				"    }\n" +
+				"}\n");
+			//@formatter:on
+
+			PreferenceManager.getPrefs(null).setMaxCompletionResults(0);
+			List<CompletionItem> all = noSnippets(requestCompletions(unit, "d").getItems());
+
+			PreferenceManager.getPrefs(null).setMaxCompletionResults(10);
+			List<CompletionItem> limited = noSnippets(requestCompletions(unit, "d").getItems());
+			assertEquals(10, limited.size());
+			for (int i = 0; i < limited.size(); i++) {
+				assertEquals(all.get(i).getLabel(), limited.get(i).getLabel());
+				assertEquals(all.get(i).getSortText(), limited.get(i).getSortText());
+			}
+
+			// only the returned proposals are kept for the resolve requests
+			@SuppressWarnings("unchecked")
+			Map<String, String> data = (Map<String, String>) limited.get(0).getData();
+			CompletionResponse response = CompletionResponses.get(Long.parseLong(data.get(CompletionResolveHandler.DATA_FIELD_REQUEST_ID)));
+			assertEquals(10, response.getProposals().size());
+		} finally {
+			PreferenceManager.getPrefs(null).setMaxCompletionResults(maxCompletionResults);
+		}
+	}
+
+	@Test
+	public void testCompletion_filtersPreviousResponse() throws Exception {
+		ICompilationUnit unit = getWorkingCopy("src/test1/B.java",
+		//@formatter:off
+			"package test1;\n" +
+			"\n" +
+			"public class B {\n" +
+			"    public void bar() {\n" +
+			"        Foo foo = new Foo();\n" +
+			"        foo.l\n" +
+			"    }\n" +
+			"}\n" +
+			"class Foo {\n" +
+			"    int length;\n" +
+			"    int level;\n" +
+			"    void load() {}\n" +
+			"}\n");
+		//@formatter:on
+		CompletionList list = requestCompletions(unit, "foo.l");
+		assertFalse(list.isIncomplete());
+		assertEquals(Arrays.asList("length", "level", "load"), getLabelPrefixes(list));
+
+		unit.getBuffer().replace(unit.getSource().indexOf("foo.l") + "foo.l".length(), 0, "e");
+		IncrementalCompletion previous = IncrementalCompletion.take();
+		assertNotNull(previous);
+		CompletionProposalRequestor collector = previous.filter(unit, unit.getSource(), unit.getSource().indexOf("foo.le") + "foo.le".length(), preferenceManager);
+		assertNotNull(collector);
+		assertTrue(collector.isComplete());
+		CompletionList filtered = new CompletionList(collector.getCompletionItems());
+		assertEquals(Arrays.asList("length", "level"), getLabelPrefixes(filtered));
+
+		// the completion engine computes the same items
+		list = requestCompletions(unit, "foo.le");
+		assertFalse(list.isIncomplete());
+		assertEquals(Arrays.asList("length", "level"), getLabelPrefixes(list));
+		for (int i = 0; i < list.getItems().size(); i++) {
+			CompletionItem expected = list.getItems().get(i);
+			CompletionItem actual = filtered.getItems().get(i);
+			assertEquals(expected.getLabel(), actual.getLabel());
+			assertEquals(expected.getSortText(), actual.getSortText());
+			assertEquals(expected.getTextEdit(), actual.getTextEdit());
+			Range range = actual.getTextEdit().isLeft() ? actual.getTextEdit().getLeft().getRange() : actual.getTextEdit().getRight().getInsert();
+			assertEquals(12, range.getStart().getCharacter());
+			assertEquals(14, range.getEnd().getCharacter());
+		}
+	}
+
+	private List<String> getLabelPrefixes(CompletionList list) {
+		return noSnippets(list.getItems()).stream().map(item -> item.getLabel().split("[ :(]")[0]).sorted().collect(Collectors.toList());
+	}
+
 	private List<CompletionItem> noSnippets(List<CompletionItem> items) {
 		return items.stream().filter(i -> !CompletionItemKind.Snippet.equals(i.getKind())).collect(Collectors.toList());
 	}
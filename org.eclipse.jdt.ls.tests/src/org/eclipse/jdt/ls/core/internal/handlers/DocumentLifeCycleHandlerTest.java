@@ -114,6 +114,7 @@ public class DocumentLifeCycleHandlerTest extends AbstractProjectsManagerBasedTe
 
 	@After
 	public void tearDown() throws Exception {
+		lifeCycleHandler.dispose();
 		JavaLanguageServerPlugin.getNonProjectDiagnosticsState().setGlobalErrorLevel(true);
 		javaClient.disconnect();
 		for (ICompilationUnit cu : JavaCore.getWorkingCopies(null)) {
@@ -521,6 +522,199 @@ public class DocumentLifeCycleHandlerTest extends AbstractProjectsManagerBasedTe
 		assertNewASTsCreated(0);
 	}
 
+	@Test
+	public void testBodyChangeDoesNotValidateDependents() throws Exception {
+		IJavaProject javaProject = newEmptyProject();
+		IPackageFragmentRoot sourceFolder = javaProject.getPackageFragmentRoot(javaProject.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("  public static void foo() {}\n");
+		buf.append("}\n");
+		ICompilationUnit cu1 = pack1.createCompilationUnit("F123.java", buf.toString(), false, null);
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F456 {\n");
+		buf.append("  { F123.foo(); }\n");
+		buf.append("}\n");
+		ICompilationUnit cu2 = pack1.createCompilationUnit("F456.java", buf.toString(), false, null);
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F789 {\n");
+		buf.append("}\n");
+		ICompilationUnit cu3 = pack1.createCompilationUnit("F789.java", buf.toString(), false, null);
+
+		openDocument(cu2, cu2.getSource(), 1);
+		openDocument(cu3, cu3.getSource(), 1);
+		assertNewProblemReported(new ExpectedProblemReport(cu2, 0), new ExpectedProblemReport(cu3, 0));
+
+		openDocument(cu1, cu1.getSource(), 1);
+		// F456 references F123, F789 does not
+		assertNewProblemReported(new ExpectedProblemReport(cu1, 0), new ExpectedProblemReport(cu2, 0));
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("  public static void foo() { foo(); }\n");
+		buf.append("}\n");
+		changeDocumentFull(cu1, buf.toString(), 2);
+		// the shape of F123 did not change
+		assertNewProblemReported(new ExpectedProblemReport(cu1, 0));
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("  public static void bar() {}\n");
+		buf.append("}\n");
+		changeDocumentFull(cu1, buf.toString(), 3);
+		assertNewProblemReported(new ExpectedProblemReport(cu1, 0), new ExpectedProblemReport(cu2, 1));
+	}
+
+	@Test
+	public void testValidatesDependentsThroughInferredTypes() throws Exception {
+		IJavaProject javaProject = newEmptyProject();
+		IPackageFragmentRoot sourceFolder = javaProject.getPackageFragmentRoot(javaProject.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		IPackageFragment pack2 = sourceFolder.createPackageFragment("test2", false, null);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("  public void foo() {}\n");
+		buf.append("}\n");
+		ICompilationUnit cu1 = pack1.createCompilationUnit("F123.java", buf.toString(), false, null);
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class Factory {\n");
+		buf.append("  public static F123 create() { return new F123(); }\n");
+		buf.append("}\n");
+		pack1.createCompilationUnit("Factory.java", buf.toString(), false, null);
+
+		// never mentions F123, but calls one of its methods through a wildcard import
+		buf = new StringBuilder();
+		buf.append("package test2;\n");
+		buf.append("import test1.*;\n");
+		buf.append("public class G1 {\n");
+		buf.append("  { Factory.create().foo(); }\n");
+		buf.append("}\n");
+		ICompilationUnit cu2 = pack2.createCompilationUnit("G1.java", buf.toString(), false, null);
+
+		// mentions F123 in a comment and a string only
+		buf = new StringBuilder();
+		buf.append("package test2;\n");
+		buf.append("/** Not a F123 */\n");
+		buf.append("public class G2 {\n");
+		buf.append("  String s = \"F123\";\n");
+		buf.append("}\n");
+		ICompilationUnit cu3 = pack2.createCompilationUnit("G2.java", buf.toString(), false, null);
+
+		openDocument(cu2, cu2.getSource(), 1);
+		openDocument(cu3, cu3.getSource(), 1);
+		assertNewProblemReported(new ExpectedProblemReport(cu2, 0), new ExpectedProblemReport(cu3, 0));
+
+		openDocument(cu1, cu1.getSource(), 1);
+		assertNewProblemReported(new ExpectedProblemReport(cu1, 0), new ExpectedProblemReport(cu2, 0));
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("  public void bar() {}\n");
+		buf.append("}\n");
+		changeDocumentFull(cu1, buf.toString(), 2);
+		assertNewProblemReported(new ExpectedProblemReport(cu1, 0), new ExpectedProblemReport(cu2, 1));
+	}
+
+	@Test
+	public void testValidatesDependentsThroughInheritedMembers() throws Exception {
+		IJavaProject javaProject = newEmptyProject();
+		IPackageFragmentRoot sourceFolder = javaProject.getPackageFragmentRoot(javaProject.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		IPackageFragment pack2 = sourceFolder.createPackageFragment("test2", false, null);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("  public void foo() {}\n");
+		buf.append("}\n");
+		ICompilationUnit cu1 = pack1.createCompilationUnit("F123.java", buf.toString(), false, null);
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class Base extends F123 {\n");
+		buf.append("}\n");
+		pack1.createCompilationUnit("Base.java", buf.toString(), false, null);
+
+		buf = new StringBuilder();
+		buf.append("package test2;\n");
+		buf.append("import test1.Base;\n");
+		buf.append("public class G1 extends Base {\n");
+		buf.append("  { foo(); }\n");
+		buf.append("}\n");
+		ICompilationUnit cu2 = pack2.createCompilationUnit("G1.java", buf.toString(), false, null);
+
+		openDocument(cu2, cu2.getSource(), 1);
+		assertNewProblemReported(new ExpectedProblemReport(cu2, 0));
+
+		openDocument(cu1, cu1.getSource(), 1);
+		assertNewProblemReported(new ExpectedProblemReport(cu1, 0), new ExpectedProblemReport(cu2, 0));
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("  public void bar() {}\n");
+		buf.append("}\n");
+		changeDocumentFull(cu1, buf.toString(), 2);
+		assertNewProblemReported(new ExpectedProblemReport(cu1, 0), new ExpectedProblemReport(cu2, 1));
+	}
+
+	@Test
+	public void testParallelDependentsValidation() throws Exception {
+		Preferences preferences = preferenceManager.getPreferences();
+		when(preferences.getValidationParallelism()).thenReturn(4);
+		IJavaProject javaProject = newEmptyProject();
+		IPackageFragmentRoot sourceFolder = javaProject.getPackageFragmentRoot(javaProject.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("}\n");
+		ICompilationUnit cu1 = pack1.createCompilationUnit("F123.java", buf.toString(), false, null);
+		List<ICompilationUnit> dependents = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			buf = new StringBuilder();
+			buf.append("package test1;\n");
+			buf.append("public class G" + i + " {\n");
+			buf.append("  { F123.foo(); }\n");
+			buf.append("}\n");
+			dependents.add(pack1.createCompilationUnit("G" + i + ".java", buf.toString(), false, null));
+		}
+		for (ICompilationUnit cu : dependents) {
+			openDocument(cu, cu.getSource(), 1);
+		}
+		openDocument(cu1, cu1.getSource(), 1);
+		getClientRequests("publishDiagnostics").clear();
+
+		buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F123 {\n");
+		buf.append("  public static void foo() {}\n");
+		buf.append("}\n");
+		changeDocumentFull(cu1, buf.toString(), 2);
+
+		List<ExpectedProblemReport> expected = new ArrayList<>();
+		expected.add(new ExpectedProblemReport(cu1, 0));
+		for (ICompilationUnit cu : dependents) {
+			expected.add(new ExpectedProblemReport(cu, 0));
+		}
+		assertNewProblemReported(expected.toArray(new ExpectedProblemReport[0]));
+	}
+
 	@Test
 	public void testDidOpenStandaloneFile() throws Exception {
 		IJavaProject javaProject = newDefaultProject();
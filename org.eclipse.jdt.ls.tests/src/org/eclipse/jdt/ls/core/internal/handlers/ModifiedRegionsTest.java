@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ModifiedRegionsTest {
+
+	private ModifiedRegions regions;
+	private ICompilationUnit unit;
+
+	@Before
+	public void setup() {
+		regions = new ModifiedRegions();
+		unit = mock(ICompilationUnit.class);
+	}
+
+	@Test
+	public void testShiftsRegionsAfterChange() {
+		regions.changed(unit, 20, 0, 5);
+		regions.changed(unit, 10, 2, 0);
+		assertArrayEquals(new IRegion[] { new Region(10, 0), new Region(18, 5) }, regions.get(unit));
+	}
+
+	@Test
+	public void testMergesTouchedRegions() {
+		regions.changed(unit, 10, 0, 5);
+		regions.changed(unit, 30, 0, 5);
+		regions.changed(unit, 12, 20, 1);
+		assertArrayEquals(new IRegion[] { new Region(10, 6) }, regions.get(unit));
+
+		regions.changed(unit, 15, 0, 2);
+		assertArrayEquals(new IRegion[] { new Region(10, 8) }, regions.get(unit));
+	}
+
+	@Test
+	public void testReplacedAndCleared() {
+		regions.changed(unit, 10, 0, 5);
+		regions.replaced(unit, 100);
+		assertArrayEquals(new IRegion[] { new Region(0, 100) }, regions.get(unit));
+
+		regions.clear(unit);
+		assertArrayEquals(new IRegion[0], regions.get(unit));
+	}
+}
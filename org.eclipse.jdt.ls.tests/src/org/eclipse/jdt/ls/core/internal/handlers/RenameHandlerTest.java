@@ -17,10 +17,14 @@ import static org.eclipse.jdt.ls.core.internal.ProjectUtils.getJavaSourceLevel;
 import static org.eclipse.jdt.ls.core.internal.WorkspaceHelper.getProject;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -35,6 +39,8 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
+import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.TextEditUtil;
 import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
@@ -906,6 +912,77 @@ public class RenameHandlerTest extends AbstractProjectsManagerBasedTest {
 		return pos;
 	}
 
+	@Test
+	public void testRenameTypeInChunks() throws Exception {
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit cu = createTypeAndUsers(pack1, 3);
+		List<WorkspaceEdit> chunks = new ArrayList<>();
+		JavaClientConnection connection = mockChunkedRename();
+		when(connection.applyWorkspaceEdit(any())).then(invocation -> chunks.add(invocation.getArgument(0)));
+		try {
+			WorkspaceEdit edit = getRenameEdit(cu, new Position(1, 13), "Newname");
+			assertNull(edit.getDocumentChanges());
+		} finally {
+			JavaLanguageServerPlugin.getInstance().setProtocol(null);
+		}
+
+		// the file is renamed in the chunk with its own edits, after them
+		String oldUri = JDTUtils.toURI(cu);
+		assertEquals(4, chunks.size());
+		for (WorkspaceEdit chunk : chunks) {
+			List<Either<TextDocumentEdit, ResourceOperation>> changes = chunk.getDocumentChanges();
+			boolean renamed = changes.stream().anyMatch(Either::isRight);
+			boolean edited = changes.stream().anyMatch(change -> change.isLeft() && oldUri.equals(change.getLeft().getTextDocument().getUri()));
+			assertEquals(renamed, edited);
+			if (renamed) {
+				assertEquals(2, changes.size());
+				assertEquals(oldUri, changes.get(0).getLeft().getTextDocument().getUri());
+				assertEquals(oldUri, ((RenameFile) changes.get(1).getRight()).getOldUri());
+			}
+		}
+	}
+
+	@Test
+	public void testRenameInChunksReportsPartialRename() throws Exception {
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit cu = createTypeAndUsers(pack1, 3);
+		JavaClientConnection connection = mockChunkedRename();
+		when(connection.applyWorkspaceEdit(any())).thenReturn(true, false);
+		try {
+			getRenameEdit(cu, new Position(1, 13), "Newname");
+			fail("The failure of the second chunk isn't reported");
+		} catch (ResponseErrorException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("the rename is partially applied"));
+		} finally {
+			JavaLanguageServerPlugin.getInstance().setProtocol(null);
+		}
+	}
+
+	/**
+	 * Creates the type E, used by the given number of other compilation units.
+	 */
+	private static ICompilationUnit createTypeAndUsers(IPackageFragment pack, int users) throws JavaModelException {
+		ICompilationUnit cu = pack.createCompilationUnit("E.java", "package test1;\npublic class E {\n}\n", false, null);
+		for (int i = 0; i < users; i++) {
+			pack.createCompilationUnit("U" + i + ".java", "package test1;\npublic class U" + i + " {\n	E e;\n}\n", false, null);
+		}
+		return cu;
+	}
+
+	/**
+	 * Makes the renames apply their edits in chunks of one document.
+	 */
+	private JavaClientConnection mockChunkedRename() {
+		when(clientPreferences.isResourceOperationSupported()).thenReturn(true);
+		when(clientPreferences.isWorkspaceApplyEditSupported()).thenReturn(true);
+		when(preferenceManager.getPreferences().getRenameApplyEditChunkSize()).thenReturn(1);
+		JavaClientConnection connection = mock(JavaClientConnection.class);
+		JDTLanguageServer server = mock(JDTLanguageServer.class);
+		when(server.getClientConnection()).thenReturn(connection);
+		JavaLanguageServerPlugin.getInstance().setProtocol(server);
+		return connection;
+	}
+
 	private WorkspaceEdit getRenameEdit(ICompilationUnit cu, Position pos, String newName) {
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(JDTUtils.toURI(cu));
 
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.junit.Test;
+
+public class RequestCoalescerTest {
+
+	private static final String URI = "file:///Foo.java";
+
+	private final RequestCoalescer coalescer = new RequestCoalescer();
+	private final AtomicInteger computations = new AtomicInteger();
+
+	@Test
+	public void testSharesIdenticalRequests() throws Exception {
+		CompletableFuture<String> computation = new CompletableFuture<>();
+		CompletableFuture<String> first = coalescer.coalesce("method", URI, 1, null, () -> start(computation));
+		CompletableFuture<String> second = coalescer.coalesce("method", URI, 1, null, () -> start(new CompletableFuture<>()));
+		assertEquals(1, computations.get());
+		assertNotSame(first, second);
+
+		computation.complete("result");
+		assertEquals("result", first.get());
+		assertEquals("result", second.get());
+		assertEquals(0, coalescer.size());
+	}
+
+	@Test
+	public void testDoesNotShareDifferentRequests() throws Exception {
+		coalescer.coalesce("method", URI, 1, null, () -> start(new CompletableFuture<>()));
+		coalescer.coalesce("other", URI, 1, null, () -> start(new CompletableFuture<>()));
+		coalescer.coalesce("method", "file:///Bar.java", 1, null, () -> start(new CompletableFuture<>()));
+		coalescer.coalesce("method", URI, 1, "range", () -> start(new CompletableFuture<>()));
+		assertEquals(4, computations.get());
+	}
+
+	@Test
+	public void testSupersedesOlderVersion() throws Exception {
+		CompletableFuture<String> oldComputation = new CompletableFuture<>();
+		CompletableFuture<String> old = coalescer.coalesce("method", URI, 1, null, () -> start(oldComputation));
+		CompletableFuture<String> newComputation = new CompletableFuture<>();
+		CompletableFuture<String> current = coalescer.coalesce("method", URI, 2, null, () -> start(newComputation));
+		assertEquals(2, computations.get());
+
+		assertTrue(oldComputation.isCancelled());
+		try {
+			old.get();
+			fail("The superseded request should fail");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof ResponseErrorException);
+			assertEquals(-32801, ((ResponseErrorException) e.getCause()).getResponseError().getCode());
+		}
+		newComputation.complete("new");
+		assertEquals("new", current.get());
+	}
+
+	@Test
+	public void testCancelsOnlyWhenAllCallersCancel() throws Exception {
+		CompletableFuture<String> computation = new CompletableFuture<>();
+		CompletableFuture<String> first = coalescer.coalesce("method", URI, 1, null, () -> start(computation));
+		CompletableFuture<String> second = coalescer.coalesce("method", URI, 1, null, () -> start(new CompletableFuture<>()));
+
+		first.cancel(true);
+		assertFalse(computation.isCancelled());
+		second.cancel(true);
+		assertTrue(computation.isCancelled());
+
+		// a new identical request is computed again
+		coalescer.coalesce("method", URI, 1, null, () -> start(new CompletableFuture<>()));
+		assertEquals(2, computations.get());
+	}
+
+	private CompletableFuture<String> start(CompletableFuture<String> computation) {
+		computations.incrementAndGet();
+		return computation;
+	}
+}
@@ -13,6 +13,7 @@
 package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -123,6 +124,40 @@ public class SaveActionHandlerTest extends AbstractCompilationUnitBasedTest {
 		}
 	}
 
+	@Test
+	public void testFormatModifiedLines() throws Exception {
+		Preferences preferences = preferenceManager.getPreferences();
+		when(preferences.isJavaSaveActionsOrganizeImportsEnabled()).thenReturn(Boolean.FALSE);
+		when(preferences.isJavaSaveActionsFormatModifiedLinesEnabled()).thenReturn(Boolean.TRUE);
+		when(preferences.isJavaFormatEnabled()).thenReturn(Boolean.TRUE);
+		//@formatter:off
+		String source = "package org.sample;\n" +
+				"public class Baz {\n" +
+				"    int  a=1;\n" +
+				"    int  b=2;\n" +
+				"}\n";
+		//@formatter:on
+		ICompilationUnit cu = getWorkingCopy("src/org/sample/Baz.java", source);
+		try {
+			ModifiedRegions.getInstance().changed(cu, source.indexOf("b=2"), 1, 1);
+
+			WillSaveTextDocumentParams params = new WillSaveTextDocumentParams();
+			TextDocumentIdentifier document = new TextDocumentIdentifier();
+			document.setUri(JDTUtils.toURI(cu));
+			params.setTextDocument(document);
+			List<TextEdit> result = handler.willSaveWaitUntil(params, monitor);
+
+			Document doc = new Document();
+			doc.set(source);
+			String formatted = TextEditUtil.apply(doc, result);
+			assertTrue(formatted, formatted.contains("int  a=1;"));
+			assertTrue(formatted, formatted.contains("int b = 2;"));
+		} finally {
+			ModifiedRegions.getInstance().clear(cu);
+			cu.discardWorkingCopy();
+		}
+	}
+
 	@Test
 	public void testMissingFormatterUrl() throws Exception {
 		String formatterUrl = preferences.getFormatterUrl();
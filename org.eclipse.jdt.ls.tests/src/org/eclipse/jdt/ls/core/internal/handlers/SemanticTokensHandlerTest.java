@@ -14,11 +14,13 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
 
@@ -35,10 +37,17 @@ import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
 import org.eclipse.jdt.ls.core.internal.correction.TestOptions;
 import org.eclipse.jdt.ls.core.internal.handlers.BaseDocumentLifeCycleHandler.DocumentMonitor;
 import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensEdit;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -425,6 +434,55 @@ public class SemanticTokensHandlerTest extends AbstractProjectsManagerBasedTest
 		.endAssertion();
 	}
 
+	@Test
+	public void testSemanticTokens_Delta() throws JavaModelException {
+		String uri = getURI("Methods.java");
+		SemanticTokens full = SemanticTokensHandler.full(new NullProgressMonitor(), new SemanticTokensParams(new TextDocumentIdentifier(uri)), mock(DocumentMonitor.class));
+		assertNotNull(full.getResultId());
+
+		Either<SemanticTokens, SemanticTokensDelta> delta = SemanticTokensHandler.delta(new NullProgressMonitor(), new SemanticTokensDeltaParams(new TextDocumentIdentifier(uri), full.getResultId()), mock(DocumentMonitor.class));
+		assertTrue(delta.isRight());
+		assertTrue(delta.getRight().getEdits().isEmpty());
+		assertNotEquals(full.getResultId(), delta.getRight().getResultId());
+
+		// the previous result isn't kept anymore
+		delta = SemanticTokensHandler.delta(new NullProgressMonitor(), new SemanticTokensDeltaParams(new TextDocumentIdentifier(uri), full.getResultId()), mock(DocumentMonitor.class));
+		assertTrue(delta.isLeft());
+		assertEquals(full.getData(), delta.getLeft().getData());
+	}
+
+	@Test
+	public void testSemanticTokens_ComputeEdits() {
+		assertEquals(Collections.emptyList(), SemanticTokensHandler.computeEdits(new int[] { 1, 2, 3, 4, 5 }, new int[] { 1, 2, 3, 4, 5 }));
+
+		List<SemanticTokensEdit> edits = SemanticTokensHandler.computeEdits(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }, new int[] { 1, 2, 3, 4, 5, 0, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
+		assertEquals(Arrays.asList(new SemanticTokensEdit(5, 0, Arrays.asList(0, 2, 3, 4, 5))), edits);
+
+		edits = SemanticTokensHandler.computeEdits(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }, new int[] { 1, 2, 3, 4, 5 });
+		assertEquals(Arrays.asList(new SemanticTokensEdit(5, 5, Collections.emptyList())), edits);
+
+		edits = SemanticTokensHandler.computeEdits(new int[] { 0, 1, 3, 0, 0 }, new int[] { 0, 1, 4, 0, 0 });
+		assertEquals(Arrays.asList(new SemanticTokensEdit(2, 1, Arrays.asList(4))), edits);
+	}
+
+	@Test
+	public void testSemanticTokens_Range() throws JavaModelException {
+		String uri = getURI("Methods.java");
+		SemanticTokens full = SemanticTokensHandler.full(new NullProgressMonitor(), new SemanticTokensParams(new TextDocumentIdentifier(uri)), mock(DocumentMonitor.class));
+		SemanticTokens all = SemanticTokensHandler.range(new NullProgressMonitor(), new SemanticTokensRangeParams(new TextDocumentIdentifier(uri), new Range(new Position(0, 0), new Position(100, 0))), mock(DocumentMonitor.class));
+		assertEquals(full.getData(), all.getData());
+
+		SemanticTokens range = SemanticTokensHandler.range(new NullProgressMonitor(), new SemanticTokensRangeParams(new TextDocumentIdentifier(uri), new Range(new Position(12, 0), new Position(14, 0))), mock(DocumentMonitor.class));
+		List<Integer> data = range.getData();
+		assertFalse(data.isEmpty());
+		assertTrue(data.size() < full.getData().size());
+		int line = 0;
+		for (int i = 0; i < data.size(); i += 5) {
+			line += data.get(i);
+			assertTrue("Unexpected token at line " + line, line == 12 || line == 13);
+		}
+	}
+
 	private String getURI(String compilationUnitName) {
 		return JDTUtils.toURI(fooPackage.getCompilationUnit(compilationUnitName));
 	}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.javadoc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
+import org.eclipse.jdt.ls.core.internal.javadoc.JavadocCache.Format;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JavadocCacheTest extends AbstractProjectsManagerBasedTest {
+
+	private IJavaProject project;
+	private JavadocCache cache;
+	private AtomicInteger renderings;
+	private Executor executor;
+
+	@Before
+	public void setup() throws Exception {
+		importProjects("eclipse/hello");
+		project = JavaCore.create(WorkspaceHelper.getProject("hello"));
+		cache = new JavadocCache(null);
+		renderings = new AtomicInteger();
+		executor = command -> {
+			renderings.incrementAndGet();
+			command.run();
+		};
+	}
+
+	@Test
+	public void testCachesJavadoc() throws Exception {
+		IType type = project.findType("org.sample.TestJavadoc");
+		assertNotNull(type);
+		assertEquals("Test javadoc class", cache.getJavadoc(type, Format.MARKDOWN, executor).get());
+		assertEquals("Test javadoc class", cache.getJavadoc(type, Format.MARKDOWN, executor).get());
+		assertEquals(1, renderings.get());
+
+		assertEquals("Test javadoc class", cache.getJavadoc(type, Format.PLAIN_TEXT, executor).get().trim());
+		assertEquals(2, renderings.get());
+	}
+
+	@Test
+	public void testInvalidatesOnReconcile() throws Exception {
+		IType type = project.findType("org.sample.TestJavadoc");
+		assertNotNull(type);
+		assertEquals("Test javadoc class", cache.getJavadoc(type, Format.MARKDOWN, executor).get());
+
+		ICompilationUnit unit = type.getCompilationUnit();
+		unit.becomeWorkingCopy(null);
+		try {
+			String source = unit.getBuffer().getContents();
+			unit.getBuffer().setContents(source.replace("Test javadoc class", "Changed javadoc class"));
+			unit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertEquals("Changed javadoc class", cache.getJavadoc(type, Format.MARKDOWN, executor).get());
+			assertEquals(2, renderings.get());
+		} finally {
+			unit.discardWorkingCopy();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BuildFileIndexTest {
+
+	private Path root;
+
+	@Before
+	public void setup() throws Exception {
+		root = Files.createTempDirectory("build-files");
+		touch("pom.xml");
+		touch("a/pom.xml");
+		touch("a/target/pom.xml");
+		touch("a/sub/pom.xml");
+		touch("b/build.gradle");
+		touch("b/c/settings.gradle.kts");
+		touch(".metadata/pom.xml");
+		touch("d/e/f/g/pom.xml");
+		touch("d/e/f/g/h/pom.xml");
+		touch("i/.project");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(root.toFile());
+	}
+
+	@Test
+	public void testFindsSameDirectoriesAsFileSystemWalk() throws Exception {
+		assertSameDirectories(() -> new BasicFileDetector(root, "pom.xml"));
+		assertSameDirectories(() -> new BasicFileDetector(root, "pom.xml").includeNested(false).addExclusions("**/target"));
+		assertSameDirectories(() -> new BasicFileDetector(root, "pom.xml").addExclusions("**/target"));
+		assertSameDirectories(() -> new BasicFileDetector(root, "pom.xml").maxDepth(3));
+		assertSameDirectories(() -> new BasicFileDetector(root, "build.gradle", "settings.gradle.kts"));
+		assertSameDirectories(() -> new BasicFileDetector(root, ".project").addExclusions(root.resolve("a").toString()));
+	}
+
+	@Test
+	public void testScansOnce() throws Exception {
+		try (BuildFileIndex index = BuildFileIndex.open(root)) {
+			assertEquals(5, new BasicFileDetector(root, "pom.xml").scan(null).size());
+			touch("j/pom.xml");
+			assertEquals(5, new BasicFileDetector(root, "pom.xml").scan(null).size());
+		}
+		assertNull(BuildFileIndex.get(root));
+		assertEquals(6, new BasicFileDetector(root, "pom.xml").scan(null).size());
+	}
+
+	@Test
+	public void testFallsBackToFileSystemWalk() throws Exception {
+		touch("k/buildfile");
+		try (BuildFileIndex index = BuildFileIndex.open(root)) {
+			assertEquals(Arrays.asList(root.resolve("k")), new ArrayList<>(new BasicFileDetector(root, "buildfile").scan(null)));
+		}
+	}
+
+	@Test
+	public void testIgnoresCircularSymbolicLinks() throws Exception {
+		Files.createSymbolicLink(root.resolve("b/link"), root);
+		assertSameDirectories(() -> new BasicFileDetector(root, "pom.xml"));
+	}
+
+	private void assertSameDirectories(Supplier<BasicFileDetector> detector) throws Exception {
+		List<Path> expected = sorted(detector.get().scan(null));
+		try (BuildFileIndex index = BuildFileIndex.open(root)) {
+			assertEquals(expected, sorted(detector.get().scan(null)));
+		}
+	}
+
+	private List<Path> sorted(Collection<Path> directories) {
+		List<Path> list = new ArrayList<>(directories);
+		list.sort(null);
+		return list;
+	}
+
+	private void touch(String path) throws Exception {
+		Path file = root.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.createFile(file);
+	}
+}
@@ -19,9 +19,12 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
 import java.net.URI;
+import java.nio.file.Files;
 import java.util.Arrays;
 
+import org.apache.commons.io.FileUtils;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
@@ -245,6 +248,29 @@ public class ContentProviderManagerTest extends AbstractProjectsManagerBasedTest
 		assertEquals(FakeContentProvider.returnValue, provider.getContent(sourcelessURI, monitor));
 	}
 
+	@Test
+	public void testCachesDecompiledSource() throws Exception {
+		File cacheDirectory = Files.createTempDirectory("decompiled-sources").toFile();
+		try {
+			provider = new ContentProviderManager(preferenceManager, new DecompiledSourceCache(cacheDirectory));
+			FakeContentProvider.returnValue = FAKE_DECOMPILED_SOURCE;
+			when(preferences.getPreferredContentProviderIds()).thenReturn(Arrays.asList("fakeContentProvider"));
+			assertEquals(FAKE_DECOMPILED_SOURCE, provider.getSource(sourcelessClassFile, monitor));
+
+			// the cache survives a restart
+			FakeContentProvider.returnValue = "something else";
+			provider = new ContentProviderManager(preferenceManager, new DecompiledSourceCache(cacheDirectory));
+			assertEquals(FAKE_DECOMPILED_SOURCE, provider.getSource(sourcelessClassFile, monitor));
+
+			// the source computed with other providers isn't shared
+			when(preferences.getPreferredContentProviderIds()).thenReturn(Arrays.asList("disassemblerContentProvider"));
+			String result = provider.getSource(sourcelessClassFile, monitor);
+			assertTrue("disassembler header is missing from " + result, result.startsWith(DisassemblerContentProvider.DISASSEMBLED_HEADER));
+		} finally {
+			FileUtils.deleteDirectory(cacheDirectory);
+		}
+	}
+
 	private void expectLoggedError(String expected) {
 		assertTrue("expected error " + expected, logListener.getErrors().stream().filter(e -> e.contains(expected)).findAny().isPresent());
 	}
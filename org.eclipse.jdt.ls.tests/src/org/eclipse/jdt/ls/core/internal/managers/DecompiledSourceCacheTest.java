@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DecompiledSourceCacheTest {
+
+	private File directory;
+
+	@Before
+	public void setup() throws Exception {
+		directory = Files.createTempDirectory("decompiled-sources").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(directory);
+	}
+
+	@Test
+	public void testGetAndPut() {
+		DecompiledSourceCache cache = new DecompiledSourceCache(directory);
+		assertNull(cache.get("key"));
+		cache.put("key", "class Foo {\n}\n");
+		assertEquals("class Foo {\n}\n", cache.get("key"));
+		assertNull(cache.get("other key"));
+
+		// as after a restart
+		cache = new DecompiledSourceCache(directory);
+		assertEquals("class Foo {\n}\n", cache.get("key"));
+		assertTrue(cache.getSize() > 0);
+
+		cache.clear();
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() throws Exception {
+		String source = "x".repeat(100);
+		DecompiledSourceCache cache = new DecompiledSourceCache(directory, 250);
+		cache.put("a", source);
+		cache.put("b", source);
+		// make sure "a" is more recently used than "b"
+		Thread.sleep(1000);
+		assertEquals(source, cache.get("a"));
+
+		cache.put("c", source);
+		assertTrue(cache.getSize() <= 250);
+		assertEquals(source, cache.get("a"));
+		assertNull(cache.get("b"));
+		assertEquals(source, cache.get("c"));
+	}
+}
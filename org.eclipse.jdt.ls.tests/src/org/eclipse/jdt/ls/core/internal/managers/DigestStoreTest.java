@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DigestStoreTest {
+
+	private File stateLocation;
+	private Path file;
+
+	@Before
+	public void setup() throws Exception {
+		stateLocation = Files.createTempDirectory("digests").toFile();
+		file = new File(stateLocation, "pom.xml").toPath();
+		Files.writeString(file, "<project/>");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(stateLocation);
+	}
+
+	@Test
+	public void testDetectsChanges() throws Exception {
+		DigestStore store = new DigestStore(stateLocation);
+		assertTrue(store.updateDigest(file));
+		assertFalse(store.updateDigest(file));
+
+		Files.writeString(file, "<project></project>");
+		assertTrue(store.updateDigest(file));
+		assertFalse(store.updateDigest(file));
+
+		// same size, different content
+		Files.writeString(file, "<prijoct></project>");
+		assertTrue(store.updateDigest(file));
+	}
+
+	@Test
+	public void testPersistsDigests() throws Exception {
+		assertTrue(new DigestStore(stateLocation).updateDigest(file));
+		assertFalse(new DigestStore(stateLocation).updateDigest(file));
+
+		Files.writeString(file, "<project></project>");
+		assertTrue(new DigestStore(stateLocation).updateDigest(file));
+		assertFalse(new DigestStore(stateLocation).updateDigest(file));
+	}
+
+	@Test
+	public void testIgnoresPartialRecord() throws Exception {
+		new DigestStore(stateLocation).updateDigest(file);
+		File log = new File(stateLocation, ".file-digests.log");
+		Files.write(log.toPath(), new byte[] { 0, 0, 0, 42, 1, 2 }, StandardOpenOption.APPEND);
+
+		DigestStore store = new DigestStore(stateLocation);
+		assertFalse(store.updateDigest(file));
+		Files.writeString(file, "<project></project>");
+		assertTrue(store.updateDigest(file));
+		assertFalse(new DigestStore(stateLocation).updateDigest(file));
+	}
+
+	@Test
+	public void testCompactsLog() throws Exception {
+		DigestStore store = new DigestStore(stateLocation);
+		File log = new File(stateLocation, ".file-digests.log");
+		Files.writeString(file, "<project>0000</project>");
+		assertTrue(store.updateDigest(file));
+		long initialLength = log.length();
+		for (int i = 1; i < 1100; i++) {
+			Files.writeString(file, String.format("<project>%04d</project>", i));
+			assertTrue(store.updateDigest(file));
+		}
+		assertTrue("The log should have been compacted", log.length() < 200 * initialLength);
+		assertFalse(new DigestStore(stateLocation).updateDigest(file));
+	}
+
+	@Test
+	public void testMigratesSerializedDigests() throws Exception {
+		byte[] digest = MessageDigest.getInstance("MD5").digest(Files.readAllBytes(file));
+		HashMap<String, String> digests = new HashMap<>();
+		digests.put(file.toString(), Arrays.toString(digest));
+		File legacy = new File(stateLocation, ".file-digests");
+		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(legacy))) {
+			out.writeObject(digests);
+		}
+
+		DigestStore store = new DigestStore(stateLocation);
+		assertFalse(legacy.exists());
+		assertFalse(store.updateDigest(file));
+		Files.write(file, "<project></project>".getBytes(StandardCharsets.UTF_8));
+		assertTrue(store.updateDigest(file));
+	}
+
+	@Test
+	public void testConcurrentUpdates() throws Exception {
+		DigestStore store = new DigestStore(stateLocation);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Callable<Boolean>> updates = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				updates.add(() -> store.updateDigest(file));
+			}
+			int changed = 0;
+			for (Future<Boolean> result : executor.invokeAll(updates)) {
+				if (result.get()) {
+					changed++;
+				}
+			}
+			assertEquals(1, changed);
+		} finally {
+			executor.shutdown();
+		}
+		assertFalse(new DigestStore(stateLocation).updateDigest(file));
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.core.resources.IResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FileSystemSnapshotTest {
+
+	private Path root;
+
+	@Before
+	public void setup() throws Exception {
+		root = Files.createTempDirectory("snapshot");
+		write("pom.xml", "<project/>");
+		write("src/main/java/Foo.java", "class Foo {}");
+		write("src/main/java/Bar.java", "class Bar {}");
+		write("src/test/java/FooTest.java", "class FooTest {}");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(root.toFile());
+	}
+
+	@Test
+	public void testNoChanges() throws Exception {
+		FileSystemSnapshot snapshot = FileSystemSnapshot.take(root);
+		assertTrue(snapshot.getChanges(FileSystemSnapshot.take(root)).isEmpty());
+	}
+
+	@Test
+	public void testChanges() throws Exception {
+		FileSystemSnapshot snapshot = FileSystemSnapshot.take(root);
+		Path foo = write("src/main/java/Foo.java", "class Foo { int i; }");
+		Files.setLastModifiedTime(foo, FileTime.fromMillis(Files.getLastModifiedTime(foo).toMillis() + 2000));
+		Files.delete(root.resolve("src/test/java/FooTest.java"));
+		write("src/main/resources/a/b.properties", "b=c");
+
+		Map<String, Integer> expected = new LinkedHashMap<>();
+		expected.put("src/main", IResource.DEPTH_ONE);
+		expected.put("src/main/java", IResource.DEPTH_ONE);
+		expected.put("src/main/resources", IResource.DEPTH_INFINITE);
+		expected.put("src/test/java", IResource.DEPTH_ONE);
+		assertEquals(expected, new LinkedHashMap<>(snapshot.getChanges(FileSystemSnapshot.take(root))));
+	}
+
+	private Path write(String path, String content) throws Exception {
+		Path file = root.resolve(path);
+		Files.createDirectories(file.getParent());
+		return Files.write(file, content.getBytes());
+	}
+}
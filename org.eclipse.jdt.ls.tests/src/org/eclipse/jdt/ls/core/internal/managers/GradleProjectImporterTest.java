@@ -109,6 +109,25 @@ public class GradleProjectImporterTest extends AbstractGradleBasedTest{
 		assertFalse(ProjectUtils.isJavaProject(gradle3));
 	}
 
+	@Test
+	public void importNestedGradleProjectWithoutModelFetch() throws Exception {
+		String threads = System.getProperty(GradleProjectImporter.MODEL_FETCH_THREADS_PROPERTY);
+		try {
+			System.setProperty(GradleProjectImporter.MODEL_FETCH_THREADS_PROPERTY, "1");
+			List<IProject> projects = importProjects("gradle/nested");
+			assertEquals(4, projects.size());//default + 3 gradle projects
+			assertIsGradleProject(WorkspaceHelper.getProject("gradle1"));
+			assertIsGradleProject(WorkspaceHelper.getProject("gradle2"));
+			assertIsGradleProject(WorkspaceHelper.getProject("gradle3"));
+		} finally {
+			if (threads == null) {
+				System.clearProperty(GradleProjectImporter.MODEL_FETCH_THREADS_PROPERTY);
+			} else {
+				System.setProperty(GradleProjectImporter.MODEL_FETCH_THREADS_PROPERTY, threads);
+			}
+		}
+	}
+
 	@Test
 	public void testDeleteInvalidProjects() throws Exception {
 		List<IProject> projects = importProjects(Arrays.asList("gradle/nested/gradle1", "gradle/nested/gradle2"));
@@ -175,6 +175,32 @@ public class MavenProjectImporterTest extends AbstractMavenBasedTest {
 		assertEquals("Changed Project should be updated", 1, jobSpy.updateProjectJobCalled);
 	}
 
+	@Test
+	public void testExistingProjectIsRefreshedFromSnapshot() throws Exception {
+		IProject salut = importMavenProject("salut");
+		// written after the last refresh, so out of the workspace tree the snapshot is taken from
+		File unrefreshed = new File(salut.getLocation().toFile(), "src/main/java/java/Unrefreshed.java");
+		FileUtils.writeStringToFile(unrefreshed, "package java;\npublic class Unrefreshed {\n}\n");
+		assertFalse(salut.getFile("src/main/java/java/Unrefreshed.java").exists());
+		FileSystemSnapshot.save(Collections.singleton(salut));
+
+		// imported while the workspace root rule is held
+		importExistingMavenProject("salut");
+		assertTrue(salut.getFile("src/main/java/java/Unrefreshed.java").exists());
+	}
+
+	@Test
+	public void testSnapshotSkipsFilteredDirectories() throws Exception {
+		IProject salut = importMavenProject("salut");
+		projectsManager.configureFilters(monitor);
+		File nodeModules = new File(salut.getLocation().toFile(), "node_modules/module");
+		FileUtils.writeStringToFile(new File(nodeModules, "index.js"), "module.exports = {};\n");
+		Path location = salut.getLocation().toFile().toPath();
+		FileSystemSnapshot tree = FileSystemSnapshot.take(salut);
+		assertTrue(tree.getChanges(FileSystemSnapshot.take(location, salut)).isEmpty());
+		assertFalse(tree.getChanges(FileSystemSnapshot.take(location)).isEmpty());
+	}
+
 	@Test
 	public void testPreexistingIProjectDifferentName() throws Exception {
 		File from = new File(getSourceProjectDirectory(), "maven/salut");
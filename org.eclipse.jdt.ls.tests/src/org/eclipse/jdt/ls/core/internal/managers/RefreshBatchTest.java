@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.junit.Test;
+
+public class RefreshBatchTest {
+
+	private final IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+
+	@Test
+	public void testSkipsResourcesCoveredByAncestor() {
+		IFolder folder = root.getFolder(new Path("/p/src"));
+		List<IResource> resources = Arrays.asList(folder.getFile("A.java"), folder, folder.getFolder("a").getFile("B.java"));
+		Map<IResource, Integer> expected = new LinkedHashMap<>();
+		expected.put(folder, IResource.DEPTH_INFINITE);
+		assertEquals(expected, RefreshBatch.getRefreshes(resources));
+	}
+
+	@Test
+	public void testRefreshesFolderOfManyFiles() {
+		IFolder many = root.getFolder(new Path("/p/many"));
+		IFolder few = root.getFolder(new Path("/p/few"));
+		List<IResource> resources = new ArrayList<>();
+		for (int i = 0; i < RefreshBatch.FOLDER_THRESHOLD; i++) {
+			resources.add(many.getFile("A" + i + ".java"));
+		}
+		resources.add(few.getFile("A.java"));
+		resources.add(few.getFile("B.java"));
+		Map<IResource, Integer> expected = new LinkedHashMap<>();
+		expected.put(many, IResource.DEPTH_ONE);
+		expected.put(few.getFile("A.java"), IResource.DEPTH_ZERO);
+		expected.put(few.getFile("B.java"), IResource.DEPTH_ZERO);
+		assertEquals(expected, RefreshBatch.getRefreshes(resources));
+	}
+
+	@Test
+	public void testDefersOnlyWhileBatchIsRunning() {
+		IResource resource = root.getFile(new Path("/p/src/A.java"));
+		assertFalse(RefreshBatch.defer(resource));
+		RefreshBatch batch = RefreshBatch.begin();
+		try {
+			RefreshBatch nested = RefreshBatch.begin();
+			nested.end(new NullProgressMonitor());
+			assertTrue(RefreshBatch.defer(resource));
+		} finally {
+			batch.end(new NullProgressMonitor());
+		}
+		assertFalse(RefreshBatch.defer(resource));
+	}
+}
@@ -48,4 +48,18 @@ public class PreferencesTest {
 		preferences.setStaticImportOnDemandThreshold(-1);
 		assertEquals(Preferences.IMPORTS_STATIC_ONDEMANDTHRESHOLD_DEFAULT, preferences.getStaticImportOnDemandThreshold());
 	}
+
+	@Test
+	public void testSetValidationParallelism() throws Exception {
+		Preferences preferences = new Preferences();
+		assertEquals(Preferences.JAVA_VALIDATION_PARALLELISM_DEFAULT, preferences.getValidationParallelism());
+		preferences.setValidationParallelism(8);
+		assertEquals(8, preferences.getValidationParallelism());
+
+		// Zero and negative values validate sequentially
+		preferences.setValidationParallelism(0);
+		assertEquals(1, preferences.getValidationParallelism());
+		preferences.setValidationParallelism(-1);
+		assertEquals(1, preferences.getValidationParallelism());
+	}
 }
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.search.text;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.content.IContentDescription;
+import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FileCharSequenceProviderTest extends AbstractProjectsManagerBasedTest {
+
+	private IProject project;
+	private int bytesFileMinSize;
+
+	@Before
+	public void setup() throws Exception {
+		importProjects("eclipse/hello");
+		project = WorkspaceHelper.getProject("hello");
+		bytesFileMinSize = FileCharSequenceProvider.BYTES_FILE_MIN_SIZE;
+	}
+
+	@After
+	public void tearDown() {
+		FileCharSequenceProvider.BYTES_FILE_MIN_SIZE = bytesFileMinSize;
+	}
+
+	@Test
+	public void testReadsASCIIFile() throws Exception {
+		String content = generate("<bean class=\"org.sample.Foo\"/>\n");
+		assertContent(content, createFile("beans.xml", content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testReadsNonASCIIFile() throws Exception {
+		String content = generate("<bean class=\"org.sample.Foo\" name=\"café\"/>\n");
+		assertContent(content, createFile("beans.xml", content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testSkipsByteOrderMark() throws Exception {
+		String content = generate("foo=org.sample.Foo\n");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		bytes.write(IContentDescription.BOM_UTF_8);
+		bytes.write(content.getBytes(StandardCharsets.UTF_8));
+		assertContent(content, createFile("foo.txt", bytes.toByteArray()));
+	}
+
+	@Test
+	public void testWritesFileAfterSearch() throws Exception {
+		String content = generate("foo=org.sample.Foo\n");
+		IFile file = createFile("foo.properties", content.getBytes(StandardCharsets.UTF_8));
+		FileCharSequenceProvider provider = new FileCharSequenceProvider();
+		CharSequence searched = provider.newCharSequence(file);
+		assertContent(content, searched);
+
+		// written as a rename does, before the sequence is released
+		String renamed = content.replace("Foo", "Bar");
+		file.setContents(new ByteArrayInputStream(renamed.getBytes(StandardCharsets.UTF_8)), true, false, null);
+		provider.releaseCharSequence(searched);
+		assertContent(renamed, provider.newCharSequence(file));
+	}
+
+	private void assertContent(String expected, IFile file) throws Exception {
+		// viewed as bytes, then read through a reader
+		assertContent(expected, new FileCharSequenceProvider().newCharSequence(file));
+		FileCharSequenceProvider.BYTES_FILE_MIN_SIZE = Integer.MAX_VALUE;
+		assertContent(expected, new FileCharSequenceProvider().newCharSequence(file));
+	}
+
+	private static void assertContent(String expected, CharSequence actual) {
+		assertEquals(expected.length(), actual.length());
+		assertEquals(expected, actual.toString());
+		int middle = expected.length() / 2;
+		assertEquals(expected.charAt(middle), actual.charAt(middle));
+		assertEquals(expected.substring(middle, middle + 10), actual.subSequence(middle, middle + 10).toString());
+	}
+
+	private IFile createFile(String name, byte[] content) throws Exception {
+		IFile file = project.getFile(name);
+		file.create(new ByteArrayInputStream(content), true, null);
+		file.setCharset("UTF-8", null);
+		return file;
+	}
+
+	private static String generate(String line) {
+		StringBuilder content = new StringBuilder();
+		while (content.length() <= FileCharSequenceProvider.BYTES_FILE_MIN_SIZE) {
+			content.append(line);
+		}
+		return content.toString();
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.search.text;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
+import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TrigramIndexTest extends AbstractProjectsManagerBasedTest {
+
+	private IFile xml;
+	private IFile properties;
+	private IFile[] files;
+
+	@Before
+	public void setup() throws Exception {
+		importProjects("eclipse/hello");
+		IProject project = WorkspaceHelper.getProject("hello");
+		xml = project.getFile("beans.xml");
+		xml.create(new ByteArrayInputStream("<bean class=\"org.sample.Bar\"/>".getBytes()), true, null);
+		properties = project.getFile("foo.properties");
+		properties.create(new ByteArrayInputStream("foo=org.sample.Foo".getBytes()), true, null);
+		files = new IFile[] { xml, properties };
+	}
+
+	@Test
+	public void testNarrowsCandidates() throws Exception {
+		assertArrayEquals(new IFile[] { xml }, getCandidates("org.sample.Bar"));
+		assertArrayEquals(new IFile[] { properties }, getCandidates("org.sample.Foo"));
+		assertArrayEquals(new IFile[0], getCandidates("org.sample.Baz"));
+		assertArrayEquals(new IFile[] { xml }, getCandidates("org.*.Bar"));
+		assertArrayEquals(files, getCandidates("org.sample.*"));
+		// no literal long enough to be looked up
+		assertArrayEquals(files, getCandidates("B*z"));
+	}
+
+	@Test
+	public void testUpdatesChangedFiles() throws Exception {
+		assertArrayEquals(new IFile[] { xml }, getCandidates("org.sample.Bar"));
+
+		properties.setContents(new ByteArrayInputStream("bar=org.sample.Bar".getBytes()), true, false, null);
+		assertArrayEquals(files, getCandidates("org.sample.Bar"));
+
+		xml.delete(true, null);
+		assertArrayEquals(new IFile[] { properties }, TrigramIndex.getInstance().getCandidates(new IFile[] { properties }, "org.sample.Bar", new NullProgressMonitor()));
+	}
+
+	private IFile[] getCandidates(String pattern) {
+		return TrigramIndex.getInstance().getCandidates(files, pattern, new NullProgressMonitor());
+	}
+}